@@ -0,0 +1,26 @@
+package com.ourtime.config;
+
+import com.ourtime.storage.LocalStorageBackend;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * storage.backend=local일 때 S3 대신 로컬 디스크 저장소를 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageConfig {
+
+    @Bean
+    public LocalStorageBackend storageBackend(@Value("${storage.local.root:./data/storage}") String root,
+                                              @Value("${storage.local.base-url:http://localhost:8080/files}") String baseUrl,
+                                              @Value("${storage.local.fsync:true}") boolean fsync,
+                                              @Value("${storage.local.signing-key:}") String signingKey) {
+        return new LocalStorageBackend(Path.of(root), baseUrl, fsync, signingKey);
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.ourtime.config;
+
+import com.ourtime.notification.LoggingNotificationChannel;
+import com.ourtime.notification.NotificationChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NotificationConfig {
+
+    /**
+     * 다른 NotificationChannel 빈(FCM, 이메일 등)이 없을 때 사용하는 로그 채널
+     */
+    @Bean
+    @ConditionalOnMissingBean(NotificationChannel.class)
+    public NotificationChannel notificationChannel() {
+        return new LoggingNotificationChannel();
+    }
+
+}
@@ -41,6 +41,9 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/health").permitAll()
+                        // 로컬 저장소 파일 (S3 객체 URL과 같이 공개, 업로드는 presigned 서명으로 확인)
+                        .requestMatchers(HttpMethod.GET, "/files/**").permitAll()
+                        .requestMatchers(HttpMethod.PUT, "/files/**").permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
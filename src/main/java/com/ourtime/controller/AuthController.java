@@ -44,4 +44,12 @@ public class AuthController {
         return ApiResponse.success(response, "토큰이 갱신되었습니다.");
     }
 
+    @Operation(summary = "로그아웃", description = "현재 세션의 Access Token과 Refresh Token을 모두 폐기합니다.")
+    @PostMapping("/logout")
+    public ApiResponse<Void> logout(@RequestHeader("Authorization") String accessToken) {
+        String token = accessToken.replace("Bearer ", "");
+        authService.logout(token);
+        return ApiResponse.success("로그아웃되었습니다.");
+    }
+
 }
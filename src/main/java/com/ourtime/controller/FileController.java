@@ -1,47 +1,77 @@
 package com.ourtime.controller;
 
 import com.ourtime.dto.common.ApiResponse;
-import com.ourtime.service.S3Service;
+import com.ourtime.dto.file.PresignedUploadRequest;
+import com.ourtime.dto.file.PresignedUploadResponse;
+import com.ourtime.dto.file.StreamUploadResponse;
+import com.ourtime.service.FileStorageService;
+import com.ourtime.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 @Tag(name = "File", description = "파일 업로드 관련 API")
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
 public class FileController {
 
-    private final S3Service s3Service;
+    private final FileStorageService fileStorageService;
 
     @Operation(summary = "프로필 이미지 업로드", description = "프로필 이미지를 업로드하고 URL을 반환합니다.")
     @PostMapping(value = "/profile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ApiResponse<String> uploadProfileImage(@RequestParam("file") MultipartFile file) {
-        String fileUrl = s3Service.uploadFile(file, "profiles");
+        String fileUrl = fileStorageService.uploadFile(file, "profiles");
         return ApiResponse.success(fileUrl, "프로필 이미지가 업로드되었습니다.");
     }
 
     @Operation(summary = "그룹 이미지 업로드", description = "그룹 이미지를 업로드하고 URL을 반환합니다.")
     @PostMapping(value = "/group", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ApiResponse<String> uploadGroupImage(@RequestParam("file") MultipartFile file) {
-        String fileUrl = s3Service.uploadFile(file, "groups");
+        String fileUrl = fileStorageService.uploadFile(file, "groups");
         return ApiResponse.success(fileUrl, "그룹 이미지가 업로드되었습니다.");
     }
 
     @Operation(summary = "추억 이미지 업로드", description = "추억 이미지를 업로드하고 URL을 반환합니다.")
     @PostMapping(value = "/memory", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ApiResponse<String> uploadMemoryImage(@RequestParam("file") MultipartFile file) {
-        String fileUrl = s3Service.uploadFile(file, "memories");
+        String fileUrl = fileStorageService.uploadFile(file, "memories");
         return ApiResponse.success(fileUrl, "추억 이미지가 업로드되었습니다.");
     }
 
-    @Operation(summary = "파일 삭제", description = "S3에서 파일을 삭제합니다.")
+    @Operation(summary = "업로드 URL 발급", description = "저장소(S3)에 직접 업로드할 수 있는 presigned PUT URL을 발급합니다. (10분간 유효)")
+    @PostMapping("/presigned")
+    public ApiResponse<PresignedUploadResponse> createPresignedUpload(@Valid @RequestBody PresignedUploadRequest request) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        PresignedUploadResponse response = fileStorageService.createPresignedUpload(userId, request);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "이미지 스트리밍 업로드",
+            description = "요청 본문(이미지 바이트)을 그대로 저장소에 업로드하고 키와 URL을 반환합니다. (50MB 이하)")
+    @PostMapping(value = "/stream", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE,
+            MediaType.IMAGE_GIF_VALUE, "image/webp"})
+    public ApiResponse<StreamUploadResponse> uploadStream(
+            @RequestParam("directory") String directory,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream inputStream) {
+        StreamUploadResponse response = fileStorageService.uploadStream(directory, contentType, contentLength, inputStream);
+        return ApiResponse.success(response, "이미지가 업로드되었습니다.");
+    }
+
+    @Operation(summary = "파일 삭제", description = "직접 올린 파일(presigned 업로드 키)을 저장소에서 삭제합니다. (여러 사용자가 공유하는 content/ 파일은 삭제할 수 없음)")
     @DeleteMapping
     public ApiResponse<Void> deleteFile(@RequestParam("fileUrl") String fileUrl) {
-        s3Service.deleteFile(fileUrl);
+        Long userId = SecurityUtil.getCurrentUserId();
+        fileStorageService.deleteFile(userId, fileUrl);
         return ApiResponse.success("파일이 삭제되었습니다.");
     }
 
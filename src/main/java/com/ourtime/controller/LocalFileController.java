@@ -0,0 +1,77 @@
+package com.ourtime.controller;
+
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.storage.LocalStorageBackend;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 로컬 저장소(storage.backend=local)의 파일 다운로드와 presigned PUT 업로드 (S3 객체 URL 대신)
+ */
+@Tag(name = "File", description = "파일 업로드 관련 API")
+@RestController
+@RequestMapping("/files")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalFileController {
+
+    private final LocalStorageBackend storageBackend;
+
+    @Operation(summary = "파일 다운로드 (로컬 저장소)", description = "저장된 파일을 내려줍니다. (Range 요청 지원)")
+    @GetMapping("/{*key}")
+    public ResponseEntity<Resource> download(@PathVariable("key") String key) {
+        String objectKey = toObjectKey(key);
+        Path file = storageBackend.resolve(objectKey);
+        if (!Files.isRegularFile(file)) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(storageBackend.contentTypeOf(objectKey)))
+                .body(new FileSystemResource(file));
+    }
+
+    @Operation(summary = "presigned 업로드 (로컬 저장소)", description = "발급받은 URL과 헤더 그대로 파일 바이트를 올립니다.")
+    @PutMapping("/{*key}")
+    public ResponseEntity<Void> upload(@PathVariable("key") String key,
+                                       @RequestParam("expires") long expires,
+                                       @RequestParam("signature") String signature,
+                                       @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                       @RequestHeader(HttpHeaders.CONTENT_LENGTH) long contentLength,
+                                       InputStream inputStream) {
+        String objectKey = toObjectKey(key);
+        // 서명에 키, 형식, 크기, 만료 시각이 포함되므로 발급한 조건으로만 올릴 수 있음 (형식의 charset 등 파라미터는 무시)
+        String mimeType = contentType.split(";", 2)[0].trim();
+        if (!storageBackend.verifyPresigned(objectKey, mimeType, contentLength, expires, signature)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        if (!storageBackend.putObject(objectKey, inputStream, contentLength)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "본문 크기가 Content-Length와 다릅니다.");
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    // {*key}는 앞의 '/'까지 포함
+    private String toObjectKey(String key) {
+        String objectKey = key.startsWith("/") ? key.substring(1) : key;
+        try {
+            storageBackend.resolve(objectKey);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        return objectKey;
+    }
+
+}
@@ -1,11 +1,23 @@
 package com.ourtime.controller;
 
 import com.ourtime.dto.common.ApiResponse;
+import com.ourtime.dto.common.CursorResponse;
 import com.ourtime.dto.common.PageResponse;
 import com.ourtime.dto.memory.CreateMemoryRequest;
+import com.ourtime.dto.memory.MemoryClusterResponse;
 import com.ourtime.dto.memory.MemoryResponse;
+import com.ourtime.dto.memory.TimelineBucketResponse;
+import com.ourtime.dto.memory.TimelineUnit;
 import com.ourtime.dto.memory.UpdateMemoryRequest;
+import com.ourtime.dto.statistics.GroupStatisticsResponse;
+import com.ourtime.dto.statistics.UserStatisticsResponse;
+import com.ourtime.service.MemoryClusterService;
+import com.ourtime.service.MemoryCreationService;
+import com.ourtime.service.MemorySearchService;
 import com.ourtime.service.MemoryService;
+import com.ourtime.service.MemoryStatisticsService;
+import com.ourtime.service.MemoryTagFilterService;
+import com.ourtime.service.MemoryTimelineService;
 import com.ourtime.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,11 +27,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Memory", description = "추억 관련 API")
@@ -29,8 +43,16 @@ import java.util.List;
 public class MemoryController {
 
     private final MemoryService memoryService;
+    private final MemoryCreationService memoryCreationService;
+    private final MemoryClusterService memoryClusterService;
+    private final MemorySearchService memorySearchService;
+    private final MemoryTagFilterService memoryTagFilterService;
+    private final MemoryTimelineService memoryTimelineService;
+    private final MemoryStatisticsService memoryStatisticsService;
 
-    @Operation(summary = "전체 추억 목록 조회", description = "현재 사용자가 접근 가능한 모든 추억을 조회합니다.")
+    @Operation(summary = "전체 추억 목록 조회",
+            description = "현재 사용자가 접근 가능한 모든 추억을 조회합니다. 추억이 많은 경우 /api/memories/feed를 사용하세요.",
+            deprecated = true)
     @GetMapping
     public ApiResponse<List<MemoryResponse>> getAllMemories() {
         Long userId = SecurityUtil.getCurrentUserId();
@@ -38,6 +60,37 @@ public class MemoryController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "전체 추억 피드 조회", description = "현재 사용자가 접근 가능한 모든 추억을 커서 기반으로 조회합니다.")
+    @GetMapping("/feed")
+    public ApiResponse<CursorResponse<MemoryResponse>> getMemoryFeed(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        CursorResponse<MemoryResponse> response = memoryService.getMemoryFeedByUserId(userId, cursor, size);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "내 추억 타임라인 히스토그램",
+            description = "내가 작성한 추억 수를 일(DAY)/월(MONTH)/연(YEAR) 단위로 집계해 조회합니다. (from, to: yyyy-MM-dd, 생략 시 전체 기간)")
+    @GetMapping("/timeline")
+    public ApiResponse<List<TimelineBucketResponse>> getMyTimeline(
+            @RequestParam(value = "unit", defaultValue = "MONTH") TimelineUnit unit,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        List<TimelineBucketResponse> response = memoryTimelineService.getUserTimeline(userId, unit, from, to);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "내 활동 통계",
+            description = "내가 작성한 추억/댓글 수, 누른 좋아요 수, 많이 쓴 태그, 자주 간 장소를 조회합니다.")
+    @GetMapping("/statistics")
+    public ApiResponse<UserStatisticsResponse> getMyStatistics() {
+        Long userId = SecurityUtil.getCurrentUserId();
+        UserStatisticsResponse response = memoryStatisticsService.getUserStatistics(userId);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "추억 생성", description = "새로운 추억을 생성합니다.")
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
@@ -60,7 +113,16 @@ public class MemoryController {
             locationName, visitedAt, tagNamesJson, images
         );
         
-        MemoryResponse response = memoryService.createMemory(userId, request);
+        MemoryResponse response = memoryCreationService.createMemory(userId, request);
+        return ApiResponse.success(response, "추억이 생성되었습니다.");
+    }
+
+    @Operation(summary = "추억 생성 (이미지 키)", description = "presigned URL로 미리 업로드한 이미지 키(imageKeys)로 추억을 생성합니다.")
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<MemoryResponse> createMemoryWithImageKeys(@Valid @RequestBody CreateMemoryRequest request) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        MemoryResponse response = memoryCreationService.createMemory(userId, request);
         return ApiResponse.success(response, "추억이 생성되었습니다.");
     }
 
@@ -82,7 +144,97 @@ public class MemoryController {
         return ApiResponse.success(PageResponse.of(memories));
     }
 
-    @Operation(summary = "태그별 추억 조회", description = "특정 그룹에서 태그로 필터링된 추억을 조회합니다.")
+    @Operation(summary = "그룹별 추억 피드 조회", description = "특정 그룹의 추억을 커서 기반으로 조회합니다. (무한 스크롤, 전체 개수 미제공)")
+    @GetMapping("/groups/{groupId}/feed")
+    public ApiResponse<CursorResponse<MemoryResponse>> getMemoryFeedByGroupId(
+            @PathVariable Long groupId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        CursorResponse<MemoryResponse> response = memoryService.getMemoryFeedByGroupId(groupId, userId, cursor, size);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "그룹 추억 타임라인 히스토그램",
+            description = "특정 그룹의 추억 수를 일(DAY)/월(MONTH)/연(YEAR) 단위로 집계해 조회합니다. (from, to: yyyy-MM-dd, 생략 시 전체 기간)")
+    @GetMapping("/groups/{groupId}/timeline")
+    public ApiResponse<List<TimelineBucketResponse>> getGroupTimeline(
+            @PathVariable Long groupId,
+            @RequestParam(value = "unit", defaultValue = "MONTH") TimelineUnit unit,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        List<TimelineBucketResponse> response = memoryTimelineService.getGroupTimeline(groupId, userId, unit, from, to);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "그룹 활동 통계",
+            description = "특정 그룹의 추억/댓글/좋아요 수, 많이 쓴 태그, 자주 간 장소, 활발한 멤버를 조회합니다.")
+    @GetMapping("/groups/{groupId}/statistics")
+    public ApiResponse<GroupStatisticsResponse> getGroupStatistics(@PathVariable Long groupId) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        GroupStatisticsResponse response = memoryStatisticsService.getGroupStatistics(groupId, userId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "그룹 추억 검색",
+            description = "특정 그룹의 추억을 제목, 설명, 장소명, 댓글 내용으로 검색합니다. (관련도 순, 커서 페이징)")
+    @GetMapping("/groups/{groupId}/search")
+    public ApiResponse<CursorResponse<MemoryResponse>> searchMemories(
+            @PathVariable Long groupId,
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        CursorResponse<MemoryResponse> response = memorySearchService.search(groupId, userId, query, cursor, size);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "지도 영역 내 추억 조회", description = "특정 그룹에서 지도 화면(경계 상자) 안에 있는 추억만 조회합니다.")
+    @GetMapping("/groups/{groupId}/within")
+    public ApiResponse<List<MemoryResponse>> getMemoriesWithin(
+            @PathVariable Long groupId,
+            @RequestParam("minLat") double minLat,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        List<MemoryResponse> response = memoryService.getMemoriesWithin(
+                groupId, userId, minLat, maxLat, minLng, maxLng, limit);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "지도 마커 클러스터 조회",
+            description = "특정 그룹 추억을 줌 레벨별로 묶은 클러스터(중심 좌표, 개수)를 지도 타일(zoom, x, y) 단위로 조회합니다. (zoom 0~15)")
+    @GetMapping("/groups/{groupId}/clusters")
+    public ApiResponse<List<MemoryClusterResponse>> getMemoryClusters(
+            @PathVariable Long groupId,
+            @RequestParam("zoom") int zoom,
+            @RequestParam("x") int x,
+            @RequestParam("y") int y) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        List<MemoryClusterResponse> response = memoryClusterService.getClusters(groupId, userId, zoom, x, y);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "다중 태그 필터 추억 조회",
+            description = "특정 그룹 추억을 여러 태그의 AND(all)/OR(any)/NOT(none) 조합으로 필터링합니다. (최근 생성 순, 커서 페이징)")
+    @GetMapping("/groups/{groupId}/tags")
+    public ApiResponse<CursorResponse<MemoryResponse>> filterMemoriesByTags(
+            @PathVariable Long groupId,
+            @RequestParam(value = "all", required = false) List<Long> all,
+            @RequestParam(value = "any", required = false) List<Long> any,
+            @RequestParam(value = "none", required = false) List<Long> none,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        CursorResponse<MemoryResponse> response = memoryTagFilterService.filter(groupId, userId, all, any, none, cursor, size);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "태그별 추억 조회",
+            description = "특정 그룹에서 태그로 필터링된 추억을 조회합니다. (deprecated: /groups/{groupId}/tags?all= 사용)")
     @GetMapping("/groups/{groupId}/tags/{tagId}")
     public ApiResponse<List<MemoryResponse>> getMemoriesByTag(
             @PathVariable Long groupId,
@@ -0,0 +1,46 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 업로드된 이미지의 메타데이터 (원본 URL별 한 행)
+ * <p>
+ * ImageIngestService가 업로드 직후 원본을 한 번 디코딩해서 기록합니다. 클라이언트는 크기와 플레이스홀더(대표 색, blurhash)로
+ * 이미지를 내려받기 전에 레이아웃을 잡을 수 있습니다. 행이 있으면 처리(변형 생성 포함)가 끝난 원본입니다.
+ */
+@Entity
+@Table(name = "images",
+       uniqueConstraints = @UniqueConstraint(name = "uk_image_url", columnNames = "url"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Image extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String url;
+
+    @Column(name = "content_type", length = 50)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    // EXIF 방향을 반영한 크기
+    private Integer width;
+
+    private Integer height;
+
+    // #rrggbb (디코딩할 수 없는 형식이면 null)
+    @Column(name = "dominant_color", length = 7)
+    private String dominantColor;
+
+    @Column(length = 64)
+    private String blurhash;
+
+}
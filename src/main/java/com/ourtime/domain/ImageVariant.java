@@ -0,0 +1,44 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 원본 이미지의 리사이즈 변형 (피드/지도 카드용 썸네일)
+ * <p>
+ * 원본 URL(memory_images.image_url 등)별로 고정 너비마다 한 행이며, 원본보다 좁은 너비만 만듭니다.
+ * 변형은 메타데이터(EXIF 등)를 제거한 JPEG이고, 키가 원본마다 유일하므로 한 번 올라가면 바뀌지 않습니다.
+ */
+@Entity
+@Table(name = "image_variants",
+       uniqueConstraints = @UniqueConstraint(name = "uk_image_variant_source_width", columnNames = {"source_url", "width"}),
+       indexes = @Index(name = "idx_image_variant_url", columnList = "url"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ImageVariant extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_url", nullable = false, length = 500)
+    private String sourceUrl;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    @Column(nullable = false, length = 500)
+    private String url;
+
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+}
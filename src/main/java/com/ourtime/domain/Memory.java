@@ -1,17 +1,23 @@
 package com.ourtime.domain;
 
 import jakarta.persistence.*;
+import com.ourtime.util.GeoCell;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "memories", indexes = {
     @Index(name = "idx_group_id", columnList = "group_id"),
     @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_visited_at", columnList = "visited_at")
+    @Index(name = "idx_visited_at", columnList = "visited_at"),
+    @Index(name = "idx_group_visited_at_id", columnList = "group_id, visited_at, id"),
+    @Index(name = "idx_group_geo_cell", columnList = "group_id, geo_cell"),
+    @Index(name = "idx_visited_month_day_id", columnList = "visited_month_day, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,14 +52,32 @@ public class Memory extends BaseTimeEntity {
     @Column(length = 500)
     private String locationName;
 
+    // 위도/경도의 Z-order 셀 ID (지도 영역 검색용 공간 인덱스)
+    @Column(name = "geo_cell")
+    private Long geoCell;
+
     @Column(nullable = false)
     private LocalDateTime visitedAt;
 
+    // 방문일의 월*100+일 (예: 10월 18일 -> 1018, "N년 전 오늘" 조회용 인덱스 키)
+    @Column(name = "visited_month_day")
+    private Integer visitedMonthDay;
+
+    // 비정규화 카운터: 엔티티 flush로는 갱신하지 않고 MemoryRepository의 원자적 증감 쿼리로만 변경
     @Builder.Default
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "memory_images", joinColumns = @JoinColumn(name = "memory_id"))
-    @Column(name = "image_url", length = 500)
-    private List<String> imageUrls = new ArrayList<>();
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int likeCount = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount = 0;
+
+    @Builder.Default
+    @OrderBy("displayOrder ASC, id ASC")
+    @OneToMany(mappedBy = "memory", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<MemoryImage> images = new ArrayList<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "memory", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -80,6 +104,7 @@ public class Memory extends BaseTimeEntity {
         }
         if (visitedAt != null) {
             this.visitedAt = visitedAt;
+            refreshVisitedMonthDay();
         }
     }
 
@@ -93,22 +118,43 @@ public class Memory extends BaseTimeEntity {
         if (locationName != null) {
             this.locationName = locationName;
         }
+        refreshGeoCell();
     }
 
-    public void addImage(String imageUrl) {
-        this.imageUrls.add(imageUrl);
+    public void refreshGeoCell() {
+        this.geoCell = GeoCell.encode(this.latitude, this.longitude);
     }
 
-    public void removeImage(String imageUrl) {
-        this.imageUrls.remove(imageUrl);
+    public void refreshVisitedMonthDay() {
+        this.visitedMonthDay = this.visitedAt.getMonthValue() * 100 + this.visitedAt.getDayOfMonth();
     }
 
-    public int getLikeCount() {
-        return this.likes.size();
+    public List<String> getImageUrls() {
+        return this.images.stream()
+                .map(MemoryImage::getImageUrl)
+                .collect(Collectors.toList());
     }
 
-    public int getCommentCount() {
-        return this.comments.size();
+    public void addImage(String imageUrl) {
+        this.images.add(MemoryImage.builder()
+                .memory(this)
+                .imageUrl(imageUrl)
+                .displayOrder(this.images.size())
+                .build());
+    }
+
+    public void removeImage(String imageUrl) {
+        this.images.removeIf(image -> image.getImageUrl().equals(imageUrl));
+    }
+
+    @PrePersist
+    private void assignIndexKeys() {
+        if (this.geoCell == null && this.latitude != null && this.longitude != null) {
+            refreshGeoCell();
+        }
+        if (this.visitedMonthDay == null && this.visitedAt != null) {
+            refreshVisitedMonthDay();
+        }
     }
 
 }
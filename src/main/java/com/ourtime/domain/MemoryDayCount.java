@@ -0,0 +1,40 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 그룹/사용자별 방문일(visitedAt 날짜) 추억 수 집계
+ * 추억 생성/날짜 변경/삭제 시 증분 갱신되며, 타임라인 히스토그램은 이 테이블만 조회합니다.
+ */
+@Entity
+@Table(name = "memory_day_counts",
+       uniqueConstraints = @UniqueConstraint(name = "uk_memory_day_count", columnNames = {"scope", "scope_id", "bucket_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MemoryDayCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TimelineScope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    // 원자적 UPDATE로만 변경
+    @Builder.Default
+    @Column(name = "memory_count", nullable = false, updatable = false)
+    private int memoryCount = 0;
+
+}
@@ -0,0 +1,37 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 추억에 첨부된 이미지 (표시 순서 포함)
+ * <p>
+ * 크기, 플레이스홀더 등 메타데이터는 같은 URL의 Image 행에 있으며, 조회 시 URL로 함께 가져옵니다.
+ */
+@Entity
+@Table(name = "memory_images",
+       indexes = {
+               @Index(name = "idx_memory_image_memory_id", columnList = "memory_id, display_order"),
+               @Index(name = "idx_memory_image_url", columnList = "image_url")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MemoryImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "memory_id", nullable = false)
+    private Memory memory;
+
+    @Column(name = "image_url", nullable = false, length = 500)
+    private String imageUrl;
+
+    @Column(name = "display_order", nullable = false)
+    private int displayOrder;
+
+}
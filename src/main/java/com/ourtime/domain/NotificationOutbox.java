@@ -0,0 +1,66 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전송할 알림 (트랜잭셔널 아웃박스)
+ * <p>
+ * 알림은 먼저 이 테이블에 기록된 뒤 NotificationDispatchScheduler가 워커 풀로 전송합니다.
+ * dedup_key 유니크 제약으로 같은 수신자에게 같은 알림이 두 번 기록되지 않습니다.
+ * 상태 전이는 NotificationOutboxRepository의 조건부 UPDATE로만 합니다.
+ */
+@Entity
+@Table(name = "notification_outbox",
+       uniqueConstraints = @UniqueConstraint(name = "uk_notification_dedup_key", columnNames = "dedup_key"),
+       indexes = @Index(name = "idx_status_next_attempt_at", columnList = "status, next_attempt_at, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(name = "memory_id")
+    private Long memoryId;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "dedup_key", nullable = false, length = 100)
+    private String dedupKey;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    // PENDING: 다음 전송 시각, SENDING: 임대 만료 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+}
@@ -0,0 +1,8 @@
+package com.ourtime.domain;
+
+public enum NotificationStatus {
+    PENDING,    // 전송 대기 (재시도 대기 포함)
+    SENDING,    // 워커가 가져가 전송 중 (임대 만료 시 PENDING으로 복구)
+    SENT,       // 전송 완료
+    FAILED      // 최대 재시도 초과
+}
@@ -0,0 +1,5 @@
+package com.ourtime.domain;
+
+public enum NotificationType {
+    MEMORY_REMINDER     // N년 전 오늘의 추억
+}
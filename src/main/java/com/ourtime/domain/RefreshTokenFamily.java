@@ -0,0 +1,54 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 패밀리 (로그인 한 번으로 시작되는 세션)
+ * <p>
+ * 리프레시 토큰은 갱신할 때마다 새 토큰으로 교체(회전)되며, 패밀리에는 현재 유효한 토큰의 ID만 기록합니다.
+ * 이미 교체된 토큰이 다시 사용되면 탈취로 보고 패밀리 전체를 폐기합니다.
+ * 폐기된 패밀리에서 발급된 액세스 토큰은 RevokedTokenFamilies로 만료 전에도 거절됩니다.
+ */
+@Entity
+@Table(name = "refresh_token_families",
+       uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_family", columnNames = "family_id"),
+       indexes = {
+           @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+           @Index(name = "idx_refresh_token_revoked_at", columnList = "revoked_at"),
+           @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshTokenFamily extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 현재 유효한 리프레시 토큰의 jti (회전할 때마다 교체)
+    @Column(name = "current_token_id", nullable = false, length = 36)
+    private String currentTokenId;
+
+    // 마지막으로 발급한 리프레시 토큰의 만료 시각
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+}
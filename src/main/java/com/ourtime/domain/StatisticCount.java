@@ -0,0 +1,67 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 그룹/사용자별 활동 통계 집계 (추억/댓글/좋아요 수, 태그별/장소별/멤버별 추억 수)
+ * 추억/댓글/좋아요 변경 시 증분 갱신되며, 통계 조회는 이 테이블만 조회합니다.
+ */
+@Entity
+@Table(name = "statistic_counts",
+       uniqueConstraints = @UniqueConstraint(name = "uk_statistic_count", columnNames = {"scope", "scope_id", "metric", "item_key"}),
+       indexes = @Index(name = "idx_scope_metric_count", columnList = "scope, scope_id, metric, item_count"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StatisticCount {
+
+    // 합계 행의 item_key
+    public static final String TOTAL = "";
+
+    public static final int MAX_ITEM_KEY_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatisticScope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatisticMetric metric;
+
+    @Column(name = "item_key", nullable = false, length = MAX_ITEM_KEY_LENGTH)
+    private String itemKey;
+
+    // 원자적 UPDATE로만 변경
+    @Builder.Default
+    @Column(name = "item_count", nullable = false, updatable = false)
+    private long itemCount = 0;
+
+    /**
+     * 장소명을 집계 키로 바꿉니다. (앞뒤 공백 제거, 최대 255자, 비어 있으면 null)
+     * 재집계 쿼리의 LEFT(TRIM(location_name), 255)와 같은 규칙입니다.
+     */
+    public static String placeKey(String locationName) {
+        if (locationName == null) {
+            return null;
+        }
+        // SQL TRIM과 같이 공백 문자만 제거하고, LEFT와 같이 문자(code point) 단위로 자름
+        String trimmed = locationName.replaceAll("^ +| +$", "");
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        if (trimmed.codePointCount(0, trimmed.length()) > MAX_ITEM_KEY_LENGTH) {
+            return trimmed.substring(0, trimmed.offsetByCodePoints(0, MAX_ITEM_KEY_LENGTH));
+        }
+        return trimmed;
+    }
+
+}
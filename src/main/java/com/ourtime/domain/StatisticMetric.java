@@ -0,0 +1,17 @@
+package com.ourtime.domain;
+
+public enum StatisticMetric {
+    // 그룹 범위, item_key = 사용자 ID (멤버별 합계가 그룹 전체 수)
+    MEMBER_MEMORIES,    // 멤버가 작성한 추억 수
+    MEMBER_COMMENTS,    // 멤버가 작성한 댓글 수
+    MEMBER_LIKES,       // 멤버가 누른 좋아요 수
+
+    // 사용자 범위, item_key 없음
+    MEMORIES,           // 작성한 추억 수
+    COMMENTS,           // 작성한 댓글 수
+    LIKES,              // 누른 좋아요 수
+
+    // 공통
+    TAG_MEMORIES,       // 태그별 추억 수 (item_key = 태그 ID)
+    PLACE_MEMORIES      // 장소별 추억 수 (item_key = 장소명)
+}
@@ -0,0 +1,6 @@
+package com.ourtime.domain;
+
+public enum StatisticScope {
+    GROUP,      // 그룹 통계 (scope_id = 그룹 ID)
+    USER        // 사용자 통계 (scope_id = 사용자 ID)
+}
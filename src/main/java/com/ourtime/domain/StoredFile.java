@@ -0,0 +1,42 @@
+package com.ourtime.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 내용 주소 방식으로 저장된 업로드 파일 (내용 SHA-256별 한 행)
+ * <p>
+ * 서버를 거친 업로드는 content/{해시}.{확장자} 키에 저장되어 같은 바이트는 한 번만 올라갑니다.
+ * 여러 사용자/추억이 같은 객체를 공유하므로 파일 삭제 API로는 지우지 않고, 어디에서도 참조하지 않을 때 저장소 GC가 지웁니다.
+ * updatedAt은 마지막으로 업로드되거나 추억에 쓰인 시각이며, GC는 grace-period 안에 쓰인 파일을 지우지 않습니다.
+ */
+@Entity
+@Table(name = "stored_files",
+       uniqueConstraints = {
+               @UniqueConstraint(name = "uk_stored_file_hash", columnNames = "content_hash"),
+               @UniqueConstraint(name = "uk_stored_file_key", columnNames = "object_key")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoredFile extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 (hex)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "object_key", nullable = false, length = 500)
+    private String objectKey;
+
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+}
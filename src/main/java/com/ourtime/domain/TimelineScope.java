@@ -0,0 +1,6 @@
+package com.ourtime.domain;
+
+public enum TimelineScope {
+    GROUP,      // 그룹의 추억
+    USER        // 사용자가 작성한 추억
+}
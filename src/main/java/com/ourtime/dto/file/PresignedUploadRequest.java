@@ -0,0 +1,25 @@
+package com.ourtime.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PresignedUploadRequest {
+
+    @NotBlank(message = "업로드 위치는 필수입니다.")
+    @Pattern(regexp = "profiles|groups|memories", message = "업로드 위치는 profiles, groups, memories 중 하나여야 합니다.")
+    private String directory;
+
+    @NotBlank(message = "파일 형식은 필수입니다.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long contentLength;
+
+}
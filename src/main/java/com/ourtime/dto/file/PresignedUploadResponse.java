@@ -0,0 +1,27 @@
+package com.ourtime.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresignedUploadResponse {
+
+    // 추억 생성 시 imageKeys로 보낼 값
+    private String key;
+    // 이 URL로 PUT 요청을 보내 업로드
+    private String uploadUrl;
+    // 업로드 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)
+    private Map<String, String> headers;
+    // 업로드 후 파일 URL
+    private String fileUrl;
+    private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,22 @@
+package com.ourtime.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StreamUploadResponse {
+
+    // 추억 생성 시 imageKeys로 보낼 값
+    private String key;
+    private String fileUrl;
+    // 실제로 올라간 바이트 수
+    private Long size;
+    // 같은 내용의 파일이 이미 있어 저장소에 새로 쓰지 않았는지
+    private boolean duplicate;
+
+}
@@ -1,7 +1,10 @@
 package com.ourtime.dto.memory;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.ourtime.util.FlexibleDateTimeDeserializer;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -41,14 +44,18 @@ public class CreateMemoryRequest {
     private String locationName;
 
     @NotNull(message = "방문 날짜는 필수입니다.")
+    @JsonDeserialize(using = FlexibleDateTimeDeserializer.class)
     private LocalDateTime visitedAt;
 
-    private List<String> imageUrls = new ArrayList<>();
+    // presigned URL로 미리 업로드한 이미지 키 (JSON 요청용)
+    @Size(max = 20, message = "이미지는 20개 이하여야 합니다.")
+    private List<String> imageKeys = new ArrayList<>();
 
     private List<Long> tagIds = new ArrayList<>();
     
     private List<String> tagNames = new ArrayList<>();
     
+    @JsonIgnore
     private List<MultipartFile> images = new ArrayList<>();
 
     // Multipart 요청을 위한 생성자
@@ -0,0 +1,29 @@
+package com.ourtime.dto.memory;
+
+import com.ourtime.index.MarkerClusterIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemoryClusterResponse {
+
+    private double latitude;
+    private double longitude;
+    private int count;
+    private Long memoryId; // count가 1일 때만 존재
+
+    public static MemoryClusterResponse from(MarkerClusterIndex.Cluster cluster) {
+        return MemoryClusterResponse.builder()
+                .latitude(cluster.getLatitude())
+                .longitude(cluster.getLongitude())
+                .count(cluster.getCount())
+                .memoryId(cluster.getMemoryId())
+                .build();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.ourtime.dto.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemoryImageResponse {
+
+    // 원본 URL
+    private String url;
+    // 원본 크기(px, EXIF 회전 반영)와 바이트 수 (처리 전이면 null)
+    private Integer width;
+    private Integer height;
+    private Long fileSize;
+    // 대표 색(#rrggbb)과 BlurHash 미리보기 (처리 전이거나 디코딩할 수 없는 형식이면 null)
+    private String dominantColor;
+    private String blurhash;
+    // 너비(px)별 리사이즈 변형 URL (원본보다 좁은 너비만, 생성 전이면 비어 있음)
+    private Map<Integer, String> variants;
+
+    public static MemoryImageResponse of(String url, Map<Integer, String> variants) {
+        return MemoryImageResponse.builder()
+                .url(url)
+                .variants(new TreeMap<>(variants))
+                .build();
+    }
+
+    // (row: [memoryId, imageUrl, width, height, fileSize, dominantColor, blurhash])
+    public static MemoryImageResponse of(Object[] row, Map<Integer, String> variants) {
+        return MemoryImageResponse.builder()
+                .url((String) row[1])
+                .width((Integer) row[2])
+                .height((Integer) row[3])
+                .fileSize((Long) row[4])
+                .dominantColor((String) row[5])
+                .blurhash((String) row[6])
+                .variants(new TreeMap<>(variants))
+                .build();
+    }
+
+}
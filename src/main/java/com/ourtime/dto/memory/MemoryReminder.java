@@ -0,0 +1,21 @@
+package com.ourtime.dto.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리마인더 전송에 필요한 추억 정보 (엔티티 대신 JPQL 프로젝션으로 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class MemoryReminder {
+
+    private Long memoryId;
+    private Long groupId;
+    private Long userId;
+    private String title;
+    private LocalDateTime visitedAt;
+
+}
@@ -1,6 +1,8 @@
 package com.ourtime.dto.memory;
 
 import com.ourtime.domain.Memory;
+import com.ourtime.domain.Tag;
+import com.ourtime.domain.User;
 import com.ourtime.dto.tag.TagResponse;
 import com.ourtime.dto.user.UserResponse;
 import lombok.AllArgsConstructor;
@@ -9,6 +11,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +32,8 @@ public class MemoryResponse {
     private String locationName;
     private LocalDateTime visitedAt;
     private List<String> imageUrls;
+    // imageUrls와 같은 순서, 메타데이터/플레이스홀더/썸네일 변형 포함
+    private List<MemoryImageResponse> images;
     private List<TagResponse> tags;
     private int likeCount;
     private int commentCount;
@@ -44,7 +50,10 @@ public class MemoryResponse {
                 .longitude(memory.getLongitude())
                 .locationName(memory.getLocationName())
                 .visitedAt(memory.getVisitedAt())
-                .imageUrls(memory.getImageUrls())
+                .imageUrls(new ArrayList<>(memory.getImageUrls()))
+                .images(memory.getImageUrls().stream()
+                        .map(url -> MemoryImageResponse.of(url, Collections.emptyMap()))
+                        .collect(Collectors.toList()))
                 .tags(memory.getMemoryTags().stream()
                         .map(mt -> TagResponse.from(mt.getTag()))
                         .collect(Collectors.toList()))
@@ -54,4 +63,32 @@ public class MemoryResponse {
                 .build();
     }
 
+    /**
+     * 미리 일괄 조회한 연관 데이터로 응답을 조립합니다. (Memory의 지연 로딩 연관관계를 건드리지 않음)
+     * 좋아요/댓글 수는 Memory의 비정규화 카운터를 사용합니다.
+     */
+    public static MemoryResponse of(Memory memory, User author, List<MemoryImageResponse> images, List<Tag> tags) {
+        return MemoryResponse.builder()
+                .id(memory.getId())
+                .groupId(memory.getGroup().getId())
+                .user(UserResponse.from(author))
+                .title(memory.getTitle())
+                .description(memory.getDescription())
+                .latitude(memory.getLatitude())
+                .longitude(memory.getLongitude())
+                .locationName(memory.getLocationName())
+                .visitedAt(memory.getVisitedAt())
+                .imageUrls(images.stream()
+                        .map(MemoryImageResponse::getUrl)
+                        .collect(Collectors.toList()))
+                .images(images)
+                .tags(tags.stream()
+                        .map(TagResponse::from)
+                        .collect(Collectors.toList()))
+                .likeCount(memory.getLikeCount())
+                .commentCount(memory.getCommentCount())
+                .createdAt(memory.getCreatedAt())
+                .build();
+    }
+
 }
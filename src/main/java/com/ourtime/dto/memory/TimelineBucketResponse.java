@@ -0,0 +1,24 @@
+package com.ourtime.dto.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineBucketResponse {
+
+    private String bucket; // DAY: 2024-05-03, MONTH: 2024-05, YEAR: 2024
+    private long count;
+
+    public static TimelineBucketResponse of(String bucket, long count) {
+        return TimelineBucketResponse.builder()
+                .bucket(bucket)
+                .count(count)
+                .build();
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.ourtime.dto.memory;
+
+public enum TimelineUnit {
+    DAY,
+    MONTH,
+    YEAR
+}
@@ -0,0 +1,24 @@
+package com.ourtime.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupStatisticsResponse {
+
+    private long memoryCount;
+    private long commentCount;
+    private long likeCount;
+    private long placeCount; // 서로 다른 장소 수
+    private List<TagStatisticResponse> topTags;
+    private List<PlaceStatisticResponse> topPlaces;
+    private List<MemberStatisticResponse> topMembers; // 추억+댓글+좋아요 수 합계 순
+
+}
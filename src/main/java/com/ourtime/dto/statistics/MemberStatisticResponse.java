@@ -0,0 +1,20 @@
+package com.ourtime.dto.statistics;
+
+import com.ourtime.dto.user.UserResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberStatisticResponse {
+
+    private UserResponse user;
+    private long memoryCount;
+    private long commentCount;
+    private long likeCount;
+
+}
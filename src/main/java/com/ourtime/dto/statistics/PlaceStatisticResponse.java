@@ -0,0 +1,24 @@
+package com.ourtime.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaceStatisticResponse {
+
+    private String locationName;
+    private long memoryCount;
+
+    public static PlaceStatisticResponse of(String locationName, long memoryCount) {
+        return PlaceStatisticResponse.builder()
+                .locationName(locationName)
+                .memoryCount(memoryCount)
+                .build();
+    }
+
+}
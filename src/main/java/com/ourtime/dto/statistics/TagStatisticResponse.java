@@ -0,0 +1,26 @@
+package com.ourtime.dto.statistics;
+
+import com.ourtime.domain.Tag;
+import com.ourtime.dto.tag.TagResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TagStatisticResponse {
+
+    private TagResponse tag;
+    private long memoryCount;
+
+    public static TagStatisticResponse of(Tag tag, long memoryCount) {
+        return TagStatisticResponse.builder()
+                .tag(TagResponse.from(tag))
+                .memoryCount(memoryCount)
+                .build();
+    }
+
+}
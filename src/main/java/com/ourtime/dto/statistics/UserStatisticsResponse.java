@@ -0,0 +1,23 @@
+package com.ourtime.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatisticsResponse {
+
+    private long memoryCount;   // 작성한 추억 수
+    private long commentCount;  // 작성한 댓글 수
+    private long likeCount;     // 누른 좋아요 수
+    private long placeCount;    // 서로 다른 장소 수
+    private List<TagStatisticResponse> topTags;
+    private List<PlaceStatisticResponse> topPlaces;
+
+}
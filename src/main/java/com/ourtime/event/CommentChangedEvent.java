@@ -0,0 +1,47 @@
+package com.ourtime.event;
+
+import com.ourtime.domain.Comment;
+import lombok.Getter;
+
+/**
+ * 댓글 생성/수정/삭제 이벤트
+ * <p>
+ * CommentService가 발행하고, 검색 인덱스 등은 트랜잭션 커밋 이후에 증분 반영합니다.
+ * 삭제 이벤트의 content는 null입니다.
+ */
+@Getter
+public class CommentChangedEvent {
+
+    private final Long commentId;
+    private final Long memoryId;
+    private final Long groupId;
+    private final Long userId;
+    private final String content;
+    private final boolean created;
+
+    private CommentChangedEvent(Comment comment, String content, boolean created) {
+        this.commentId = comment.getId();
+        this.memoryId = comment.getMemory().getId();
+        this.groupId = comment.getMemory().getGroup().getId();
+        this.userId = comment.getUser().getId();
+        this.content = content;
+        this.created = created;
+    }
+
+    public static CommentChangedEvent created(Comment comment) {
+        return new CommentChangedEvent(comment, comment.getContent(), true);
+    }
+
+    public static CommentChangedEvent updated(Comment comment) {
+        return new CommentChangedEvent(comment, comment.getContent(), false);
+    }
+
+    public static CommentChangedEvent deleted(Comment comment) {
+        return new CommentChangedEvent(comment, null, false);
+    }
+
+    public boolean isDeleted() {
+        return content == null;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.ourtime.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 그룹 콘텐츠 일괄 삭제 이벤트 (그룹 삭제, 회원 탈퇴로 추억/댓글이 cascade로 함께 삭제됨)
+ * <p>
+ * 개별 MemoryChangedEvent/CommentChangedEvent 없이 삭제되므로, 그룹별 인메모리 인덱스는 트랜잭션 커밋 이후
+ * 해당 그룹 인덱스를 버리고 다음 조회 때 다시 만듭니다. GroupService, UserService가 발행합니다.
+ */
+@Getter
+public class GroupContentDeletedEvent {
+
+    private final List<Long> groupIds;
+
+    public GroupContentDeletedEvent(List<Long> groupIds) {
+        this.groupIds = groupIds;
+    }
+
+    public static GroupContentDeletedEvent of(Long groupId) {
+        return new GroupContentDeletedEvent(List.of(groupId));
+    }
+
+}
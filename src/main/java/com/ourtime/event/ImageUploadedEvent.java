@@ -0,0 +1,22 @@
+package com.ourtime.event;
+
+import lombok.Getter;
+
+/**
+ * 이미지 업로드 완료 이벤트
+ * <p>
+ * FileStorageService가 서버 업로드(multipart, 스트리밍)가 끝났을 때와 presigned 업로드를 확인했을 때 발행하고,
+ * ImageIngestService가 받아 메타데이터와 썸네일 변형을 비동기로 만듭니다.
+ */
+@Getter
+public class ImageUploadedEvent {
+
+    private final String key;
+    private final String fileUrl;
+
+    public ImageUploadedEvent(String key, String fileUrl) {
+        this.key = key;
+        this.fileUrl = fileUrl;
+    }
+
+}
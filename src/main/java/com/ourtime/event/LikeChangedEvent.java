@@ -0,0 +1,23 @@
+package com.ourtime.event;
+
+import lombok.Getter;
+
+/**
+ * 좋아요 추가/취소 이벤트
+ */
+@Getter
+public class LikeChangedEvent {
+
+    private final Long memoryId;
+    private final Long groupId;
+    private final Long userId;
+    private final boolean liked;
+
+    public LikeChangedEvent(Long memoryId, Long groupId, Long userId, boolean liked) {
+        this.memoryId = memoryId;
+        this.groupId = groupId;
+        this.userId = userId;
+        this.liked = liked;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.ourtime.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 그룹 멤버십 변경 이벤트 (그룹 생성/참여/탈퇴/초대 수락/삭제, 회원 탈퇴)
+ * <p>
+ * GroupService, GroupInvitationService, UserService가 발행하고, 멤버십 캐시는 트랜잭션 커밋 이후 해당 사용자 항목을 비웁니다.
+ */
+@Getter
+public class MembershipChangedEvent {
+
+    private final List<Long> userIds;
+
+    public MembershipChangedEvent(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+
+    public static MembershipChangedEvent of(Long userId) {
+        return new MembershipChangedEvent(List.of(userId));
+    }
+
+}
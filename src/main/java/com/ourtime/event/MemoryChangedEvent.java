@@ -0,0 +1,42 @@
+package com.ourtime.event;
+
+import lombok.Getter;
+
+/**
+ * 추억 생성/수정/삭제 이벤트
+ * <p>
+ * MemoryService가 발행하고, 인메모리 인덱스 등은 트랜잭션 커밋 이후(@TransactionalEventListener)에
+ * 증분 반영합니다. 수정 이벤트는 변경 전(before)과 변경 후(after) 상태를 모두 가집니다.
+ */
+@Getter
+public class MemoryChangedEvent {
+
+    private final Type type;
+    private final MemorySnapshot before;
+    private final MemorySnapshot after;
+
+    private MemoryChangedEvent(Type type, MemorySnapshot before, MemorySnapshot after) {
+        this.type = type;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static MemoryChangedEvent created(MemorySnapshot after) {
+        return new MemoryChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static MemoryChangedEvent updated(MemorySnapshot before, MemorySnapshot after) {
+        return new MemoryChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static MemoryChangedEvent deleted(MemorySnapshot before) {
+        return new MemoryChangedEvent(Type.DELETED, before, null);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+}
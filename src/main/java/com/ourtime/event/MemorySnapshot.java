@@ -0,0 +1,46 @@
+package com.ourtime.event;
+
+import com.ourtime.domain.Memory;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 전달용 추억 상태 스냅샷 (엔티티/지연 로딩과 분리된 불변 값)
+ */
+@Getter
+public class MemorySnapshot {
+
+    private final Long id;
+    private final Long groupId;
+    private final Long userId;
+    private final Double latitude;
+    private final Double longitude;
+    private final String title;
+    private final String description;
+    private final String locationName;
+    private final LocalDateTime visitedAt;
+    private final List<Long> tagIds;
+
+    private MemorySnapshot(Memory memory) {
+        this.id = memory.getId();
+        this.groupId = memory.getGroup().getId();
+        this.userId = memory.getUser().getId();
+        this.latitude = memory.getLatitude();
+        this.longitude = memory.getLongitude();
+        this.title = memory.getTitle();
+        this.description = memory.getDescription();
+        this.locationName = memory.getLocationName();
+        this.visitedAt = memory.getVisitedAt();
+        this.tagIds = memory.getMemoryTags().stream()
+                .map(memoryTag -> memoryTag.getTag().getId())
+                .collect(Collectors.toList());
+    }
+
+    public static MemorySnapshot of(Memory memory) {
+        return new MemorySnapshot(memory);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.ourtime.event;
+
+import lombok.Getter;
+
+/**
+ * 태그 삭제 이벤트 (태그가 달린 추억 연결도 함께 삭제됨)
+ */
+@Getter
+public class TagDeletedEvent {
+
+    private final Long tagId;
+
+    public TagDeletedEvent(Long tagId) {
+        this.tagId = tagId;
+    }
+
+}
@@ -2,6 +2,7 @@ package com.ourtime.exception;
 
 import com.ourtime.dto.common.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -17,10 +18,21 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 429 응답의 재시도 권장 간격 (초)
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
-        log.error("BusinessException: {}", e.getMessage());
         ErrorCode errorCode = e.getErrorCode();
+        if (errorCode.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            // 과부하 중에는 요청마다 쌓이므로 debug로만 남김 (거절 수는 발생한 곳의 메트릭/경고 로그로 확인)
+            log.debug("BusinessException: {}", e.getMessage());
+            return ResponseEntity
+                    .status(errorCode.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(ErrorResponse.of(errorCode));
+        }
+        log.error("BusinessException: {}", e.getMessage());
         return ResponseEntity
                 .status(errorCode.getStatus())
                 .body(ErrorResponse.of(errorCode));
@@ -0,0 +1,122 @@
+package com.ourtime.image;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BlurHash 인코더 (https://blurha.sh)
+ * <p>
+ * 이미지를 가로 x 세로 개의 코사인 성분으로 요약한 짧은 문자열(4x3이면 28자)입니다.
+ * 클라이언트는 이 문자열만으로 원본이 내려오기 전에 흐린 미리보기를 그릴 수 있습니다.
+ * 성분 계산은 픽셀 수에 비례하므로 작게 줄인 이미지를 넘겨야 합니다.
+ */
+public final class Blurhash {
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private Blurhash() {
+    }
+
+    public static String encode(BufferedImage image, int componentsX, int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("성분 수는 1~9여야 합니다.");
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        // sRGB -> 선형 RGB는 픽셀마다 한 번만
+        float[][] linear = new float[width * height][3];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                float[] pixel = linear[y * width + x];
+                pixel[0] = srgbToLinear((rgb >> 16) & 0xFF);
+                pixel[1] = srgbToLinear((rgb >> 8) & 0xFF);
+                pixel[2] = srgbToLinear(rgb & 0xFF);
+            }
+        }
+
+        double[][] factors = new double[componentsX * componentsY][];
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                factors[j * componentsX + i] = basisFactor(linear, width, height, i, j);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        appendBase83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+        double maximumValue;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double value : factors[k]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(value));
+                }
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            appendBase83(hash, quantisedMaximum, 1);
+        } else {
+            maximumValue = 1;
+            appendBase83(hash, 0, 1);
+        }
+
+        double[] dc = factors[0];
+        appendBase83(hash, (linearToSrgb(dc[0]) << 16) + (linearToSrgb(dc[1]) << 8) + linearToSrgb(dc[2]), 4);
+        for (int k = 1; k < factors.length; k++) {
+            double[] ac = factors[k];
+            appendBase83(hash, quantiseAc(ac[0], maximumValue) * 19 * 19
+                    + quantiseAc(ac[1], maximumValue) * 19
+                    + quantiseAc(ac[2], maximumValue), 2);
+        }
+        return hash.toString();
+    }
+
+    private static double[] basisFactor(float[][] linear, int width, int height, int i, int j) {
+        double red = 0;
+        double green = 0;
+        double blue = 0;
+        double normalisation = (i == 0 && j == 0) ? 1 : 2;
+        for (int y = 0; y < height; y++) {
+            double basisY = Math.cos(Math.PI * j * y / height);
+            for (int x = 0; x < width; x++) {
+                double basis = normalisation * Math.cos(Math.PI * i * x / width) * basisY;
+                float[] pixel = linear[y * width + x];
+                red += basis * pixel[0];
+                green += basis * pixel[1];
+                blue += basis * pixel[2];
+            }
+        }
+        double scale = 1.0 / (width * height);
+        return new double[]{red * scale, green * scale, blue * scale};
+    }
+
+    private static int quantiseAc(double value, double maximumValue) {
+        double scaled = signPow(value / maximumValue, 0.5) * 9 + 9.5;
+        return (int) Math.max(0, Math.min(18, Math.floor(scaled)));
+    }
+
+    private static double signPow(double value, double exponent) {
+        return Math.copySign(Math.pow(Math.abs(value), exponent), value);
+    }
+
+    private static float srgbToLinear(int value) {
+        double v = value / 255.0;
+        return (float) (v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4));
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        double srgb = v <= 0.0031308 ? v * 12.92 : 1.055 * Math.pow(v, 1 / 2.4) - 0.055;
+        return (int) Math.round(srgb * 255);
+    }
+
+    private static void appendBase83(StringBuilder hash, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / (int) Math.pow(83, length - i)) % 83;
+            hash.append(BASE83.charAt(digit));
+        }
+    }
+
+}
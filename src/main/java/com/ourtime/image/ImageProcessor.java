@@ -0,0 +1,391 @@
+package com.ourtime.image;
+
+import lombok.Getter;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드된 이미지를 한 번 디코딩해서 메타데이터, 플레이스홀더, 리사이즈 변형을 만듭니다. (javax.imageio 기반, 스레드 안전)
+ * <p>
+ * 큰 원본은 가장 큰 변형의 2배 해상도까지만 서브샘플링해서 디코딩하므로 원본 픽셀 전체를 메모리에 올리지 않습니다.
+ * 이후 반씩 단계적으로 줄여(bilinear) 큰 축소 비율에서도 계단 현상을 줄이고, 작은 변형은 바로 위 변형에서 만듭니다.
+ * EXIF 방향은 픽셀에 반영한 뒤 메타데이터 없이 인코딩하므로 위치 정보 등이 변형에 남지 않습니다.
+ * 대표 색과 blurhash는 가장 작은 이미지를 32px로 줄여 계산합니다.
+ * ImageIO로 읽을 수 없는 WebP는 헤더에서 크기만 읽습니다.
+ */
+public final class ImageProcessor {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private static final float JPEG_QUALITY = 0.8f;
+    // 헤더만 보고 거절 (압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    // APP0(JFIF) + APP1(Exif, 최대 64KB)을 담을 수 있는 크기
+    private static final int HEADER_SCAN_LIMIT = 128 * 1024;
+    private static final int PLACEHOLDER_WIDTH = 32;
+    private static final int BLURHASH_COMPONENTS_X = 4;
+    private static final int BLURHASH_COMPONENTS_Y = 3;
+
+    private ImageProcessor() {
+    }
+
+    /**
+     * 이미지를 분석하고 원본보다 좁은 너비마다 변형을 만듭니다.
+     *
+     * @throws IOException 읽을 수 없는 형식이거나 손상된 이미지
+     */
+    public static Result process(InputStream source, Collection<Integer> widths) throws IOException {
+        // 방향 태그는 스트림 앞부분(APP1)에만 있으므로 헤더만 미리 읽고 되돌림
+        BufferedInputStream buffered = new BufferedInputStream(source, HEADER_SCAN_LIMIT);
+        buffered.mark(HEADER_SCAN_LIMIT);
+        byte[] header = buffered.readNBytes(HEADER_SCAN_LIMIT);
+        buffered.reset();
+        int orientation = readOrientation(header);
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(buffered)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                int[] size = readWebpSize(header);
+                if (size == null) {
+                    throw new IOException("지원하지 않는 이미지 형식입니다.");
+                }
+                return new Result(size[0], size[1], null, null, new ArrayList<>());
+            }
+            ImageReader reader = readers.next();
+            try {
+                // JFIF보다 Exif가 앞선 JPEG는 ImageIO 메타데이터 파싱이 실패하므로 메타데이터는 읽지 않음
+                reader.setInput(input, true, true);
+                return process(reader, orientation, widths);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Result process(ImageReader reader, int orientation, Collection<Integer> widths) throws IOException {
+        int sourceWidth = reader.getWidth(0);
+        int sourceHeight = reader.getHeight(0);
+        if ((long) sourceWidth * sourceHeight > MAX_SOURCE_PIXELS) {
+            throw new IOException("이미지 해상도가 너무 큽니다: " + sourceWidth + "x" + sourceHeight);
+        }
+
+        // 6, 8 등 90도 회전 방향이면 화면에 보이는 너비는 원본 높이
+        boolean swapped = orientation >= 5;
+        int displayWidth = swapped ? sourceHeight : sourceWidth;
+        int displayHeight = swapped ? sourceWidth : sourceHeight;
+        List<Integer> targets = widths.stream()
+                .filter(width -> width < displayWidth)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+
+        int decodeWidth = targets.isEmpty() ? PLACEHOLDER_WIDTH : targets.get(0);
+        int subsampling = Math.max(1, displayWidth / (decodeWidth * 2));
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage image = orient(reader.read(0, param), orientation);
+
+        List<Resized> variants = new ArrayList<>();
+        for (int width : targets) {
+            image = scale(image, width, heightFor(image, width));
+            variants.add(new Resized(width, image.getHeight(), encode(image)));
+        }
+
+        BufferedImage placeholder = image.getWidth() > PLACEHOLDER_WIDTH
+                ? scale(image, PLACEHOLDER_WIDTH, heightFor(image, PLACEHOLDER_WIDTH))
+                : image;
+        return new Result(displayWidth, displayHeight, dominantColor(placeholder),
+                Blurhash.encode(placeholder, BLURHASH_COMPONENTS_X, BLURHASH_COMPONENTS_Y), variants);
+    }
+
+    private static int heightFor(BufferedImage image, int width) {
+        return Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+    }
+
+    /**
+     * 채널당 4비트로 양자화한 색 중 가장 많은 색의 평균 (#rrggbb)
+     */
+    private static String dominantColor(BufferedImage image) {
+        int[] counts = new int[4096];
+        long[][] sums = new long[4096][3];
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int rgb = image.getRGB(x, y);
+                int red = (rgb >> 16) & 0xFF;
+                int green = (rgb >> 8) & 0xFF;
+                int blue = rgb & 0xFF;
+                int bucket = ((red >> 4) << 8) | ((green >> 4) << 4) | (blue >> 4);
+                counts[bucket]++;
+                sums[bucket][0] += red;
+                sums[bucket][1] += green;
+                sums[bucket][2] += blue;
+            }
+        }
+        int dominant = 0;
+        for (int bucket = 1; bucket < counts.length; bucket++) {
+            if (counts[bucket] > counts[dominant]) {
+                dominant = bucket;
+            }
+        }
+        int count = Math.max(1, counts[dominant]);
+        return String.format("#%02x%02x%02x",
+                sums[dominant][0] / count, sums[dominant][1] / count, sums[dominant][2] / count);
+    }
+
+    // 반씩 줄이다가 마지막에 목표 크기로
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() == width && current.getHeight() == height) {
+            return current;
+        }
+        return draw(current, width, height);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * EXIF 방향(1~8)을 픽셀에 반영하고, 투명 배경은 흰색으로 채운 RGB 이미지로 바꿉니다.
+     */
+    private static BufferedImage orient(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> {
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> {
+                transform.rotate(Math.PI / 2);
+                transform.scale(1, -1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> {
+                transform.translate(height, width);
+                transform.rotate(-Math.PI / 2);
+                transform.scale(1, -1);
+            }
+            case 8 -> {
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+            }
+            default -> {
+                if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+                    return source;
+                }
+            }
+        }
+
+        boolean swapped = orientation >= 5 && orientation <= 8;
+        BufferedImage target = new BufferedImage(swapped ? height : width, swapped ? width : height,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            // 메타데이터 없이 픽셀만 기록
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * JPEG 헤더의 APP1(Exif) 세그먼트에서 방향 태그를 읽습니다. JPEG가 아니거나 태그가 없으면 1(정방향)입니다.
+     */
+    private static int readOrientation(byte[] header) {
+        if (header.length < 4 || (header[0] & 0xFF) != 0xFF || (header[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int position = 2;
+        while (position + 4 <= header.length && (header[position] & 0xFF) == 0xFF) {
+            int marker = header[position + 1] & 0xFF;
+            // 이미지 데이터 시작(SOS) 이후에는 Exif가 없음
+            if (marker == 0xDA || marker == 0xD9) {
+                break;
+            }
+            int length = readShort(header, position + 2, false);
+            if (marker == 0xE1 && position + 2 + length <= header.length) {
+                int orientation = parseExifOrientation(header, position + 4, position + 2 + length);
+                if (orientation > 0) {
+                    return orientation;
+                }
+            }
+            position += 2 + length;
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0에서 0x0112 태그 값 (오프셋은 TIFF 헤더 기준)
+    private static int parseExifOrientation(byte[] bytes, int start, int end) {
+        int tiff = start + 6;
+        if (tiff + 8 > end || bytes[start] != 'E' || bytes[start + 1] != 'x'
+                || bytes[start + 2] != 'i' || bytes[start + 3] != 'f') {
+            return 0;
+        }
+        boolean littleEndian = bytes[tiff] == 'I' && bytes[tiff + 1] == 'I';
+        long ifd = tiff + (readInt(bytes, tiff + 4, littleEndian) & 0xFFFFFFFFL);
+        if (ifd + 2 > end) {
+            return 0;
+        }
+        int entries = readShort(bytes, (int) ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 0;
+            }
+            if (readShort(bytes, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = readShort(bytes, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * WebP(RIFF) 헤더에서 크기를 읽습니다. WebP가 아니면 null입니다.
+     */
+    private static int[] readWebpSize(byte[] header) {
+        if (header.length < 30 || !ascii(header, 0, "RIFF") || !ascii(header, 8, "WEBP")) {
+            return null;
+        }
+        if (ascii(header, 12, "VP8X")) {
+            // 캔버스 크기 - 1 (24비트)
+            int width = (header[24] & 0xFF) | (header[25] & 0xFF) << 8 | (header[26] & 0xFF) << 16;
+            int height = (header[27] & 0xFF) | (header[28] & 0xFF) << 8 | (header[29] & 0xFF) << 16;
+            return new int[]{width + 1, height + 1};
+        }
+        if (ascii(header, 12, "VP8L")) {
+            // 시그니처(0x2f) 뒤 14비트씩 너비 - 1, 높이 - 1
+            int bits = readShort(header, 21, true) | readShort(header, 23, true) << 16;
+            return new int[]{(bits & 0x3FFF) + 1, ((bits >> 14) & 0x3FFF) + 1};
+        }
+        if (ascii(header, 12, "VP8 ")) {
+            // 프레임 태그(3) + 시작 코드(3) 뒤 14비트씩 너비, 높이
+            return new int[]{readShort(header, 26, true) & 0x3FFF, readShort(header, 28, true) & 0x3FFF};
+        }
+        return null;
+    }
+
+    private static boolean ascii(byte[] bytes, int offset, String expected) {
+        for (int i = 0; i < expected.length(); i++) {
+            if (bytes[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int first = bytes[offset] & 0xFF;
+        int second = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readShort(bytes, offset + (littleEndian ? 2 : 0), littleEndian);
+        int low = readShort(bytes, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+
+    @Getter
+    public static final class Result {
+
+        // EXIF 방향을 반영한 원본 크기
+        private final int width;
+        private final int height;
+        // 디코딩할 수 없는 형식(WebP)이면 null
+        private final String dominantColor;
+        private final String blurhash;
+        // 큰 너비부터
+        private final List<Resized> variants;
+
+        private Result(int width, int height, String dominantColor, String blurhash, List<Resized> variants) {
+            this.width = width;
+            this.height = height;
+            this.dominantColor = dominantColor;
+            this.blurhash = blurhash;
+            this.variants = variants;
+        }
+
+    }
+
+    @Getter
+    public static final class Resized {
+
+        private final int width;
+        private final int height;
+        private final byte[] bytes;
+
+        private Resized(int width, int height, byte[] bytes) {
+            this.width = width;
+            this.height = height;
+            this.bytes = bytes;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.ourtime.index;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 그룹별 인메모리 인덱스 보관소 (접근 순서 기준 LRU)
+ * <p>
+ * 인덱스는 처음 조회될 때 loader로 만들고, 이후 변경은 이미 만들어진 인덱스에만 반영합니다.
+ * 아직 만들어지지 않은(또는 LRU로 밀려난) 그룹의 변경은 무시해도 다음 조회 때 DB에서 다시 만들어지므로 안전합니다.
+ * 단, 이를 위해 loader는 holder를 등록한 뒤 시작하는 새 트랜잭션에서 읽어야 합니다. 호출자 트랜잭션 안에서 읽으면
+ * holder 등록 전에 잡힌 스냅샷에는 보이지 않고 이벤트도 holder가 없어 무시된 커밋이 인덱스에서 영영 빠지므로,
+ * read는 트랜잭션 밖에서만 호출할 수 있습니다. (리포지토리 조회가 각자 새 트랜잭션으로 실행됨)
+ * 같은 그룹의 조회/변경은 그룹 단위 락으로 직렬화되므로 인덱스 구현은 스레드 안전하지 않아도 됩니다.
+ */
+public class GroupIndexCache<T> {
+
+    private final Map<Long, Holder<T>> holders;
+
+    public GroupIndexCache(int maxGroups) {
+        this.holders = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Holder<T>> eldest) {
+                return size() > maxGroups;
+            }
+        };
+    }
+
+    /**
+     * 그룹 인덱스를 읽습니다. 없으면 loader로 만든 뒤 읽습니다.
+     * <p>
+     * 로딩 중에 커밋된 변경은 update가 holder 락에서 기다렸다가 로딩이 끝난 뒤 반영합니다.
+     *
+     * @throws IllegalStateException 트랜잭션 안에서 호출한 경우
+     */
+    public <R> R read(Long groupId, LongFunction<T> loader, Function<T, R> reader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("그룹 인덱스는 트랜잭션 밖에서 읽어야 합니다.");
+        }
+
+        Holder<T> holder;
+        synchronized (holders) {
+            holder = holders.computeIfAbsent(groupId, id -> new Holder<>());
+        }
+
+        synchronized (holder) {
+            if (holder.index == null) {
+                holder.index = loader.apply(groupId);
+            }
+            return reader.apply(holder.index);
+        }
+    }
+
+    /**
+     * 이미 만들어진 그룹 인덱스에만 변경을 반영합니다.
+     */
+    public void update(Long groupId, Consumer<T> change) {
+        Holder<T> holder;
+        synchronized (holders) {
+            holder = holders.get(groupId);
+        }
+        if (holder == null) {
+            return;
+        }
+        // 로딩 중이면 로딩이 끝난 뒤 반영
+        synchronized (holder) {
+            if (holder.index != null) {
+                change.accept(holder.index);
+            }
+        }
+    }
+
+    /**
+     * 만들어진 모든 그룹 인덱스에 변경을 반영합니다.
+     */
+    public void updateAll(Consumer<T> change) {
+        List<Holder<T>> snapshot;
+        synchronized (holders) {
+            snapshot = new ArrayList<>(holders.values());
+        }
+        for (Holder<T> holder : snapshot) {
+            synchronized (holder) {
+                if (holder.index != null) {
+                    change.accept(holder.index);
+                }
+            }
+        }
+    }
+
+    /**
+     * 그룹 인덱스를 버립니다. (이벤트 없이 일괄 삭제된 경우, 다음 조회 때 다시 만듦)
+     */
+    public void evict(Long groupId) {
+        synchronized (holders) {
+            holders.remove(groupId);
+        }
+    }
+
+    private static final class Holder<T> {
+        private T index;
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.ourtime.index;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 그룹의 추억 좌표에 대한 줌 레벨별 계층형 마커 클러스터 인덱스
+ * <p>
+ * Web Mercator 타일(256px)을 4x4 셀(64px)로 나누고, 줌 레벨마다 셀 단위로 좌표 합계와 개수를 유지합니다.
+ * 줌 z의 셀은 줌 z+1 셀 4개를 합친 것이므로 점 하나의 추가/삭제는 레벨 수만큼의 O(1) 갱신으로 끝나고,
+ * 타일 조회는 최대 16개 셀만 확인하므로 추억 수와 무관하게 응답 크기와 비용이 일정합니다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class MarkerClusterIndex {
+
+    public static final int MAX_ZOOM = 15;
+
+    // 타일 한 변을 나누는 셀 수의 log2 (4x4 셀)
+    private static final int CELL_BITS = 2;
+    private static final int GRID_LEVEL = MAX_ZOOM + CELL_BITS;
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private final Map<Long, Point> points = new HashMap<>();
+    private final List<Map<Long, Cluster>> levels = new ArrayList<>();
+
+    public MarkerClusterIndex() {
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 좌표를 추가하거나, 이미 있으면 새 좌표로 이동합니다.
+     */
+    public void put(long memoryId, double latitude, double longitude) {
+        remove(memoryId);
+
+        Point point = new Point(memoryId, latitude, longitude);
+        points.put(memoryId, point);
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            levels.get(zoom)
+                    .computeIfAbsent(cellKey(point, zoom), key -> new Cluster())
+                    .add(point);
+        }
+    }
+
+    public void remove(long memoryId) {
+        Point point = points.remove(memoryId);
+        if (point == null) {
+            return;
+        }
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            Map<Long, Cluster> level = levels.get(zoom);
+            long key = cellKey(point, zoom);
+            Cluster cluster = level.get(key);
+            if (cluster != null && cluster.remove(point)) {
+                level.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 타일(zoom, x, y) 안의 클러스터 목록을 반환합니다. (최대 16개)
+     */
+    public List<Cluster> clusters(int zoom, int tileX, int tileY) {
+        Map<Long, Cluster> level = levels.get(zoom);
+        int cellsPerTile = 1 << CELL_BITS;
+
+        List<Cluster> result = new ArrayList<>();
+        for (int dy = 0; dy < cellsPerTile; dy++) {
+            for (int dx = 0; dx < cellsPerTile; dx++) {
+                long cellX = ((long) tileX << CELL_BITS) + dx;
+                long cellY = ((long) tileY << CELL_BITS) + dy;
+                Cluster cluster = level.get(pack(cellX, cellY));
+                if (cluster != null) {
+                    result.add(cluster);
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    private long cellKey(Point point, int zoom) {
+        int shift = MAX_ZOOM - zoom;
+        return pack(point.gridX >> shift, point.gridY >> shift);
+    }
+
+    private static long pack(long cellX, long cellY) {
+        return (cellX << 32) | cellY;
+    }
+
+    private static long toGridX(double longitude) {
+        double x = (longitude + 180.0) / 360.0;
+        return clampGrid(x);
+    }
+
+    private static long toGridY(double latitude) {
+        double lat = Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude));
+        double sin = Math.sin(Math.toRadians(lat));
+        double y = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+        return clampGrid(y);
+    }
+
+    private static long clampGrid(double normalized) {
+        long cells = 1L << GRID_LEVEL;
+        long index = (long) Math.floor(normalized * cells);
+        return Math.max(0, Math.min(cells - 1, index));
+    }
+
+    private static final class Point {
+
+        private final long memoryId;
+        private final double latitude;
+        private final double longitude;
+        private final long gridX;
+        private final long gridY;
+
+        private Point(long memoryId, double latitude, double longitude) {
+            this.memoryId = memoryId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.gridX = toGridX(longitude);
+            this.gridY = toGridY(latitude);
+        }
+
+    }
+
+    /**
+     * 셀 하나에 모인 추억들의 개수와 좌표 합계
+     */
+    public static final class Cluster {
+
+        @Getter
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        // 구성원 ID의 XOR (구성원이 하나일 때 그 추억의 ID와 같음)
+        private long memoryIdXor;
+
+        private void add(Point point) {
+            count++;
+            latitudeSum += point.latitude;
+            longitudeSum += point.longitude;
+            memoryIdXor ^= point.memoryId;
+        }
+
+        // 비었으면 true
+        private boolean remove(Point point) {
+            count--;
+            latitudeSum -= point.latitude;
+            longitudeSum -= point.longitude;
+            memoryIdXor ^= point.memoryId;
+            return count <= 0;
+        }
+
+        /**
+         * 단일 마커이면 해당 추억 ID, 여러 개가 모인 클러스터이면 null
+         */
+        public Long getMemoryId() {
+            return count == 1 ? memoryIdXor : null;
+        }
+
+        public double getLatitude() {
+            return latitudeSum / count;
+        }
+
+        public double getLongitude() {
+            return longitudeSum / count;
+        }
+
+    }
+
+}
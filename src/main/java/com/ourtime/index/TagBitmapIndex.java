@@ -0,0 +1,125 @@
+package com.ourtime.index;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 그룹의 태그별 추억 ID 비트맵 (RoaringBitmap)
+ * <p>
+ * (그룹, 태그)마다 그 태그가 달린 추억 ID를 압축 비트맵으로 유지하므로, 여러 태그의 AND/OR/NOT 조합은
+ * memory_tag 조인 없이 비트맵 교집합/합집합/차집합으로 계산됩니다.
+ * 결과는 추억 ID 내림차순(최근 생성 순)으로 rank/select를 이용해 필요한 페이지만 꺼냅니다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class TagBitmapIndex {
+
+    // 그룹의 전체 추억 (NOT 전용 조건의 기준 집합)
+    private final Roaring64NavigableMap memories = new Roaring64NavigableMap();
+    private final Map<Long, Roaring64NavigableMap> bitmaps = new HashMap<>();
+    // 추억 ID -> 태그 ID 목록 (태그 교체/삭제 시 기존 비트를 지우기 위함)
+    private final Map<Long, List<Long>> memoryTags = new HashMap<>();
+
+    /**
+     * 추억의 태그 목록을 추가하거나 교체합니다.
+     */
+    public void put(long memoryId, Collection<Long> tagIds) {
+        remove(memoryId);
+
+        memories.addLong(memoryId);
+        for (Long tagId : tagIds) {
+            bitmaps.computeIfAbsent(tagId, id -> new Roaring64NavigableMap()).addLong(memoryId);
+        }
+        memoryTags.put(memoryId, new ArrayList<>(tagIds));
+    }
+
+    public void remove(long memoryId) {
+        List<Long> tagIds = memoryTags.remove(memoryId);
+        if (tagIds == null) {
+            return;
+        }
+        memories.removeLong(memoryId);
+        for (Long tagId : tagIds) {
+            Roaring64NavigableMap bitmap = bitmaps.get(tagId);
+            if (bitmap != null) {
+                bitmap.removeLong(memoryId);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(tagId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 삭제된 태그를 모든 추억에서 제거합니다.
+     */
+    public void removeTag(long tagId) {
+        if (bitmaps.remove(tagId) != null) {
+            memoryTags.values().forEach(tagIds -> tagIds.remove(tagId));
+        }
+    }
+
+    /**
+     * all의 태그를 모두 가지고, any의 태그 중 하나 이상을 가지며, none의 태그는 하나도 없는 추억 집합을 계산합니다.
+     * 빈 목록인 조건은 무시합니다.
+     */
+    public Roaring64NavigableMap filter(Collection<Long> all, Collection<Long> any, Collection<Long> none) {
+        Roaring64NavigableMap result = copy(memories);
+
+        for (Long tagId : all) {
+            result.and(bitmapOf(tagId));
+        }
+
+        if (!any.isEmpty()) {
+            Roaring64NavigableMap union = new Roaring64NavigableMap();
+            for (Long tagId : any) {
+                union.or(bitmapOf(tagId));
+            }
+            result.and(union);
+        }
+
+        for (Long tagId : none) {
+            result.andNot(bitmapOf(tagId));
+        }
+        return result;
+    }
+
+    /**
+     * 결과 집합에서 beforeId보다 작은 추억 ID를 큰 순서대로 최대 limit개 꺼냅니다. (beforeId가 null이면 처음부터)
+     */
+    public static List<Long> page(Roaring64NavigableMap result, Long beforeId, int limit) {
+        long remaining;
+        if (beforeId == null) {
+            remaining = result.getLongCardinality();
+        } else {
+            remaining = beforeId > 0 ? result.rankLong(beforeId - 1) : 0;
+        }
+
+        List<Long> memoryIds = new ArrayList<>();
+        while (remaining > 0 && memoryIds.size() < limit) {
+            memoryIds.add(result.select(--remaining));
+        }
+        return memoryIds;
+    }
+
+    public int size() {
+        return memoryTags.size();
+    }
+
+    private Roaring64NavigableMap bitmapOf(Long tagId) {
+        Roaring64NavigableMap bitmap = bitmaps.get(tagId);
+        return bitmap != null ? bitmap : new Roaring64NavigableMap();
+    }
+
+    private static Roaring64NavigableMap copy(Roaring64NavigableMap bitmap) {
+        Roaring64NavigableMap copy = new Roaring64NavigableMap();
+        copy.or(bitmap);
+        return copy;
+    }
+
+}
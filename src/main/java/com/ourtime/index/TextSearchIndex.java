@@ -0,0 +1,303 @@
+package com.ourtime.index;
+
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 한 그룹의 추억(제목, 설명, 장소명, 댓글)에 대한 n-gram 역색인
+ * <p>
+ * 한국어는 조사가 붙고 띄어쓰기가 일정하지 않아 단어 단위 색인으로는 "제주"로 "제주도에서"를 찾을 수 없으므로,
+ * 정규화한 문자열을 글자/숫자 구간으로 나눈 뒤 2-gram(bigram)으로 색인합니다. 한 글자 검색을 위해 1-gram도 함께 둡니다.
+ * 검색은 질의의 모든 n-gram을 포함하는 추억만 결과로 삼고, 필드 가중치를 곱한 빈도와 IDF로 점수를 매깁니다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class TextSearchIndex {
+
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int COMMENT_WEIGHT = 1;
+
+    // 결과 순서 (점수 내림차순, 같으면 ID 내림차순)
+    private static final Comparator<Hit> ORDER = Comparator.comparingDouble(Hit::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::getMemoryId).reversed());
+
+    // n-gram -> (추억 ID -> 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    /**
+     * 추억 본문을 추가하거나 교체합니다. 기존 댓글은 유지합니다.
+     */
+    public void putMemory(long memoryId, String title, String description, String locationName) {
+        Document document = documents.computeIfAbsent(memoryId, id -> new Document());
+        document.title = title;
+        document.description = description;
+        document.locationName = locationName;
+        reindex(memoryId, document);
+    }
+
+    /**
+     * 추억 본문과 댓글 전체를 한 번에 색인합니다. (인덱스 초기 생성용)
+     */
+    public void putMemory(long memoryId, String title, String description, String locationName,
+                          Map<Long, String> comments) {
+        Document document = documents.computeIfAbsent(memoryId, id -> new Document());
+        document.title = title;
+        document.description = description;
+        document.locationName = locationName;
+        document.comments.clear();
+        document.comments.putAll(comments);
+        reindex(memoryId, document);
+    }
+
+    public void removeMemory(long memoryId) {
+        Document document = documents.remove(memoryId);
+        if (document != null) {
+            unindex(memoryId, document);
+        }
+    }
+
+    /**
+     * 댓글을 추가하거나 교체합니다. 색인되지 않은 추억의 댓글은 무시합니다.
+     */
+    public void putComment(long memoryId, long commentId, String content) {
+        Document document = documents.get(memoryId);
+        if (document == null) {
+            return;
+        }
+        document.comments.put(commentId, content);
+        reindex(memoryId, document);
+    }
+
+    public void removeComment(long memoryId, long commentId) {
+        Document document = documents.get(memoryId);
+        if (document != null && document.comments.remove(commentId) != null) {
+            reindex(memoryId, document);
+        }
+    }
+
+    /**
+     * 질의의 모든 n-gram을 포함하는 추억을 점수 내림차순(같으면 ID 내림차순)으로 반환합니다.
+     */
+    public List<Hit> search(String query) {
+        return search(query, ranking(query), null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 지금 색인 기준의 점수 계산 기준(전체 문서 수, n-gram별 문서 빈도)을 반환합니다.
+     */
+    public Ranking ranking(String query) {
+        List<String> grams = new ArrayList<>(queryGrams(query));
+        int[] frequencies = new int[grams.size()];
+        for (int i = 0; i < grams.size(); i++) {
+            Map<Long, Integer> list = postings.get(grams.get(i));
+            frequencies[i] = list != null ? list.size() : 0;
+        }
+        return new Ranking(documents.size(), frequencies);
+    }
+
+    /**
+     * ranking 기준으로 점수를 매겨 after보다 뒤(점수 내림차순, 같으면 ID 내림차순)의 결과를 최대 limit건 반환합니다.
+     * 결과 전체를 정렬하지 않고 limit건의 힙만 유지합니다.
+     */
+    public List<Hit> search(String query, Ranking ranking, Hit after, int limit) {
+        List<String> grams = new ArrayList<>(queryGrams(query));
+        if (grams.isEmpty() || grams.size() != ranking.frequencies.length) {
+            return new ArrayList<>();
+        }
+
+        // 점수는 질의의 n-gram 순서대로 더함 (같은 기준이면 페이지마다 같은 값)
+        List<Map<Long, Integer>> lists = new ArrayList<>();
+        double[] weights = new double[grams.size()];
+        for (int i = 0; i < grams.size(); i++) {
+            Map<Long, Integer> list = postings.get(grams.get(i));
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            lists.add(list);
+            weights[i] = Math.log(1.0 + (double) ranking.total / Math.max(1, ranking.frequencies[i]));
+        }
+        // 가장 희귀한 n-gram의 게시 목록을 후보로 사용
+        Map<Long, Integer> rarest = lists.stream().min(Comparator.comparingInt(Map::size)).orElseThrow();
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(ORDER.reversed());
+        candidates:
+        for (Long memoryId : rarest.keySet()) {
+            double score = 0;
+            for (int i = 0; i < lists.size(); i++) {
+                Integer frequency = lists.get(i).get(memoryId);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += frequency * weights[i];
+            }
+            Hit hit = new Hit(memoryId, score);
+            if (after != null && ORDER.compare(hit, after) <= 0) {
+                continue;
+            }
+            top.add(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(ORDER);
+        return hits;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 검색어를 색인과 같은 방식으로 정규화했을 때 남는 글자가 있는지 확인합니다.
+     */
+    public static boolean isSearchable(String query) {
+        return !queryGrams(query).isEmpty();
+    }
+
+    private void reindex(long memoryId, Document document) {
+        unindex(memoryId, document);
+
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, document.title, TITLE_WEIGHT);
+        addTerms(terms, document.locationName, LOCATION_WEIGHT);
+        addTerms(terms, document.description, DESCRIPTION_WEIGHT);
+        for (String comment : document.comments.values()) {
+            addTerms(terms, comment, COMMENT_WEIGHT);
+        }
+
+        terms.forEach((gram, frequency) ->
+                postings.computeIfAbsent(gram, key -> new HashMap<>()).put(memoryId, frequency));
+        document.terms = terms;
+    }
+
+    private void unindex(long memoryId, Document document) {
+        for (String gram : document.terms.keySet()) {
+            Map<Long, Integer> list = postings.get(gram);
+            if (list != null) {
+                list.remove(memoryId);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        document.terms = new HashMap<>();
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String run : runs(text)) {
+            for (int i = 0; i < run.length(); i++) {
+                terms.merge(run.substring(i, i + 1), weight, Integer::sum);
+                if (i + 1 < run.length()) {
+                    terms.merge(run.substring(i, i + 2), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    // 한 글자 구간은 1-gram, 그 외는 2-gram만 사용
+    private static Set<String> queryGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String run : runs(query)) {
+            if (run.length() == 1) {
+                grams.add(run);
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                grams.add(run.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // NFKC 정규화 + 소문자 변환 후 글자/숫자가 이어진 구간으로 분리
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder run = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                run.append(c);
+            } else if (run.length() > 0) {
+                runs.add(run.toString());
+                run.setLength(0);
+            }
+        }
+        if (run.length() > 0) {
+            runs.add(run.toString());
+        }
+        return runs;
+    }
+
+    private static final class Document {
+
+        private String title;
+        private String description;
+        private String locationName;
+        private final Map<Long, String> comments = new HashMap<>();
+        private Map<String, Integer> terms = new HashMap<>();
+
+    }
+
+    /**
+     * 점수 계산 기준 (전체 문서 수, 질의 n-gram 순서의 문서 빈도)
+     * <p>
+     * IDF는 추억이 추가/삭제될 때마다 바뀌므로, 첫 페이지의 기준을 커서에 담아 다음 페이지에서도 같은 기준으로
+     * 점수를 매기면 그 사이 바뀌지 않은 추억의 점수와 순서가 유지됩니다.
+     */
+    @Getter
+    public static final class Ranking {
+
+        private final int total;
+        private final int[] frequencies;
+
+        public Ranking(int total, int[] frequencies) {
+            this.total = total;
+            this.frequencies = frequencies;
+        }
+
+        /**
+         * 이 기준이 질의의 n-gram 수와 맞는지 확인합니다. (다른 검색어의 커서 거르기)
+         */
+        public boolean isFor(String query) {
+            return queryGrams(query).size() == frequencies.length;
+        }
+
+    }
+
+    /**
+     * 검색 결과 한 건 (추억 ID, 점수)
+     */
+    @Getter
+    public static final class Hit {
+
+        private final long memoryId;
+        private final double score;
+
+        public Hit(long memoryId, double score) {
+            this.memoryId = memoryId;
+            this.score = score;
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.ourtime.notification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그만 남기는 기본 알림 채널 (실제 채널 연동 전 로컬/개발용)
+ */
+@Slf4j
+public class LoggingNotificationChannel implements NotificationChannel {
+
+    @Override
+    public void send(NotificationMessage message) {
+        log.info("알림 전송: id={}, type={}, recipient={}, memory={}, message={}",
+                message.getNotificationId(),
+                message.getType(),
+                message.getRecipientId(),
+                message.getMemoryId(),
+                message.getMessage());
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.ourtime.notification;
+
+/**
+ * 알림 전송 채널 (푸시, 이메일, 웹소켓 등)
+ * <p>
+ * 구현체를 빈으로 등록하면 기본 LoggingNotificationChannel을 대체합니다.
+ * 워커 풀의 여러 스레드에서 동시에 호출되므로 스레드 안전해야 하며, 실패 시 예외를 던지면 재시도됩니다.
+ * 같은 알림이 재시도로 두 번 전달될 수 있으므로 수신 측은 notificationId로 중복을 걸러야 합니다.
+ */
+public interface NotificationChannel {
+
+    void send(NotificationMessage message);
+
+}
@@ -0,0 +1,33 @@
+package com.ourtime.notification;
+
+import com.ourtime.domain.NotificationOutbox;
+import com.ourtime.domain.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 채널로 전달되는 알림 내용
+ */
+@Getter
+@Builder
+public class NotificationMessage {
+
+    private Long notificationId;
+    private Long recipientId;
+    private NotificationType type;
+    private Long memoryId;
+    private Long groupId;
+    private String message;
+
+    public static NotificationMessage from(NotificationOutbox outbox) {
+        return NotificationMessage.builder()
+                .notificationId(outbox.getId())
+                .recipientId(outbox.getRecipientId())
+                .type(outbox.getType())
+                .memoryId(outbox.getMemoryId())
+                .groupId(outbox.getGroupId())
+                .message(outbox.getMessage())
+                .build();
+    }
+
+}
@@ -29,4 +29,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.memory.id = :memoryId")
     long countByMemoryId(@Param("memoryId") Long memoryId);
 
+    // 그룹 댓글 검색 필드 목록 (row: [commentId, memoryId, content])
+    @Query("SELECT c.id, c.memory.id, c.content FROM Comment c WHERE c.memory.group.id = :groupId")
+    List<Object[]> findSearchFieldsByGroupId(@Param("groupId") Long groupId);
+
+    // 추억의 작성자별 댓글 수 (row: [userId, count])
+    @Query("SELECT c.user.id, COUNT(c) FROM Comment c WHERE c.memory.id = :memoryId GROUP BY c.user.id")
+    List<Object[]> countByUserIdForMemory(@Param("memoryId") Long memoryId);
+
 }
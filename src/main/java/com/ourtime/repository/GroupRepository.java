@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,8 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 
     boolean existsByInviteCode(String inviteCode);
 
+    // 저장소 GC: 그룹 이미지로 참조되는 URL
+    @Query("SELECT DISTINCT g.groupImage FROM Group g WHERE g.groupImage IN :urls")
+    List<String> findReferencedGroupImages(@Param("urls") Collection<String> urls);
+
 }
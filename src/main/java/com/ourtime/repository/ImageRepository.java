@@ -0,0 +1,31 @@
+package com.ourtime.repository;
+
+import com.ourtime.domain.Image;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageRepository extends JpaRepository<Image, Long> {
+
+    // 처리 스레드에서 트랜잭션 없이 호출됨
+    @Transactional(readOnly = true)
+    boolean existsByUrl(String url);
+
+    // 처리 기록이 없는 추억 이미지 원본 (row: [memoryImageId, imageUrl], memory_images.id 순)
+    @Query("SELECT mi.id, mi.imageUrl FROM MemoryImage mi WHERE mi.id > :afterId " +
+           "AND NOT EXISTS (SELECT i.id FROM Image i WHERE i.url = mi.imageUrl) ORDER BY mi.id")
+    List<Object[]> findUnprocessedMemoryImages(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Image i WHERE i.url IN :urls")
+    int deleteByUrls(@Param("urls") Collection<String> urls);
+
+}
@@ -0,0 +1,28 @@
+package com.ourtime.repository;
+
+import com.ourtime.domain.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    // (row: [sourceUrl, width, url])
+    @Query("SELECT v.sourceUrl, v.width, v.url FROM ImageVariant v WHERE v.sourceUrl IN :sourceUrls")
+    List<Object[]> findVariantUrlsBySourceUrls(@Param("sourceUrls") Collection<String> sourceUrls);
+
+    // (row: [url, sourceUrl])
+    @Query("SELECT v.url, v.sourceUrl FROM ImageVariant v WHERE v.url IN :urls")
+    List<Object[]> findSourceUrlsByUrls(@Param("urls") Collection<String> urls);
+
+    @Modifying
+    @Query("DELETE FROM ImageVariant v WHERE v.url IN :urls OR v.sourceUrl IN :urls")
+    int deleteByUrlsOrSourceUrls(@Param("urls") Collection<String> urls);
+
+}
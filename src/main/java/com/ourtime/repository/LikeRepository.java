@@ -2,10 +2,12 @@ package com.ourtime.repository;
 
 import com.ourtime.domain.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +21,12 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     boolean existsByMemoryIdAndUserId(Long memoryId, Long userId);
 
-    void deleteByMemoryIdAndUserId(Long memoryId, Long userId);
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.memory.id = :memoryId AND l.user.id = :userId")
+    int deleteByMemoryIdAndUserId(@Param("memoryId") Long memoryId, @Param("userId") Long userId);
+
+    // 추억의 사용자별 좋아요 수 (row: [userId, count])
+    @Query("SELECT l.user.id, COUNT(l) FROM Like l WHERE l.memory.id = :memoryId GROUP BY l.user.id")
+    List<Object[]> countByUserIdForMemory(@Param("memoryId") Long memoryId);
 
 }
@@ -0,0 +1,70 @@
+package com.ourtime.repository;
+
+import com.ourtime.domain.MemoryDayCount;
+import com.ourtime.domain.TimelineScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MemoryDayCountRepository extends JpaRepository<MemoryDayCount, Long> {
+
+    // 행이 없으면 만들고 있으면 더함 (호출한 트랜잭션 안에서 한 문장으로 처리, scope는 TimelineScope 이름)
+    @Modifying
+    @Query(value = "INSERT INTO memory_day_counts (scope, scope_id, bucket_date, memory_count) " +
+                   "VALUES (:scope, :scopeId, :bucketDate, :amount) " +
+                   "ON DUPLICATE KEY UPDATE memory_count = memory_count + :amount",
+           nativeQuery = true)
+    int addCount(@Param("scope") String scope, @Param("scopeId") Long scopeId,
+                 @Param("bucketDate") LocalDate bucketDate, @Param("amount") int amount);
+
+    // 음수가 되지 않도록 0에서 멈춤 (행이 없으면 0을 반환)
+    @Modifying
+    @Query("UPDATE MemoryDayCount c " +
+           "SET c.memoryCount = CASE WHEN c.memoryCount > 0 THEN c.memoryCount - 1 ELSE 0 END " +
+           "WHERE c.scope = :scope AND c.scopeId = :scopeId AND c.bucketDate = :bucketDate")
+    int decrementCount(@Param("scope") TimelineScope scope, @Param("scopeId") Long scopeId,
+                       @Param("bucketDate") LocalDate bucketDate);
+
+    // 일 단위 버킷 (row: [bucketDate, count])
+    @Query("SELECT c.bucketDate, c.memoryCount FROM MemoryDayCount c " +
+           "WHERE c.scope = :scope AND c.scopeId = :scopeId AND c.bucketDate BETWEEN :from AND :to AND c.memoryCount > 0 " +
+           "ORDER BY c.bucketDate")
+    List<Object[]> findDayBuckets(@Param("scope") TimelineScope scope, @Param("scopeId") Long scopeId,
+                                  @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 월 단위 버킷 (row: [year, month, count])
+    @Query("SELECT YEAR(c.bucketDate), MONTH(c.bucketDate), SUM(c.memoryCount) FROM MemoryDayCount c " +
+           "WHERE c.scope = :scope AND c.scopeId = :scopeId AND c.bucketDate BETWEEN :from AND :to AND c.memoryCount > 0 " +
+           "GROUP BY YEAR(c.bucketDate), MONTH(c.bucketDate) " +
+           "ORDER BY YEAR(c.bucketDate), MONTH(c.bucketDate)")
+    List<Object[]> findMonthBuckets(@Param("scope") TimelineScope scope, @Param("scopeId") Long scopeId,
+                                    @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 연 단위 버킷 (row: [year, count])
+    @Query("SELECT YEAR(c.bucketDate), SUM(c.memoryCount) FROM MemoryDayCount c " +
+           "WHERE c.scope = :scope AND c.scopeId = :scopeId AND c.bucketDate BETWEEN :from AND :to AND c.memoryCount > 0 " +
+           "GROUP BY YEAR(c.bucketDate) " +
+           "ORDER BY YEAR(c.bucketDate)")
+    List<Object[]> findYearBuckets(@Param("scope") TimelineScope scope, @Param("scopeId") Long scopeId,
+                                   @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ===== 재집계 (row: [scopeId, bucketDate, count]) =====
+
+    @Query("SELECT c.scopeId, c.bucketDate, c.memoryCount FROM MemoryDayCount c WHERE c.scope = :scope")
+    List<Object[]> findAllCounts(@Param("scope") TimelineScope scope);
+
+    @Query("SELECT m.group.id, CAST(m.visitedAt AS LocalDate), COUNT(m) FROM Memory m " +
+           "WHERE m.visitedAt IS NOT NULL GROUP BY m.group.id, CAST(m.visitedAt AS LocalDate)")
+    List<Object[]> countGroupMemories();
+
+    @Query("SELECT m.user.id, CAST(m.visitedAt AS LocalDate), COUNT(m) FROM Memory m " +
+           "WHERE m.visitedAt IS NOT NULL GROUP BY m.user.id, CAST(m.visitedAt AS LocalDate)")
+    List<Object[]> countUserMemories();
+
+}
@@ -1,14 +1,19 @@
 package com.ourtime.repository;
 
 import com.ourtime.domain.Memory;
+import com.ourtime.dto.memory.MemoryReminder;
+import com.ourtime.util.GeoCell;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +26,21 @@ public interface MemoryRepository extends JpaRepository<Memory, Long> {
     @Query("SELECT m FROM Memory m WHERE m.group.id = :groupId ORDER BY m.visitedAt DESC")
     List<Memory> findAllByGroupId(@Param("groupId") Long groupId);
 
+    // 커서 기반 피드 첫 페이지 (COUNT 쿼리 없음, idx_group_visited_at_id 사용)
+    @Query("SELECT m FROM Memory m WHERE m.group.id = :groupId " +
+           "ORDER BY m.visitedAt DESC, m.id DESC")
+    List<Memory> findFeedByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+
+    // 커서 기반 피드 다음 페이지: (visitedAt, id) < (:visitedAt, :id)
+    @Query("SELECT m FROM Memory m WHERE m.group.id = :groupId " +
+           "AND m.visitedAt <= :visitedAt " +
+           "AND (m.visitedAt < :visitedAt OR m.id < :id) " +
+           "ORDER BY m.visitedAt DESC, m.id DESC")
+    List<Memory> findFeedByGroupIdAfter(@Param("groupId") Long groupId,
+                                        @Param("visitedAt") LocalDateTime visitedAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
     @Query("SELECT m FROM Memory m WHERE m.user.id = :userId ORDER BY m.visitedAt DESC")
     Page<Memory> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
 
@@ -35,6 +55,20 @@ public interface MemoryRepository extends JpaRepository<Memory, Long> {
            "ORDER BY m.visitedAt DESC")
     List<Memory> findAllByUserGroups(@Param("userId") Long userId);
 
+    // 여러 그룹의 통합 피드 (DISTINCT 조인 없이 그룹 ID 목록으로 필터링)
+    @Query("SELECT m FROM Memory m WHERE m.group.id IN :groupIds " +
+           "ORDER BY m.visitedAt DESC, m.id DESC")
+    List<Memory> findFeedByGroupIds(@Param("groupIds") Collection<Long> groupIds, Pageable pageable);
+
+    @Query("SELECT m FROM Memory m WHERE m.group.id IN :groupIds " +
+           "AND m.visitedAt <= :visitedAt " +
+           "AND (m.visitedAt < :visitedAt OR m.id < :id) " +
+           "ORDER BY m.visitedAt DESC, m.id DESC")
+    List<Memory> findFeedByGroupIdsAfter(@Param("groupIds") Collection<Long> groupIds,
+                                         @Param("visitedAt") LocalDateTime visitedAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
     @Query("SELECT m FROM Memory m " +
            "WHERE m.group.id = :groupId " +
            "AND m.visitedAt BETWEEN :startDate AND :endDate " +
@@ -49,17 +83,123 @@ public interface MemoryRepository extends JpaRepository<Memory, Long> {
            "ORDER BY m.visitedAt DESC")
     List<Memory> findAllByGroupIdAndTagId(@Param("groupId") Long groupId, @Param("tagId") Long tagId);
 
+    // 지도 영역 조회: 셀 ID 구간(최대 4개)으로 인덱스 범위 스캔 후 정확한 좌표로 필터링
+    @Query("SELECT m FROM Memory m WHERE m.group.id = :groupId " +
+           "AND (m.geoCell BETWEEN :from0 AND :to0 OR m.geoCell BETWEEN :from1 AND :to1 " +
+           "  OR m.geoCell BETWEEN :from2 AND :to2 OR m.geoCell BETWEEN :from3 AND :to3) " +
+           "AND m.latitude BETWEEN :minLat AND :maxLat " +
+           "AND m.longitude BETWEEN :minLng AND :maxLng " +
+           "ORDER BY m.visitedAt DESC, m.id DESC")
+    List<Memory> findAllByGroupIdWithinCells(@Param("groupId") Long groupId,
+                                             @Param("from0") long from0, @Param("to0") long to0,
+                                             @Param("from1") long from1, @Param("to1") long to1,
+                                             @Param("from2") long from2, @Param("to2") long to2,
+                                             @Param("from3") long from3, @Param("to3") long to3,
+                                             @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                             @Param("minLng") double minLng, @Param("maxLng") double maxLng,
+                                             Pageable pageable);
+
+    default List<Memory> findAllByGroupIdWithin(Long groupId, double minLat, double maxLat,
+                                                double minLng, double maxLng, Pageable pageable) {
+        List<GeoCell.Range> ranges = GeoCell.cover(minLat, maxLat, minLng, maxLng);
+        // 남는 자리는 첫 구간으로 채움 (중복 조건은 결과에 영향 없음)
+        GeoCell.Range[] r = new GeoCell.Range[GeoCell.MAX_COVER_RANGES];
+        for (int i = 0; i < r.length; i++) {
+            r[i] = i < ranges.size() ? ranges.get(i) : ranges.get(0);
+        }
+        return findAllByGroupIdWithinCells(groupId,
+                r[0].getFrom(), r[0].getTo(), r[1].getFrom(), r[1].getTo(),
+                r[2].getFrom(), r[2].getTo(), r[3].getFrom(), r[3].getTo(),
+                minLat, maxLat, minLng, maxLng, pageable);
+    }
+
+    // 그룹 추억 좌표 목록 (row: [memoryId, latitude, longitude])
+    @Query("SELECT m.id, m.latitude, m.longitude FROM Memory m WHERE m.group.id = :groupId")
+    List<Object[]> findLocationsByGroupId(@Param("groupId") Long groupId);
+
+    @Query("SELECT m.id FROM Memory m WHERE m.group.id = :groupId")
+    List<Long> findIdsByGroupId(@Param("groupId") Long groupId);
+
+    // 그룹 추억 검색 필드 목록 (row: [memoryId, title, description, locationName])
+    @Query("SELECT m.id, m.title, m.description, m.locationName FROM Memory m WHERE m.group.id = :groupId")
+    List<Object[]> findSearchFieldsByGroupId(@Param("groupId") Long groupId);
+
+    // 사용자가 작성한 추억 또는 댓글이 있는 그룹 (회원 탈퇴 시 cascade로 함께 삭제되는 범위)
+    @Query("SELECT DISTINCT m.group.id FROM Memory m WHERE m.user.id = :userId " +
+           "OR EXISTS (SELECT c.id FROM Comment c WHERE c.memory = m AND c.user.id = :userId)")
+    List<Long> findGroupIdsByAuthorOrCommenter(@Param("userId") Long userId);
+
+    @Query("SELECT m FROM Memory m WHERE m.geoCell IS NULL ORDER BY m.id")
+    List<Memory> findAllByGeoCellIsNull(Pageable pageable);
+
+    // 추억 목록의 이미지와 메타데이터 일괄 조회, 처리 전 이미지는 메타데이터가 null
+    // (row: [memoryId, imageUrl, width, height, fileSize, dominantColor, blurhash])
+    @Query("SELECT mi.memory.id, mi.imageUrl, i.width, i.height, i.fileSize, i.dominantColor, i.blurhash " +
+           "FROM MemoryImage mi LEFT JOIN Image i ON i.url = mi.imageUrl " +
+           "WHERE mi.memory.id IN :memoryIds ORDER BY mi.memory.id, mi.displayOrder, mi.id")
+    List<Object[]> findImagesByMemoryIds(@Param("memoryIds") Collection<Long> memoryIds);
+
+    // 저장소 GC: 추억이 참조하는 이미지 URL (image_url 인덱스)
+    @Query("SELECT DISTINCT mi.imageUrl FROM MemoryImage mi WHERE mi.imageUrl IN :urls")
+    List<String> findReferencedImageUrls(@Param("urls") Collection<String> urls);
+
     @Query("SELECT m FROM Memory m " +
            "WHERE m.id = :memoryId AND m.group.id = :groupId")
     Optional<Memory> findByIdAndGroupId(@Param("memoryId") Long memoryId, @Param("groupId") Long groupId);
 
-    // 특정 날짜의 1년 전 추억 조회 (알림용)
-    @Query("SELECT m FROM Memory m " +
-           "WHERE FUNCTION('MONTH', m.visitedAt) = :month " +
-           "AND FUNCTION('DAY', m.visitedAt) = :day " +
-           "AND FUNCTION('YEAR', m.visitedAt) = :year")
-    List<Memory> findMemoriesByDate(@Param("month") int month, 
-                                     @Param("day") int day, 
-                                     @Param("year") int year);
+    // "N년 전 오늘" 리마인더 대상 (visited_month_day 인덱스 범위 스캔, id 기준 키셋 청크)
+    @Query("SELECT new com.ourtime.dto.memory.MemoryReminder(m.id, m.group.id, m.user.id, m.title, m.visitedAt) " +
+           "FROM Memory m " +
+           "WHERE m.visitedMonthDay IN :monthDays AND m.visitedAt < :before AND m.id > :afterId " +
+           "ORDER BY m.id")
+    List<MemoryReminder> findRemindersByMonthDays(@Param("monthDays") Collection<Integer> monthDays,
+                                                  @Param("before") LocalDateTime before,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    @Query("SELECT m FROM Memory m WHERE m.visitedMonthDay IS NULL ORDER BY m.id")
+    List<Memory> findAllByVisitedMonthDayIsNull(Pageable pageable);
+
+    // 좋아요/댓글 카운터 원자적 증감 (동시 요청에서도 갱신 유실 없음)
+    @Modifying
+    @Query("UPDATE Memory m SET m.likeCount = m.likeCount + 1 WHERE m.id = :memoryId")
+    int incrementLikeCount(@Param("memoryId") Long memoryId);
+
+    @Modifying
+    @Query("UPDATE Memory m SET m.likeCount = m.likeCount - 1 WHERE m.id = :memoryId AND m.likeCount > 0")
+    int decrementLikeCount(@Param("memoryId") Long memoryId);
+
+    @Modifying
+    @Query("UPDATE Memory m SET m.commentCount = m.commentCount + 1 WHERE m.id = :memoryId")
+    int incrementCommentCount(@Param("memoryId") Long memoryId);
+
+    @Modifying
+    @Query("UPDATE Memory m SET m.commentCount = m.commentCount - 1 WHERE m.id = :memoryId AND m.commentCount > 0")
+    int decrementCommentCount(@Param("memoryId") Long memoryId);
+
+    @Query("SELECT m.likeCount FROM Memory m WHERE m.id = :memoryId")
+    Optional<Integer> findLikeCountById(@Param("memoryId") Long memoryId);
+
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM Memory m")
+    long findMaxId();
+
+    // 카운터 보정: id 구간 단위로 실제 좋아요/댓글 수와 다른 행만 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE memories m " +
+                   "SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.memory_id = m.id) " +
+                   "WHERE m.id BETWEEN :fromId AND :toId " +
+                   "AND like_count <> (SELECT COUNT(*) FROM likes l WHERE l.memory_id = m.id)",
+           nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE memories m " +
+                   "SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.memory_id = m.id) " +
+                   "WHERE m.id BETWEEN :fromId AND :toId " +
+                   "AND comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.memory_id = m.id)",
+           nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,13 @@ public interface MemoryTagRepository extends JpaRepository<MemoryTag, Long> {
     @Query("SELECT mt FROM MemoryTag mt WHERE mt.memory.id = :memoryId")
     List<MemoryTag> findAllByMemoryId(@Param("memoryId") Long memoryId);
 
+    @Query("SELECT mt FROM MemoryTag mt JOIN FETCH mt.tag WHERE mt.memory.id IN :memoryIds")
+    List<MemoryTag> findAllWithTagByMemoryIds(@Param("memoryIds") Collection<Long> memoryIds);
+
+    // 그룹 추억-태그 연결 목록 (row: [memoryId, tagId])
+    @Query("SELECT mt.memory.id, mt.tag.id FROM MemoryTag mt WHERE mt.memory.group.id = :groupId")
+    List<Object[]> findMemoryTagIdsByGroupId(@Param("groupId") Long groupId);
+
     @Query("SELECT mt FROM MemoryTag mt WHERE mt.tag.id = :tagId")
     List<MemoryTag> findAllByTagId(@Param("tagId") Long tagId);
 
@@ -0,0 +1,69 @@
+package com.ourtime.repository;
+
+import com.ourtime.domain.NotificationOutbox;
+import com.ourtime.domain.NotificationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("SELECT o.dedupKey FROM NotificationOutbox o WHERE o.dedupKey IN :dedupKeys")
+    List<String> findDedupKeysIn(@Param("dedupKeys") Collection<String> dedupKeys);
+
+    @Query("SELECT o.id FROM NotificationOutbox o " +
+           "WHERE o.status = com.ourtime.domain.NotificationStatus.PENDING AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 전송 대기 알림을 임대 만료 시각까지 SENDING으로 선점
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = com.ourtime.domain.NotificationStatus.SENDING, " +
+           "o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.id IN :ids AND o.status = com.ourtime.domain.NotificationStatus.PENDING")
+    int claim(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT o FROM NotificationOutbox o " +
+           "WHERE o.id IN :ids AND o.status = com.ourtime.domain.NotificationStatus.SENDING " +
+           "AND o.nextAttemptAt = :leaseUntil")
+    List<NotificationOutbox> findClaimed(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 워커 중단 등으로 임대가 만료된 알림을 다시 전송 대기로
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = com.ourtime.domain.NotificationStatus.PENDING " +
+           "WHERE o.status = com.ourtime.domain.NotificationStatus.SENDING AND o.nextAttemptAt <= :now")
+    int releaseExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = com.ourtime.domain.NotificationStatus.SENT, o.sentAt = :now, " +
+           "o.attempts = o.attempts + 1 " +
+           "WHERE o.id = :id AND o.status = com.ourtime.domain.NotificationStatus.SENDING")
+    int markSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.attempts = o.attempts + 1, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error " +
+           "WHERE o.id = :id AND o.status = com.ourtime.domain.NotificationStatus.SENDING")
+    int markAttemptFailed(@Param("id") Long id, @Param("status") NotificationStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o " +
+           "WHERE o.status = com.ourtime.domain.NotificationStatus.SENT AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+
+    // FAILED 행의 next_attempt_at은 마지막 실패 시각 (idx_status_next_attempt_at 사용)
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o " +
+           "WHERE o.status = com.ourtime.domain.NotificationStatus.FAILED AND o.nextAttemptAt < :before")
+    int deleteFailedBefore(@Param("before") LocalDateTime before);
+
+}
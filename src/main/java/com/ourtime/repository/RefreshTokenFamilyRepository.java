@@ -0,0 +1,51 @@
+package com.ourtime.repository;
+
+import com.ourtime.domain.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, Long> {
+
+    Optional<RefreshTokenFamily> findByFamilyId(String familyId);
+
+    // 제시된 토큰이 현재 토큰일 때만 새 토큰으로 교체 (0이면 이미 교체된 토큰의 재사용)
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.currentTokenId = :nextTokenId, f.expiresAt = :expiresAt, f.updatedAt = :now " +
+           "WHERE f.familyId = :familyId AND f.currentTokenId = :tokenId AND f.revokedAt IS NULL")
+    int rotate(@Param("familyId") String familyId, @Param("tokenId") String tokenId,
+               @Param("nextTokenId") String nextTokenId, @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.revokedAt = :now, f.updatedAt = :now " +
+           "WHERE f.familyId = :familyId AND f.revokedAt IS NULL")
+    int revoke(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    // (row: [familyId, expiresAt])
+    @Query("SELECT f.familyId, f.expiresAt FROM RefreshTokenFamily f " +
+           "WHERE f.userId = :userId AND f.revokedAt IS NULL AND f.expiresAt > :now")
+    List<Object[]> findActiveByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.revokedAt = :now, f.updatedAt = :now " +
+           "WHERE f.userId = :userId AND f.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // (row: [familyId, expiresAt])
+    @Query("SELECT f.familyId, f.expiresAt FROM RefreshTokenFamily f " +
+           "WHERE f.revokedAt >= :since AND f.expiresAt > :now")
+    List<Object[]> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,119 @@
+package com.ourtime.repository;
+
+import com.ourtime.domain.StatisticCount;
+import com.ourtime.domain.StatisticMetric;
+import com.ourtime.domain.StatisticScope;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StatisticCountRepository extends JpaRepository<StatisticCount, Long> {
+
+    // 행이 없으면 만들고 있으면 더함 (호출한 트랜잭션 안에서 한 문장으로 처리, scope/metric은 enum 이름)
+    @Modifying
+    @Query(value = "INSERT INTO statistic_counts (scope, scope_id, metric, item_key, item_count) " +
+                   "VALUES (:scope, :scopeId, :metric, :itemKey, :amount) " +
+                   "ON DUPLICATE KEY UPDATE item_count = item_count + :amount",
+           nativeQuery = true)
+    int addCount(@Param("scope") String scope, @Param("scopeId") Long scopeId,
+                 @Param("metric") String metric, @Param("itemKey") String itemKey,
+                 @Param("amount") long amount);
+
+    // 음수가 되지 않도록 0에서 멈춤 (행이 없으면 0을 반환)
+    @Modifying
+    @Query("UPDATE StatisticCount s " +
+           "SET s.itemCount = CASE WHEN s.itemCount >= :amount THEN s.itemCount - :amount ELSE 0 END " +
+           "WHERE s.scope = :scope AND s.scopeId = :scopeId AND s.metric = :metric AND s.itemKey = :itemKey")
+    int subtractCount(@Param("scope") StatisticScope scope, @Param("scopeId") Long scopeId,
+                      @Param("metric") StatisticMetric metric, @Param("itemKey") String itemKey,
+                      @Param("amount") long amount);
+
+    // 지정한 지표의 항목별 개수 (row: [metric, itemKey, count])
+    @Query("SELECT s.metric, s.itemKey, s.itemCount FROM StatisticCount s " +
+           "WHERE s.scope = :scope AND s.scopeId = :scopeId AND s.metric IN :metrics AND s.itemCount > 0")
+    List<Object[]> findCounts(@Param("scope") StatisticScope scope, @Param("scopeId") Long scopeId,
+                              @Param("metrics") Collection<StatisticMetric> metrics);
+
+    // 개수 상위 항목 (row: [itemKey, count])
+    @Query("SELECT s.itemKey, s.itemCount FROM StatisticCount s " +
+           "WHERE s.scope = :scope AND s.scopeId = :scopeId AND s.metric = :metric AND s.itemCount > 0 " +
+           "ORDER BY s.itemCount DESC, s.itemKey ASC")
+    List<Object[]> findTopItems(@Param("scope") StatisticScope scope, @Param("scopeId") Long scopeId,
+                                @Param("metric") StatisticMetric metric, Pageable pageable);
+
+    @Query("SELECT COUNT(s) FROM StatisticCount s " +
+           "WHERE s.scope = :scope AND s.scopeId = :scopeId AND s.metric = :metric AND s.itemCount > 0")
+    long countItems(@Param("scope") StatisticScope scope, @Param("scopeId") Long scopeId,
+                    @Param("metric") StatisticMetric metric);
+
+    @Modifying
+    @Query("DELETE FROM StatisticCount s WHERE s.metric = :metric AND s.itemKey = :itemKey")
+    int deleteItems(@Param("metric") StatisticMetric metric, @Param("itemKey") String itemKey);
+
+    // ===== 재집계 (추억/댓글/좋아요 테이블 기준, row: [scopeId, itemKey, count]) =====
+
+    // row: [scope, scopeId, metric, itemKey, count]
+    @Query("SELECT s.scope, s.scopeId, s.metric, s.itemKey, s.itemCount FROM StatisticCount s")
+    List<Object[]> findAllCounts();
+
+    @Query(value = "SELECT group_id, CONCAT('', user_id), COUNT(*) FROM memories " +
+                   "GROUP BY group_id, user_id",
+           nativeQuery = true)
+    List<Object[]> countGroupMemberMemories();
+
+    @Query(value = "SELECT m.group_id, CONCAT('', c.user_id), COUNT(*) " +
+                   "FROM comments c JOIN memories m ON m.id = c.memory_id " +
+                   "GROUP BY m.group_id, c.user_id",
+           nativeQuery = true)
+    List<Object[]> countGroupMemberComments();
+
+    @Query(value = "SELECT m.group_id, CONCAT('', l.user_id), COUNT(*) " +
+                   "FROM likes l JOIN memories m ON m.id = l.memory_id " +
+                   "GROUP BY m.group_id, l.user_id",
+           nativeQuery = true)
+    List<Object[]> countGroupMemberLikes();
+
+    @Query(value = "SELECT m.group_id, CONCAT('', mt.tag_id), COUNT(*) " +
+                   "FROM memory_tag mt JOIN memories m ON m.id = mt.memory_id " +
+                   "GROUP BY m.group_id, mt.tag_id",
+           nativeQuery = true)
+    List<Object[]> countGroupTags();
+
+    @Query(value = "SELECT group_id, LEFT(TRIM(location_name), 255), COUNT(*) FROM memories " +
+                   "WHERE location_name IS NOT NULL AND TRIM(location_name) <> '' " +
+                   "GROUP BY group_id, LEFT(TRIM(location_name), 255)",
+           nativeQuery = true)
+    List<Object[]> countGroupPlaces();
+
+    @Query(value = "SELECT user_id, '', COUNT(*) FROM memories GROUP BY user_id",
+           nativeQuery = true)
+    List<Object[]> countUserMemories();
+
+    @Query(value = "SELECT user_id, '', COUNT(*) FROM comments GROUP BY user_id",
+           nativeQuery = true)
+    List<Object[]> countUserComments();
+
+    @Query(value = "SELECT user_id, '', COUNT(*) FROM likes GROUP BY user_id",
+           nativeQuery = true)
+    List<Object[]> countUserLikes();
+
+    @Query(value = "SELECT m.user_id, CONCAT('', mt.tag_id), COUNT(*) " +
+                   "FROM memory_tag mt JOIN memories m ON m.id = mt.memory_id " +
+                   "GROUP BY m.user_id, mt.tag_id",
+           nativeQuery = true)
+    List<Object[]> countUserTags();
+
+    @Query(value = "SELECT user_id, LEFT(TRIM(location_name), 255), COUNT(*) FROM memories " +
+                   "WHERE location_name IS NOT NULL AND TRIM(location_name) <> '' " +
+                   "GROUP BY user_id, LEFT(TRIM(location_name), 255)",
+           nativeQuery = true)
+    List<Object[]> countUserPlaces();
+
+}
@@ -0,0 +1,37 @@
+package com.ourtime.repository;
+
+import com.ourtime.domain.StoredFile;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    // updatedAt은 저장소 GC가 최근에 다시 쓰인 파일을 건너뛰는 기준
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.updatedAt = :now WHERE f.contentHash = :contentHash")
+    int touchByContentHash(@Param("contentHash") String contentHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.updatedAt = :now WHERE f.objectKey = :objectKey")
+    int touchByObjectKey(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    @Query("SELECT f.objectKey FROM StoredFile f WHERE f.contentHash = :contentHash")
+    Optional<String> findObjectKeyByContentHash(@Param("contentHash") String contentHash);
+
+    // 지우는 동안 같은 내용의 업로드나 추억 생성이 이 파일을 다시 쓰지 못하도록 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFile f WHERE f.objectKey IN :objectKeys")
+    List<StoredFile> findForUpdateByObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
+
+}
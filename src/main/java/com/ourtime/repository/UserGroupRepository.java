@@ -6,7 +6,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +25,21 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
     @Query("SELECT ug FROM UserGroup ug WHERE ug.user.id = :userId")
     List<UserGroup> findAllByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT ug.group.id FROM UserGroup ug WHERE ug.user.id = :userId")
+    List<Long> findGroupIdsByUserId(@Param("userId") Long userId);
+
+    // 그룹 멤버 목록 (row: [groupId, userId])
+    @Query("SELECT ug.group.id, ug.user.id FROM UserGroup ug WHERE ug.group.id IN :groupIds")
+    List<Object[]> findMembersByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+    // 사용자의 그룹별 역할 (row: [groupId, role]), 멤버십 캐시 로딩용이라 호출한 트랜잭션의 스냅샷이 아닌 새 트랜잭션에서 읽음
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Query("SELECT ug.group.id, ug.role FROM UserGroup ug WHERE ug.user.id = :userId ORDER BY ug.group.id")
+    List<Object[]> findMembershipsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT ug.user.id FROM UserGroup ug WHERE ug.group.id = :groupId")
+    List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
     @Query("SELECT COUNT(ug) FROM UserGroup ug WHERE ug.group.id = :groupId")
     long countByGroupId(@Param("groupId") Long groupId);
 
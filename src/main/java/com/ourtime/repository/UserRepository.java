@@ -2,17 +2,40 @@ package com.ourtime.repository;
 
 import com.ourtime.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // 로그인/가입은 트랜잭션 밖에서 비밀번호 해시를 기다리므로, 조회마다 트랜잭션을 끝내 커넥션을 바로 반납
+    @Transactional(readOnly = true)
     Optional<User> findByEmail(String email);
 
+    @Transactional(readOnly = true)
     boolean existsByEmail(String email);
 
+    @Transactional(readOnly = true)
     boolean existsByNickname(String nickname);
 
+    // 확인한 현재 해시가 그대로일 때만 변경 (확인과 변경 사이의 동시 변경 방지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword, u.updatedAt = :now " +
+           "WHERE u.id = :userId AND u.password = :currentPassword")
+    int updatePassword(@Param("userId") Long userId, @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword, @Param("now") LocalDateTime now);
+
+    // 저장소 GC: 프로필 이미지로 참조되는 URL
+    @Query("SELECT DISTINCT u.profileImage FROM User u WHERE u.profileImage IN :urls")
+    List<String> findReferencedProfileImages(@Param("urls") Collection<String> urls);
+
 }
@@ -0,0 +1,28 @@
+package com.ourtime.scheduler;
+
+import com.ourtime.service.ImageIngestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageIngestScheduler {
+
+    private final ImageIngestService imageIngestService;
+
+    /**
+     * 10분마다 실행 - 처리 기록이 없는 추억 이미지 원본을 이미지 처리 대기열에 다시 넣음
+     * 업로드 직후 대기열이 가득 차 건너뛴 원본과 이미지 처리 기능 이전에 올라온 원본을 채웁니다.
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000)
+    public void enqueueUnprocessedImages() {
+        int enqueued = imageIngestService.enqueueUnprocessed();
+        if (enqueued > 0) {
+            log.info("처리되지 않은 이미지 {}개를 처리 대기열에 다시 넣음", enqueued);
+        }
+    }
+
+}
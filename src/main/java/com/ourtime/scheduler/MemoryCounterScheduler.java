@@ -0,0 +1,40 @@
+package com.ourtime.scheduler;
+
+import com.ourtime.repository.MemoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoryCounterScheduler {
+
+    // 한 번의 UPDATE(트랜잭션)가 다루는 추억 id 구간 크기
+    private static final long BATCH_SIZE = 1000;
+
+    private final MemoryRepository memoryRepository;
+
+    /**
+     * 매일 새벽 3시 30분에 실행 - 좋아요/댓글 카운터 보정
+     * 회원 탈퇴 등 cascade 삭제나 장애로 어긋난 카운터를 실제 행 수로 맞춥니다.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void reconcileCounters() {
+        log.info("좋아요/댓글 카운터 보정 스케줄러 시작");
+
+        long maxId = memoryRepository.findMaxId();
+        int fixedLikes = 0;
+        int fixedComments = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += BATCH_SIZE) {
+            long toId = fromId + BATCH_SIZE - 1;
+            fixedLikes += memoryRepository.reconcileLikeCounts(fromId, toId);
+            fixedComments += memoryRepository.reconcileCommentCounts(fromId, toId);
+        }
+
+        log.info("좋아요/댓글 카운터 보정 스케줄러 종료 (좋아요 {}건, 댓글 {}건 보정)", fixedLikes, fixedComments);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.ourtime.scheduler;
+
+import com.ourtime.service.MemoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntUnaryOperator;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoryIndexBackfillRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MemoryService memoryService;
+
+    /**
+     * 애플리케이션 시작 시 실행 - 인덱스 컬럼 추가 이전에 저장된 추억의 인덱스 키 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIndexKeys() {
+        backfill("공간 인덱스(geo_cell)", memoryService::backfillGeoCells);
+        backfill("방문 월일(visited_month_day)", memoryService::backfillVisitedMonthDays);
+    }
+
+    private void backfill(String name, IntUnaryOperator batch) {
+        int total = 0;
+        int processed;
+        do {
+            processed = batch.applyAsInt(BATCH_SIZE);
+            total += processed;
+        } while (processed == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("추억 {} 백필 완료: {}건", name, total);
+        }
+    }
+
+}
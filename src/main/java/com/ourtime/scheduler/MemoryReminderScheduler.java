@@ -1,12 +1,18 @@
 package com.ourtime.scheduler;
 
-import com.ourtime.domain.Memory;
+import com.ourtime.dto.memory.MemoryReminder;
 import com.ourtime.repository.MemoryRepository;
+import com.ourtime.service.MemoryStatisticsService;
+import com.ourtime.service.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -15,56 +21,80 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MemoryReminderScheduler {
 
+    // 한 번에 조회/기록하는 추억 수
+    private static final int CHUNK_SIZE = 500;
+
     private final MemoryRepository memoryRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final MemoryStatisticsService memoryStatisticsService;
 
     /**
-     * 매일 오전 9시에 실행 - 1년 전 오늘의 추억 알림
+     * 매일 오전 9시에 실행 - 지난 모든 해의 오늘 추억 알림
+     * visited_month_day 인덱스로 오늘 날짜의 추억만 범위 스캔하고, CHUNK_SIZE건씩 나눠 알림 아웃박스에 기록합니다.
      */
     @Scheduled(cron = "0 0 9 * * *")
     public void sendMemoryReminders() {
         log.info("추억 리마인더 스케줄러 시작");
 
-        LocalDateTime now = LocalDateTime.now();
-        int month = now.getMonthValue();
-        int day = now.getDayOfMonth();
-        int yearAgo = now.getYear() - 1;
+        LocalDate today = LocalDate.now();
+        List<Integer> monthDays = monthDaysOf(today);
+        // 올해 이전의 추억만 대상
+        LocalDateTime before = today.withDayOfYear(1).atStartOfDay();
 
-        // 1년 전 오늘의 추억 조회
-        List<Memory> memories = memoryRepository.findMemoriesByDate(month, day, yearAgo);
+        int total = 0;
+        int enqueued = 0;
+        Long afterId = 0L;
+        List<MemoryReminder> chunk;
+        do {
+            chunk = memoryRepository.findRemindersByMonthDays(monthDays, before, afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (!chunk.isEmpty()) {
+                // 그룹 멤버별 알림으로 펼쳐 아웃박스에 기록 (전송은 NotificationDispatchScheduler가 비동기로 수행)
+                enqueued += notificationOutboxService.enqueueReminders(chunk, today);
+                afterId = chunk.get(chunk.size() - 1).getMemoryId();
+                total += chunk.size();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
 
-        if (memories.isEmpty()) {
-            log.info("1년 전 오늘의 추억이 없습니다.");
-            return;
+        if (total == 0) {
+            log.info("지난 해 오늘의 추억이 없습니다.");
+        } else {
+            log.info("지난 해 오늘의 추억 {}개, 알림 {}건 기록", total, enqueued);
         }
 
-        log.info("1년 전 오늘의 추억 {}개 발견", memories.size());
+        log.info("추억 리마인더 스케줄러 종료");
+    }
 
-        // 실제 알림 전송 로직 (이메일, 푸시 알림 등)
-        for (Memory memory : memories) {
-            sendReminder(memory);
+    // 평년 2월 28일에는 윤년 2월 29일의 추억도 함께 알림
+    private List<Integer> monthDaysOf(LocalDate today) {
+        int monthDay = today.getMonthValue() * 100 + today.getDayOfMonth();
+        if (monthDay == 228 && !today.isLeapYear()) {
+            return List.of(228, 229);
         }
-
-        log.info("추억 리마인더 스케줄러 종료");
+        return List.of(monthDay);
     }
 
-    private void sendReminder(Memory memory) {
-        // TODO: 실제 알림 전송 로직 구현
-        // 이메일, 푸시 알림, 웹소켓 등을 통해 그룹 멤버들에게 알림 전송
-        log.info("리마인더 전송: memory={}, group={}, user={}, title={}", 
-                memory.getId(), 
-                memory.getGroup().getId(), 
-                memory.getUser().getId(), 
-                memory.getTitle());
+    /**
+     * 애플리케이션 시작 시 실행 - 통계 집계 테이블이 비어 있으면(최초 도입) 기존 추억/댓글/좋아요로 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillStatistics() {
+        if (memoryStatisticsService.isEmpty()) {
+            int rows = memoryStatisticsService.rebuild();
+            if (rows > 0) {
+                log.info("통계 집계 백필 완료: {}행", rows);
+            }
+        }
     }
 
     /**
-     * 매일 자정에 실행 - 통계 정보 업데이트 (선택적)
+     * 매일 자정에 실행 - 통계 집계 보정 (집계를 비우지 않고 차이만 반영)
+     * 통계는 쓰기 시점에 증분 갱신되므로, 여기서는 그룹 삭제/회원 탈퇴 등 cascade 삭제로 어긋난 집계만 실제 데이터 기준으로 맞춥니다.
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void updateStatistics() {
         log.info("통계 정보 업데이트 스케줄러 시작");
-        // TODO: 통계 정보 업데이트 로직 구현
-        log.info("통계 정보 업데이트 스케줄러 종료");
+        int rows = memoryStatisticsService.rebuild();
+        log.info("통계 정보 업데이트 스케줄러 종료 ({}행 보정)", rows);
     }
 
 }
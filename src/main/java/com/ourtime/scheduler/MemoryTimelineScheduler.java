@@ -0,0 +1,42 @@
+package com.ourtime.scheduler;
+
+import com.ourtime.service.MemoryTimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoryTimelineScheduler {
+
+    private final MemoryTimelineService memoryTimelineService;
+
+    /**
+     * 애플리케이션 시작 시 실행 - 집계 테이블이 비어 있으면(최초 도입) 기존 추억으로 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTimeline() {
+        if (memoryTimelineService.isEmpty()) {
+            int rows = memoryTimelineService.rebuild();
+            if (rows > 0) {
+                log.info("타임라인 집계 백필 완료: {}행", rows);
+            }
+        }
+    }
+
+    /**
+     * 매일 새벽 4시에 실행 - 타임라인 집계 보정
+     * 그룹 삭제/회원 탈퇴 등 cascade 삭제로 어긋난 집계를 실제 추억 기준으로 맞춥니다. (집계를 비우지 않고 차이만 반영)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuildTimeline() {
+        log.info("타임라인 집계 보정 스케줄러 시작");
+        int rows = memoryTimelineService.rebuild();
+        log.info("타임라인 집계 보정 스케줄러 종료 ({}행 보정)", rows);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.ourtime.scheduler;
+
+import com.ourtime.domain.NotificationOutbox;
+import com.ourtime.notification.NotificationChannel;
+import com.ourtime.notification.NotificationMessage;
+import com.ourtime.service.NotificationOutboxService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 아웃박스를 주기적으로 읽어 전용 워커 풀로 전송합니다.
+ * <p>
+ * 워커 수와 대기열 크기가 고정되어 있어 대량 전송 중에도 요청 처리 스레드나 스케줄러 스레드를 점유하지 않으며,
+ * 대기열에 남은 자리만큼만 선점하므로 처리하지 못할 알림을 메모리에 쌓아 두지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatchScheduler {
+
+    private static final int WORKER_THREADS = 4;
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final int CLAIM_SIZE = 200;
+    private static final long RETENTION_DAYS = 30;
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationChannel notificationChannel;
+    private final ThreadPoolExecutor executor;
+
+    public NotificationDispatchScheduler(NotificationOutboxService notificationOutboxService,
+                                         NotificationChannel notificationChannel) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationChannel = notificationChannel;
+        this.executor = new ThreadPoolExecutor(
+                WORKER_THREADS, WORKER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                new CustomizableThreadFactory("notification-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 5초마다 실행 - 전송할 때가 된 알림을 워커 풀에 넘김
+     */
+    @Scheduled(fixedDelay = 5000, initialDelay = 10000)
+    public void dispatch() {
+        int capacity;
+        while ((capacity = executor.getQueue().remainingCapacity()) > 0) {
+            List<NotificationOutbox> notifications = notificationOutboxService.claim(Math.min(CLAIM_SIZE, capacity));
+            for (NotificationOutbox notification : notifications) {
+                try {
+                    executor.execute(() -> deliver(notification));
+                } catch (RejectedExecutionException e) {
+                    // 선점 상태로 남은 알림은 임대 만료 후 다시 전송됨
+                    log.warn("알림 워커 대기열 초과: {}", notification.getId());
+                }
+            }
+            if (notifications.size() < Math.min(CLAIM_SIZE, capacity)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 매일 새벽 5시에 실행 - 보관 기간이 지난 전송 완료/실패 알림 삭제
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void purgeFinishedNotifications() {
+        LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        int sent = notificationOutboxService.purgeSent(before);
+        int failed = notificationOutboxService.purgeFailed(before);
+        log.info("알림 정리: 전송 완료 {}건, 실패 {}건", sent, failed);
+    }
+
+    private void deliver(NotificationOutbox notification) {
+        try {
+            notificationChannel.send(NotificationMessage.from(notification));
+            notificationOutboxService.markSent(notification.getId());
+        } catch (Exception e) {
+            int attempts = notification.getAttempts() + 1;
+            log.warn("알림 전송 실패 ({}회): {} - {}", attempts, notification.getId(), e.getMessage());
+            notificationOutboxService.markFailed(notification.getId(), attempts, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.ourtime.scheduler;
+
+import com.ourtime.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenScheduler {
+
+    // 커밋 순서와 서버 간 시계 차이로 놓치는 폐기가 없도록 이전 동기화 구간과 겹쳐 읽음
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final RefreshTokenService refreshTokenService;
+
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 애플리케이션 시작 시 실행 - 만료되지 않은 폐기 패밀리를 모두 메모리에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedFamilies() {
+        syncRevokedFamilies();
+    }
+
+    /**
+     * 10초마다 실행 - 다른 인스턴스에서 폐기한 패밀리 반영
+     */
+    @Scheduled(fixedDelay = 10000, initialDelay = 10000)
+    public void syncRevokedFamilies() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int loaded = refreshTokenService.loadRevokedSince(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        lastSyncedAt = startedAt;
+        log.debug("폐기된 토큰 패밀리 동기화: {}개", loaded);
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 실행 - 만료된 토큰 패밀리 정리
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void deleteExpiredFamilies() {
+        int deleted = refreshTokenService.deleteExpired();
+        log.info("만료된 토큰 패밀리 정리: {}개", deleted);
+    }
+
+}
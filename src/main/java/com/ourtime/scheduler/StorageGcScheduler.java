@@ -0,0 +1,36 @@
+package com.ourtime.scheduler;
+
+import com.ourtime.service.StorageGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageGcScheduler {
+
+    private final StorageGarbageCollector storageGarbageCollector;
+
+    @Value("${storage.gc.dry-run:true}")
+    private boolean dryRun;
+
+    /**
+     * 매일 새벽 5시 30분에 실행 - 참조되지 않는 저장소 객체 정리
+     * dry-run이면 삭제하지 않고 대상 수/크기와 일부 키만 로그로 남깁니다.
+     */
+    @Scheduled(cron = "0 30 5 * * *")
+    public void collectGarbage() {
+        log.info("저장소 GC 스케줄러 시작 (dry-run: {})", dryRun);
+
+        StorageGarbageCollector.Report report = storageGarbageCollector.collect(dryRun);
+        if (report.isDryRun()) {
+            report.getSampleKeys().forEach(key -> log.info("저장소 GC 삭제 대상: {}", key));
+        }
+
+        log.info("저장소 GC 스케줄러 종료 {}", report.summary());
+    }
+
+}
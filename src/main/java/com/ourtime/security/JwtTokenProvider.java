@@ -4,6 +4,7 @@ import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,65 +24,125 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final int MAX_CACHED_TOKENS = 10_000;
+    private static final String TYPE_CLAIM = "type";
+    private static final String FAMILY_CLAIM = "fam";
+
     private final SecretKey key;
+    // 불변/스레드 안전이므로 한 번만 생성해 재사용
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens = new VerifiedTokenCache(MAX_CACHED_TOKENS);
+    private final RevokedTokenFamilies revokedTokenFamilies;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration) {
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+            RevokedTokenFamilies revokedTokenFamilies) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.revokedTokenFamilies = revokedTokenFamilies;
     }
 
-    public String createAccessToken(Long userId, String email) {
+    /**
+     * 액세스 토큰을 만듭니다. 패밀리가 폐기되면 만료 전이라도 거절됩니다.
+     */
+    public String createAccessToken(Long userId, String email, String familyId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
                 .claim("email", email)
-                .claim("type", "access")
+                .claim(TYPE_CLAIM, "access")
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(key)
                 .compact();
     }
 
-    public String createRefreshToken(Long userId) {
+    /**
+     * 리프레시 토큰을 만듭니다. tokenId(jti)는 회전 시 재사용 감지에 쓰입니다.
+     */
+    public String createRefreshToken(Long userId, String familyId, String tokenId, Date expiry) {
         Date now = new Date();
-        Date expiry = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
+                .id(tokenId)
                 .subject(String.valueOf(userId))
-                .claim("type", "refresh")
+                .claim(TYPE_CLAIM, "refresh")
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(key)
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-        
-        Collection<? extends GrantedAuthority> authorities =
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+    /**
+     * 토큰을 한 번만 파싱/검증해 인증 정보를 만듭니다.
+     * 이미 검증한 토큰이면 만료 전까지 서명 검증 없이 캐시된 인증 정보를 반환합니다.
+     * 토큰 패밀리 폐기 여부는 캐시 여부와 관계없이 매번 (DB 조회 없이) 확인합니다.
+     * 액세스 토큰만 받으며, 리프레시 토큰은 /api/auth/refresh에서만 쓸 수 있으므로 거절하고 캐시하지 않습니다.
+     *
+     * @throws BusinessException 유효하지 않거나 만료되었거나 폐기된 토큰, 액세스 토큰이 아닌 경우
+     */
+    public Authentication authenticate(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedTokenCache.Entry cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            checkNotRevoked(cached.getFamilyId());
+            return cached.getAuthentication();
+        }
 
-        User principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        Claims claims = verify(token);
+        if (!"access".equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        checkNotRevoked(familyId);
+
+        Authentication authentication = toAuthentication(claims, token);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, authentication, familyId, claims.getExpiration().getTime());
+        }
+        return authentication;
     }
 
-    public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
+    /**
+     * 리프레시 토큰을 검증하고 회전에 필요한 값을 꺼냅니다. (폐기 여부는 호출 측에서 DB로 확인)
+     *
+     * @throws BusinessException 유효하지 않거나 만료된 토큰, 리프레시 토큰이 아닌 경우
+     */
+    public RefreshTokenClaims verifyRefreshToken(String token) {
+        Claims claims = verify(token);
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        if (!"refresh".equals(claims.get(TYPE_CLAIM, String.class)) || familyId == null || claims.getId() == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        return new RefreshTokenClaims(Long.parseLong(claims.getSubject()), familyId, claims.getId());
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰의 패밀리 ID를 반환합니다. (패밀리 도입 전 발급된 토큰은 null)
+     */
+    public String getFamilyId(String token) {
+        return verify(token).get(FAMILY_CLAIM, String.class);
+    }
+
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
+    private Claims verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return parseClaims(token);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
@@ -94,15 +155,47 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        } catch (JwtException e) {
+            // 서명 불일치(io.jsonwebtoken.security.SignatureException) 등
+            log.error("Invalid JWT token: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
     }
 
+    private void checkNotRevoked(String familyId) {
+        if (familyId != null && revokedTokenFamilies.isRevoked(familyId)) {
+            throw new BusinessException(ErrorCode.REVOKED_TOKEN);
+        }
+    }
+
+    private Authentication toAuthentication(Claims claims, String token) {
+        Collection<? extends GrantedAuthority> authorities =
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+
+        User principal = new User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    }
+
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 검증된 리프레시 토큰의 사용자 ID, 패밀리 ID, 토큰 ID(jti)
+     */
+    @Getter
+    public static final class RefreshTokenClaims {
+
+        private final Long userId;
+        private final String familyId;
+        private final String tokenId;
+
+        private RefreshTokenClaims(Long userId, String familyId, String tokenId) {
+            this.userId = userId;
+            this.familyId = familyId;
+            this.tokenId = tokenId;
+        }
+
     }
 
 }
@@ -0,0 +1,134 @@
+package com.ourtime.security;
+
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 워커 풀
+ * <p>
+ * BCrypt는 요청당 수십~수백 ms의 CPU를 쓰므로, 로그인이 몰리면 요청 처리 스레드가 모두 해시 계산에 묶여
+ * 관계없는 조회 요청까지 멈춥니다. 해시는 (CPU 코어 수 - 1)개의 워커에서만 계산하고, 대기열이 가득 차면
+ * 기다리지 않고 바로 429로 거절합니다. 따라서 해시를 기다리는 요청 스레드는 (워커 수 + 대기열 크기)를 넘지 않습니다.
+ * <p>
+ * 호출 측은 DB 트랜잭션(커넥션)을 잡은 채로 호출하지 않아야 합니다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    // 한 코어는 일반 요청 처리용으로 남겨 둠
+    private static final int HASH_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    // 대기열이 길면 대기 시간 초과로 버려지는 해시가 늘어나므로 워커당 8건으로 제한
+    private static final int QUEUE_CAPACITY = HASH_THREADS * 8;
+    private static final long WAIT_TIMEOUT_SECONDS = 5;
+    // 거절 경고 로그 최소 간격 (폭주 중 거절마다 로그가 쌓이지 않도록, 건수는 ourtime.password.hash.rejected)
+    private static final long REJECTION_LOG_INTERVAL_MILLIS = 60_000;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejected;
+    private final AtomicLong lastRejectionLogMillis = new AtomicLong();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                HASH_THREADS, HASH_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("ourtime.password.hash")
+                .description("비밀번호 해시 계산 시간 (대기 시간 제외)")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("ourtime.password.hash")
+                .description("비밀번호 해시 계산 시간 (대기 시간 제외)")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ourtime.password.hash.rejected")
+                .description("대기열 초과/대기 시간 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("ourtime.password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("ourtime.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 계산 중인 워커 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw reject("대기열 초과");
+        }
+
+        try {
+            return future.get(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject("대기 시간 초과");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private BusinessException reject(String reason) {
+        rejected.increment();
+        long now = System.currentTimeMillis();
+        long last = lastRejectionLogMillis.get();
+        if (now - last >= REJECTION_LOG_INTERVAL_MILLIS && lastRejectionLogMillis.compareAndSet(last, now)) {
+            log.warn("비밀번호 해시 요청 거절 중 ({}) - 누적 거절 {}건, 대기 {}건",
+                    reason, (long) rejected.count(), executor.getQueue().size());
+        } else {
+            log.debug("비밀번호 해시 요청 거절 ({})", reason);
+        }
+        return new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+}
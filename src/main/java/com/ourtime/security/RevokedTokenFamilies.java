@@ -0,0 +1,101 @@
+package com.ourtime.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 패밀리의 인메모리 목록 (블룸 필터 + 정확한 집합)
+ * <p>
+ * 모든 인증 요청이 폐기 여부를 확인하므로 DB를 조회하지 않고, 대부분인 "폐기되지 않음"은 블룸 필터의 비트 몇 개만
+ * 읽고 바로 판정합니다. 블룸 필터가 "있을 수도 있음"이라고 답한 경우에만 정확한 집합을 확인하므로 오탐은 없습니다.
+ * <p>
+ * 항목은 패밀리의 마지막 토큰이 만료되면 필요 없으므로 purgeExpired에서 지우고, 블룸 필터는 비트를 지울 수 없어 다시 만듭니다.
+ * 읽기는 락 없이, 쓰기(폐기/정리)는 드물므로 직렬화합니다.
+ */
+@Component
+public class RevokedTokenFamilies {
+
+    // 1M 비트(128KB), 해시 4개 - 약 10만 건까지 오탐률 1% 안팎
+    private static final int BITS = 1 << 20;
+    private static final int HASHES = 4;
+
+    // 패밀리 ID -> 마지막 토큰 만료 시각(epoch ms)
+    private final Map<String, Long> families = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray bloom = new AtomicLongArray(BITS / Long.SIZE);
+
+    public boolean isRevoked(String familyId) {
+        if (!mightContain(bloom, familyId)) {
+            return false;
+        }
+        return families.containsKey(familyId);
+    }
+
+    public synchronized void revoke(String familyId, long expiresAt) {
+        families.merge(familyId, expiresAt, Math::max);
+        add(bloom, familyId);
+    }
+
+    /**
+     * 만료된 패밀리를 지우고 블룸 필터를 다시 만듭니다.
+     *
+     * @return 지운 항목 수
+     */
+    public synchronized int purgeExpired(long now) {
+        int before = families.size();
+        families.values().removeIf(expiresAt -> expiresAt <= now);
+
+        AtomicLongArray rebuilt = new AtomicLongArray(BITS / Long.SIZE);
+        for (String familyId : families.keySet()) {
+            add(rebuilt, familyId);
+        }
+        bloom = rebuilt;
+        return before - families.size();
+    }
+
+    public int size() {
+        return families.size();
+    }
+
+    private static void add(AtomicLongArray bits, String familyId) {
+        long hash = mix(familyId.hashCode());
+        for (int i = 0; i < HASHES; i++) {
+            int bit = index(hash, i);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private static boolean mightContain(AtomicLongArray bits, String familyId) {
+        long hash = mix(familyId.hashCode());
+        for (int i = 0; i < HASHES; i++) {
+            int bit = index(hash, i);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 이중 해싱: h1 + i * h2
+    private static int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + i * h2) & (BITS - 1);
+    }
+
+    // SplitMix64 마무리 함수로 String.hashCode를 64비트로 고르게 퍼뜨림
+    private static long mix(int value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
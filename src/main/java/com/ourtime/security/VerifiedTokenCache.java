@@ -0,0 +1,91 @@
+package com.ourtime.security;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 마친 토큰의 인증 정보 캐시 (접근 순서 기준 LRU)
+ * <p>
+ * 같은 액세스 토큰으로 들어오는 반복 요청이 매번 HMAC 검증과 JSON 파싱을 하지 않도록, 토큰의 SHA-256 다이제스트를
+ * 키로 만들어 둔 Authentication을 보관합니다. 원문 토큰은 키로 보관하지 않으며, 항목은 토큰 만료 시각이 지나면 무효입니다.
+ */
+public class VerifiedTokenCache {
+
+    private final Map<String, Entry> entries;
+
+    public VerifiedTokenCache(int maxTokens) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxTokens;
+            }
+        };
+    }
+
+    /**
+     * 만료되지 않은 캐시 항목이 있으면 반환합니다. (없으면 null)
+     */
+    public Entry get(String token, long now) {
+        String digest = digest(token);
+        synchronized (entries) {
+            Entry entry = entries.get(digest);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                entries.remove(digest);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    public void put(String token, Authentication authentication, String familyId, long expiresAt) {
+        String digest = digest(token);
+        synchronized (entries) {
+            entries.put(digest, new Entry(authentication, familyId, expiresAt));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 검증된 토큰 한 건 (인증 정보, 토큰 패밀리 ID, 만료 시각)
+     */
+    @Getter
+    public static final class Entry {
+
+        private final Authentication authentication;
+        // 폐기 여부 확인용 (패밀리 도입 전 발급된 토큰은 null)
+        private final String familyId;
+        private final long expiresAt;
+
+        private Entry(Authentication authentication, String familyId, long expiresAt) {
+            this.authentication = authentication;
+            this.familyId = familyId;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
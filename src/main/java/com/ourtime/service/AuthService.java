@@ -1,5 +1,6 @@
 package com.ourtime.service;
 
+import com.ourtime.domain.RefreshTokenFamily;
 import com.ourtime.domain.User;
 import com.ourtime.dto.auth.LoginRequest;
 import com.ourtime.dto.auth.SignUpRequest;
@@ -9,12 +10,17 @@ import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import com.ourtime.repository.UserRepository;
 import com.ourtime.security.JwtTokenProvider;
+import com.ourtime.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,10 +28,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
-    @Transactional
+    /**
+     * 해시 계산(PasswordHasher)이 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행합니다.
+     * (이메일 중복 확인과 저장 사이의 경합은 users.email 유니크 제약으로 막힘)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signUp(SignUpRequest request) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -40,7 +51,7 @@ public class AuthService {
         // 사용자 생성
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .nickname(request.getNickname())
                 .build();
 
@@ -50,45 +61,69 @@ public class AuthService {
         return UserResponse.from(savedUser);
     }
 
-    @Transactional
+    /**
+     * 해시 비교(PasswordHasher) 중에 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
         // 사용자 조회
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
-        // 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        // 새 토큰 패밀리(세션) 시작 후 토큰 생성
+        RefreshTokenFamily family = refreshTokenService.startFamily(user.getId());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), family.getFamilyId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), family.getFamilyId(),
+                family.getCurrentTokenId(), toDate(family.getExpiresAt()));
 
         log.info("사용자 로그인: {}", user.getEmail());
 
         return TokenResponse.of(accessToken, refreshToken);
     }
 
-    @Transactional
+    /**
+     * 리프레시 토큰을 1회용으로 회전합니다. 이미 사용된 리프레시 토큰이 다시 오면 그 세션 전체를 폐기합니다.
+     * (재사용 감지 시의 폐기는 예외와 함께 커밋되어야 하므로 BusinessException에는 롤백하지 않음)
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
     public TokenResponse refreshToken(String refreshToken) {
         // 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
-
-        // 사용자 ID 추출
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
+        JwtTokenProvider.RefreshTokenClaims claims = jwtTokenProvider.verifyRefreshToken(refreshToken);
 
         // 사용자 조회
-        User user = userRepository.findById(userId)
+        User user = userRepository.findById(claims.getUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
+        // 토큰 회전 (재사용이면 예외)
+        LocalDateTime expiresAt = refreshTokenService.nextExpiry();
+        String nextTokenId = refreshTokenService.rotate(claims.getFamilyId(), claims.getTokenId(), expiresAt);
+
         // 새 토큰 생성
-        String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail());
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), claims.getFamilyId());
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getId(), claims.getFamilyId(),
+                nextTokenId, toDate(expiresAt));
 
         return TokenResponse.of(newAccessToken, newRefreshToken);
     }
 
+    /**
+     * 토큰의 세션(패밀리)을 폐기합니다. 같은 세션의 액세스/리프레시 토큰은 만료 전이라도 더 이상 사용할 수 없습니다.
+     */
+    @Transactional
+    public void logout(String accessToken) {
+        String familyId = jwtTokenProvider.getFamilyId(accessToken);
+        if (familyId != null) {
+            refreshTokenService.revokeFamily(familyId);
+        }
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
 }
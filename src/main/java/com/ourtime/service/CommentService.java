@@ -6,14 +6,15 @@ import com.ourtime.domain.User;
 import com.ourtime.dto.comment.CommentResponse;
 import com.ourtime.dto.comment.CreateCommentRequest;
 import com.ourtime.dto.comment.UpdateCommentRequest;
+import com.ourtime.event.CommentChangedEvent;
 import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import com.ourtime.repository.CommentRepository;
 import com.ourtime.repository.MemoryRepository;
-import com.ourtime.repository.UserGroupRepository;
 import com.ourtime.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +30,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final MemoryRepository memoryRepository;
     private final UserRepository userRepository;
-    private final UserGroupRepository userGroupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponse createComment(Long memoryId, Long userId, CreateCommentRequest request) {
@@ -40,7 +42,7 @@ public class CommentService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMORY_NOT_FOUND));
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, memory.getGroup().getId())) {
+        if (!groupMembershipCache.isMember(userId, memory.getGroup().getId())) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
@@ -51,8 +53,11 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        memoryRepository.incrementCommentCount(memoryId);
         log.info("새 댓글 생성: {} by {}", savedComment.getId(), userId);
 
+        eventPublisher.publishEvent(CommentChangedEvent.created(savedComment));
+
         return CommentResponse.from(savedComment);
     }
 
@@ -61,7 +66,7 @@ public class CommentService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMORY_NOT_FOUND));
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, memory.getGroup().getId())) {
+        if (!groupMembershipCache.isMember(userId, memory.getGroup().getId())) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
@@ -84,6 +89,8 @@ public class CommentService {
         comment.updateContent(request.getContent());
         log.info("댓글 업데이트: {}", commentId);
 
+        eventPublisher.publishEvent(CommentChangedEvent.updated(comment));
+
         return CommentResponse.from(comment);
     }
 
@@ -98,7 +105,10 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        memoryRepository.decrementCommentCount(comment.getMemory().getId());
         log.info("댓글 삭제: {}", commentId);
+
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(comment));
     }
 
 }
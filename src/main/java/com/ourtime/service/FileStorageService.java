@@ -0,0 +1,430 @@
+package com.ourtime.service;
+
+import com.ourtime.dto.file.PresignedUploadRequest;
+import com.ourtime.dto.file.PresignedUploadResponse;
+import com.ourtime.dto.file.StreamUploadResponse;
+import com.ourtime.event.ImageUploadedEvent;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.storage.ObjectNotFoundException;
+import com.ourtime.storage.StorageBackend;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 파일 업로드/확인/삭제 (저장소는 StorageBackend: S3 또는 로컬 디스크)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileStorageService {
+
+    private final StorageBackend storageBackend;
+    private final MultipartUploader multipartUploader;
+    private final StoredFileRegistry storedFileRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 스트리밍 업로드는 힙/디스크에 파일 전체를 담지 않으므로 multipart 업로드보다 크게 허용
+    @Value("${upload.stream.max-file-size:52428800}")
+    private long streamMaxFileSize;
+
+    // 업로드한 키를 추억 생성에 쓸 수 있는 시간 (저장소 GC는 이보다 오래된 객체만 지움)
+    @Value("${upload.key-ttl:12h}")
+    private Duration keyTtl;
+
+    private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "webp");
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final Map<String, String> CONTENT_TYPE_EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp");
+    private static final Duration PRESIGN_DURATION = Duration.ofMinutes(10);
+    static final Set<String> UPLOAD_DIRECTORIES = Set.of("profiles", "groups", "memories");
+    // 서버를 거친 업로드의 저장 위치 (content/{해시 앞 2자}/{해시}.{확장자}, 디렉터리/사용자와 무관하게 공유)
+    static final String CONTENT_PREFIX = "content/";
+
+    // 업로드는 네트워크 대기가 대부분이므로 코어 수와 무관하게 고정, 가득 차면 호출 스레드가 직접 업로드
+    private static final int UPLOAD_THREADS = 16;
+    private static final int UPLOAD_QUEUE_CAPACITY = 64;
+
+    private final ThreadPoolExecutor uploadExecutor = new ThreadPoolExecutor(
+            UPLOAD_THREADS, UPLOAD_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(UPLOAD_QUEUE_CAPACITY),
+            new CustomizableThreadFactory("file-upload-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    /**
+     * 파일을 내용 주소 방식으로 업로드합니다. 같은 내용이 이미 있으면 저장소에 쓰지 않고 기존 URL을 반환합니다.
+     */
+    public String uploadFile(MultipartFile file, String directory) {
+        validateFile(file);
+
+        String extension = getFileExtension(file.getOriginalFilename()).toLowerCase();
+        try (InputStream inputStream = file.getInputStream()) {
+            MultipartUploader.Uploaded uploaded = storeContent(inputStream, file.getSize(), file.getContentType(),
+                    extension, MAX_FILE_SIZE);
+            return toFileUrl(uploaded.getKey());
+        } catch (IOException e) {
+            log.error("파일 업로드 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 여러 파일을 동시에 업로드하고, 입력 순서대로 URL을 반환합니다. (빈 파일은 건너뜀)
+     * 하나라도 실패하면 예외를 던지며, 이미 올라간 내용 키는 다른 업로드와 공유될 수 있으므로 저장소 GC가 정리합니다.
+     */
+    public List<String> uploadFiles(List<MultipartFile> files, String directory) {
+        List<MultipartFile> targets = files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .collect(Collectors.toList());
+        // 하나라도 잘못된 파일이 있으면 아무것도 올리지 않음
+        targets.forEach(this::validateFile);
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (MultipartFile file : targets) {
+            futures.add(uploadExecutor.submit(() -> uploadFile(file, directory)));
+        }
+
+        // 실패가 있어도 나머지 업로드가 끝날 때까지 기다려야 정리할 URL을 모두 알 수 있음
+        List<String> fileUrls = new ArrayList<>();
+        RuntimeException failure = null;
+        for (Future<String> future : futures) {
+            try {
+                fileUrls.add(getUninterruptibly(future));
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof BusinessException businessException
+                            ? businessException
+                            : new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+                }
+                log.error("파일 업로드 실패: {}", e.getCause().getMessage());
+            }
+        }
+
+        if (failure != null) {
+            deleteFilesQuietly(fileUrls);
+            throw failure;
+        }
+        return fileUrls;
+    }
+
+    /**
+     * 요청 본문 스트림을 그대로 저장소 멀티파트 업로드로 흘려보냅니다. (multipart/form-data 파싱, 임시 파일 없음)
+     * 반환한 내용 키는 추억 생성 시 imageKeys로 쓸 수 있습니다.
+     */
+    public StreamUploadResponse uploadStream(String directory, String contentType, Long contentLength,
+                                             InputStream inputStream) {
+        if (!UPLOAD_DIRECTORIES.contains(directory)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "업로드 위치는 profiles, groups, memories 중 하나여야 합니다.");
+        }
+        String extension = contentType != null ? CONTENT_TYPE_EXTENSIONS.get(contentType) : null;
+        if (extension == null) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        // Content-Length가 없는(chunked) 요청은 읽으면서 크기를 확인
+        if (contentLength != null && contentLength > streamMaxFileSize) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        MultipartUploader.Uploaded uploaded = storeContent(inputStream, contentLength != null ? contentLength : -1,
+                contentType, extension, streamMaxFileSize);
+        return StreamUploadResponse.builder()
+                .key(uploaded.getKey())
+                .fileUrl(toFileUrl(uploaded.getKey()))
+                .size(uploaded.getSize())
+                .duplicate(!uploaded.isCreated())
+                .build();
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 올릴 수 있는 presigned PUT URL을 발급합니다.
+     * 키는 서버가 정하며(디렉터리/사용자 ID/UUID), 파일 형식과 크기는 서명에 포함되어 다른 값으로는 올릴 수 없습니다.
+     */
+    public PresignedUploadResponse createPresignedUpload(Long userId, PresignedUploadRequest request) {
+        String extension = CONTENT_TYPE_EXTENSIONS.get(request.getContentType());
+        if (extension == null) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        if (request.getContentLength() > MAX_FILE_SIZE) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        String key = uploadPrefix(request.getDirectory(), userId) + UUID.randomUUID() + "." + extension;
+        StorageBackend.PresignedUpload presigned = storageBackend.presignPutObject(
+                key, request.getContentType(), request.getContentLength(), PRESIGN_DURATION);
+
+        return PresignedUploadResponse.builder()
+                .key(key)
+                .uploadUrl(presigned.getUrl())
+                .headers(presigned.getHeaders())
+                .fileUrl(toFileUrl(key))
+                .expiresAt(LocalDateTime.ofInstant(presigned.getExpiration(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * presigned URL로 올린 파일이 이 사용자에게 발급한 키이고 실제로 업로드되었는지 확인한 뒤,
+     * 입력 순서대로 파일 URL을 반환합니다. (확인은 동시에 진행)
+     */
+    public List<String> verifyUploadedFiles(List<String> keys, String directory, Long userId) {
+        String prefix = uploadPrefix(directory, userId);
+        for (String key : keys) {
+            // 서버를 거쳐 올라온 내용 키는 업로드한 사용자와 무관하게 공유되므로 등록 여부만 확인
+            if (key == null || !(key.startsWith(prefix) || key.startsWith(CONTENT_PREFIX)) || key.contains("..")) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "발급받지 않은 이미지 키입니다.");
+            }
+        }
+        if (new HashSet<>(keys).size() != keys.size()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "같은 이미지를 두 번 넣을 수 없습니다.");
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (String key : keys) {
+            futures.add(uploadExecutor.submit(() -> verifyUploadedFile(key)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                getUninterruptibly(future);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof BusinessException businessException) {
+                    throw businessException;
+                }
+                log.error("업로드 파일 확인 실패: {}", e.getCause().getMessage());
+                throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
+        }
+
+        List<String> fileUrls = new ArrayList<>();
+        for (String key : keys) {
+            String fileUrl = toFileUrl(key);
+            // 이미 변형이 있는 키(재시도 등)는 변형 작업에서 건너뜀
+            eventPublisher.publishEvent(new ImageUploadedEvent(key, fileUrl));
+            fileUrls.add(fileUrl);
+        }
+        return fileUrls;
+    }
+
+    /**
+     * 프로필/그룹 이미지로 저장할 URL을 추억 이미지 키와 같은 조건(이 사용자에게 발급한 키 또는 등록된 내용 키,
+     * 업로드 후 사용 기한)으로 확인합니다. 내용 키는 사용 시각을 갱신하므로 저장소 GC가 지우는 중이거나 이미 지운
+     * 객체를 새로 참조하지 않습니다. 빈 값(이미지 없음)은 그대로 반환합니다.
+     */
+    public String verifyImageUrl(String fileUrl, String directory, Long userId) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            return fileUrl;
+        }
+        return verifyUploadedFiles(List.of(extractKeyFromUrl(fileUrl)), directory, userId).get(0);
+    }
+
+    /**
+     * 업로드를 되돌릴 때 사용합니다. 삭제에 실패한 파일은 로그만 남깁니다.
+     * 내용 키는 같은 내용을 올린 다른 업로드가 쓰고 있을 수 있으므로 지우지 않고 저장소 GC에 맡깁니다.
+     */
+    public void deleteFilesQuietly(List<String> fileUrls) {
+        for (String fileUrl : fileUrls) {
+            try {
+                String key = extractKeyFromUrl(fileUrl);
+                if (!key.startsWith(CONTENT_PREFIX)) {
+                    deleteObject(key);
+                }
+            } catch (Exception e) {
+                log.warn("업로드 정리 실패: {}", fileUrl);
+            }
+        }
+    }
+
+    /**
+     * 이 사용자에게 발급한 업로드 키(디렉터리/사용자 ID/...)만 지울 수 있습니다.
+     * 내용 키는 사용자와 무관하게 공유되고 같은 바이트를 올리면 누구나 알 수 있으므로 지울 수 없습니다.
+     * (어디에서도 참조하지 않으면 저장소 GC가 지움)
+     */
+    public void deleteFile(Long userId, String fileUrl) {
+        String key = extractKeyFromUrl(fileUrl);
+        if (key.startsWith(CONTENT_PREFIX)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "공유된 파일은 삭제할 수 없습니다.");
+        }
+        boolean owned = UPLOAD_DIRECTORIES.stream()
+                .anyMatch(directory -> key.startsWith(uploadPrefix(directory, userId)));
+        if (!owned || key.contains("..")) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "직접 올린 파일만 삭제할 수 있습니다.");
+        }
+
+        try {
+            deleteObject(key);
+        } catch (Exception e) {
+            log.error("파일 삭제 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        uploadExecutor.shutdown();
+        if (!uploadExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            uploadExecutor.shutdownNow();
+        }
+    }
+
+    private MultipartUploader.Uploaded storeContent(InputStream inputStream, long size, String contentType,
+                                                    String extension, long maxSize) {
+        MultipartUploader.Uploaded uploaded = multipartUploader.upload(inputStream, size, contentType, maxSize,
+                new MultipartUploader.ContentTarget() {
+                    @Override
+                    public String reuseExisting(String contentHash) {
+                        return storedFileRegistry.reuse(contentHash).orElse(null);
+                    }
+
+                    @Override
+                    public String keyFor(String contentHash) {
+                        return CONTENT_PREFIX + contentHash.substring(0, 2) + "/" + contentHash + "." + extension;
+                    }
+                });
+
+        String key = uploaded.getKey();
+        if (uploaded.isCreated()) {
+            try {
+                storedFileRegistry.register(uploaded.getContentHash(), key, contentType, uploaded.getSize());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 내용이 동시에 올라옴 (같은 바이트이므로 먼저 등록된 객체를 사용)
+                key = storedFileRegistry.reuse(uploaded.getContentHash())
+                        .orElseThrow(() -> new BusinessException(ErrorCode.FILE_UPLOAD_FAILED));
+            }
+            log.info("파일 업로드 성공: {} ({} bytes)", key, uploaded.getSize());
+        } else {
+            log.info("같은 파일이 있어 업로드 생략: {}", key);
+        }
+
+        // 이미 처리된 원본이면 처리 작업에서 건너뜀
+        eventPublisher.publishEvent(new ImageUploadedEvent(key, toFileUrl(key)));
+        return new MultipartUploader.Uploaded(key, uploaded.getContentHash(), uploaded.getSize(), uploaded.isCreated());
+    }
+
+    private void deleteObject(String key) {
+        storageBackend.deleteObject(key);
+        log.info("파일 삭제 성공: {}", key);
+    }
+
+    private void verifyUploadedFile(String key) {
+        if (key.startsWith(CONTENT_PREFIX)) {
+            // 업로드할 때 형식과 크기를 확인한 파일 (사용 시각을 갱신해 추억이 저장되기 전에 GC가 지우지 않도록 함)
+            if (!storedFileRegistry.touch(key)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "업로드되지 않은 이미지입니다: " + key);
+            }
+            return;
+        }
+
+        StorageBackend.StoredObject head;
+        try {
+            head = storageBackend.headObject(key);
+        } catch (ObjectNotFoundException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "업로드되지 않은 이미지입니다: " + key);
+        }
+
+        // presigned 업로드는 서명으로 강제되지만, 서명 조건이 바뀌기 전에 발급된 URL로 올라간 파일도 거름
+        // (같은 위치에 올라가는 스트리밍 업로드의 상한까지 허용)
+        if (head.getSize() > Math.max(MAX_FILE_SIZE, streamMaxFileSize)) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+        if (!CONTENT_TYPE_EXTENSIONS.containsKey(head.getContentType())) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+        // 오래된 키는 저장소 GC가 참조 확인 후 지우는 중일 수 있으므로 새로 참조하지 않음
+        if (head.getLastModified().isBefore(Instant.now().minus(keyTtl))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "업로드 후 시간이 지나 사용할 수 없는 이미지입니다. 다시 업로드해 주세요: " + key);
+        }
+    }
+
+    private String uploadPrefix(String directory, Long userId) {
+        return directory + "/" + userId + "/";
+    }
+
+    public String toFileUrl(String key) {
+        return storageBackend.fileUrl(key);
+    }
+
+    // 요청 스레드가 인터럽트되어도 진행 중인 업로드 결과는 받아야 정리할 수 있음
+    static <T> T getUninterruptibly(Future<T> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void validateFile(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일이 비어있습니다.");
+        }
+
+        // 파일 크기 검증
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        // 파일 확장자 검증
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일명이 없습니다.");
+        }
+
+        String extension = getFileExtension(originalFilename).toLowerCase();
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
+        }
+    }
+
+    private String getFileExtension(String filename) {
+        int lastDotIndex = filename.lastIndexOf('.');
+        if (lastDotIndex == -1) {
+            return "";
+        }
+        return filename.substring(lastDotIndex + 1);
+    }
+
+    private String extractKeyFromUrl(String fileUrl) {
+        String key = storageBackend.keyOf(fileUrl);
+        if (key == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 URL입니다.");
+        }
+        return key;
+    }
+
+}
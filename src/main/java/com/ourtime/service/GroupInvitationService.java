@@ -6,6 +6,7 @@ import com.ourtime.domain.User;
 import com.ourtime.domain.UserGroup;
 import com.ourtime.domain.UserGroupRole;
 import com.ourtime.dto.group.GroupInvitationResponse;
+import com.ourtime.event.MembershipChangedEvent;
 import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import com.ourtime.repository.GroupInvitationRepository;
@@ -13,6 +14,7 @@ import com.ourtime.repository.UserGroupRepository;
 import com.ourtime.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class GroupInvitationService {
     private final GroupInvitationRepository groupInvitationRepository;
     private final UserGroupRepository userGroupRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 내가 받은 초대 목록 조회
@@ -82,6 +85,7 @@ public class GroupInvitationService {
                 .build();
 
         userGroupRepository.save(userGroup);
+        eventPublisher.publishEvent(MembershipChangedEvent.of(userId));
 
         log.info("초대 수락: 사용자 {} 그룹 {} 참여", userId, invitation.getGroup().getId());
     }
@@ -0,0 +1,140 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.UserGroupRole;
+import com.ourtime.event.MembershipChangedEvent;
+import com.ourtime.repository.UserGroupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 그룹 멤버/역할 권한 확인용 캐시 (사용자 단위, 접근 순서 기준 LRU)
+ * <p>
+ * 사용자의 모든 멤버십(그룹 ID, 역할)을 한 번의 쿼리로 읽어 정렬된 배열로 보관하고, 이후 권한 확인은
+ * 이진 탐색으로 처리합니다. 멤버십이 바뀌면(MembershipChangedEvent) 트랜잭션이 끝난 뒤 해당 사용자 항목을 비웁니다.
+ * 로딩 도중에 무효화가 일어나면 로딩한 값은 캐시에 넣지 않습니다. (커밋 전 상태가 남지 않도록)
+ * <p>
+ * 로딩은 호출한 트랜잭션과 별개인 새 읽기 트랜잭션에서 합니다. 호출한 트랜잭션(REPEATABLE READ)의 스냅샷이
+ * 무효화 버전을 읽기 전에 만들어졌다면 그 사이 커밋된 탈퇴/강퇴가 빠진 멤버십이 새 버전으로 캐시되기 때문입니다.
+ * 캐시 미스일 때만 커넥션을 하나 더 씁니다.
+ */
+@Component
+public class GroupMembershipCache {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final UserGroupRepository userGroupRepository;
+    private final Map<Long, Memberships> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public GroupMembershipCache(UserGroupRepository userGroupRepository, MeterRegistry meterRegistry) {
+        this.userGroupRepository = userGroupRepository;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Memberships> eldest) {
+                return size() > MAX_CACHED_USERS;
+            }
+        };
+        this.hits = Counter.builder("ourtime.membership.cache")
+                .description("그룹 멤버십 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("ourtime.membership.cache")
+                .description("그룹 멤버십 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("ourtime.membership.cache.size", this, GroupMembershipCache::size)
+                .description("캐시된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isMember(Long userId, Long groupId) {
+        return get(userId).roleOf(groupId) != null;
+    }
+
+    public boolean hasRole(Long userId, Long groupId, UserGroupRole role) {
+        return get(userId).roleOf(groupId) == role;
+    }
+
+    /**
+     * 커밋/롤백과 상관없이 트랜잭션이 끝나면 비웁니다. (트랜잭션 안에서 읽힌 미커밋 상태 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            event.getUserIds().forEach(entries::remove);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Memberships get(Long userId) {
+        Memberships memberships;
+        synchronized (entries) {
+            memberships = entries.get(userId);
+        }
+        if (memberships != null) {
+            hits.increment();
+            return memberships;
+        }
+
+        misses.increment();
+        long version = invalidations.get();
+        // 버전을 읽은 뒤 시작한 트랜잭션에서 읽음 (UserGroupRepository.findMembershipsByUserId는 REQUIRES_NEW)
+        memberships = Memberships.of(userGroupRepository.findMembershipsByUserId(userId));
+        synchronized (entries) {
+            if (invalidations.get() == version) {
+                entries.put(userId, memberships);
+            }
+        }
+        return memberships;
+    }
+
+    /**
+     * 한 사용자의 멤버십 (그룹 ID 오름차순 배열과 같은 위치의 역할)
+     */
+    private static final class Memberships {
+
+        private final long[] groupIds;
+        private final UserGroupRole[] roles;
+
+        private Memberships(long[] groupIds, UserGroupRole[] roles) {
+            this.groupIds = groupIds;
+            this.roles = roles;
+        }
+
+        // rows: [groupId, role] (그룹 ID 오름차순)
+        private static Memberships of(List<Object[]> rows) {
+            long[] groupIds = new long[rows.size()];
+            UserGroupRole[] roles = new UserGroupRole[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                groupIds[i] = (Long) rows.get(i)[0];
+                roles[i] = (UserGroupRole) rows.get(i)[1];
+            }
+            return new Memberships(groupIds, roles);
+        }
+
+        private UserGroupRole roleOf(Long groupId) {
+            int index = Arrays.binarySearch(groupIds, groupId);
+            return index >= 0 ? roles[index] : null;
+        }
+
+    }
+
+}
@@ -10,6 +10,8 @@ import com.ourtime.dto.group.GroupCreateRequest;
 import com.ourtime.dto.group.GroupResponse;
 import com.ourtime.dto.group.JoinGroupRequest;
 import com.ourtime.dto.group.UpdateGroupRequest;
+import com.ourtime.event.GroupContentDeletedEvent;
+import com.ourtime.event.MembershipChangedEvent;
 import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import com.ourtime.repository.GroupInvitationRepository;
@@ -18,6 +20,7 @@ import com.ourtime.repository.UserGroupRepository;
 import com.ourtime.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +37,9 @@ public class GroupService {
     private final UserRepository userRepository;
     private final UserGroupRepository userGroupRepository;
     private final GroupInvitationRepository groupInvitationRepository;
+    private final GroupMembershipCache groupMembershipCache;
+    private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public GroupResponse createGroup(Long userId, CreateGroupRequest request) {
@@ -45,7 +51,7 @@ public class GroupService {
                 .name(request.getName())
                 .type(request.getType())
                 .description(request.getDescription())
-                .groupImage(request.getGroupImage())
+                .groupImage(fileStorageService.verifyImageUrl(request.getGroupImage(), "groups", userId))
                 .createdBy(userId)
                 .build();
 
@@ -59,6 +65,7 @@ public class GroupService {
                 .build();
 
         userGroupRepository.save(userGroup);
+        eventPublisher.publishEvent(MembershipChangedEvent.of(userId));
 
         log.info("새 그룹 생성: {} by {}", savedGroup.getId(), userId);
 
@@ -91,6 +98,7 @@ public class GroupService {
                 .build();
 
         userGroupRepository.save(userGroup);
+        eventPublisher.publishEvent(MembershipChangedEvent.of(userId));
 
         // 멤버 초대
         if (request.getInviteeEmails() != null && !request.getInviteeEmails().isEmpty()) {
@@ -131,7 +139,7 @@ public class GroupService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, groupId)) {
+        if (!groupMembershipCache.isMember(userId, groupId)) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
@@ -156,11 +164,17 @@ public class GroupService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
         // ADMIN 권한 확인
-        if (!userGroupRepository.existsByUserIdAndGroupIdAndRole(userId, groupId, UserGroupRole.ADMIN)) {
+        if (!groupMembershipCache.hasRole(userId, groupId, UserGroupRole.ADMIN)) {
             throw new BusinessException(ErrorCode.NOT_GROUP_ADMIN);
         }
 
-        group.updateInfo(request.getName(), request.getType(), request.getDescription(), request.getGroupImage());
+        // 바꾼 이미지만 확인 (그대로 둔 이미지는 계속 참조 중이므로 GC 대상이 아님)
+        String groupImage = request.getGroupImage();
+        if (groupImage != null && !groupImage.equals(group.getGroupImage())) {
+            groupImage = fileStorageService.verifyImageUrl(groupImage, "groups", userId);
+        }
+
+        group.updateInfo(request.getName(), request.getType(), request.getDescription(), groupImage);
         log.info("그룹 정보 업데이트: {}", groupId);
 
         int memberCount = (int) userGroupRepository.countByGroupId(groupId);
@@ -173,7 +187,7 @@ public class GroupService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
         // ADMIN 권한 확인
-        if (!userGroupRepository.existsByUserIdAndGroupIdAndRole(userId, groupId, UserGroupRole.ADMIN)) {
+        if (!groupMembershipCache.hasRole(userId, groupId, UserGroupRole.ADMIN)) {
             throw new BusinessException(ErrorCode.NOT_GROUP_ADMIN);
         }
 
@@ -204,6 +218,7 @@ public class GroupService {
                 .build();
 
         userGroupRepository.save(userGroup);
+        eventPublisher.publishEvent(MembershipChangedEvent.of(userId));
 
         log.info("사용자 {} 그룹 {} 참여", userId, group.getId());
 
@@ -222,6 +237,7 @@ public class GroupService {
         }
 
         userGroupRepository.delete(userGroup);
+        eventPublisher.publishEvent(MembershipChangedEvent.of(userId));
         log.info("사용자 {} 그룹 {} 탈퇴", userId, groupId);
     }
 
@@ -231,11 +247,17 @@ public class GroupService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
         // ADMIN 권한 확인
-        if (!userGroupRepository.existsByUserIdAndGroupIdAndRole(userId, groupId, UserGroupRole.ADMIN)) {
+        if (!groupMembershipCache.hasRole(userId, groupId, UserGroupRole.ADMIN)) {
             throw new BusinessException(ErrorCode.NOT_GROUP_ADMIN);
         }
 
+        // cascade로 함께 삭제되는 멤버십의 사용자 목록
+        List<Long> memberIds = userGroupRepository.findUserIdsByGroupId(groupId);
+
         groupRepository.delete(group);
+        eventPublisher.publishEvent(new MembershipChangedEvent(memberIds));
+        // 그룹 추억/댓글도 cascade로 함께 삭제됨
+        eventPublisher.publishEvent(GroupContentDeletedEvent.of(groupId));
         log.info("그룹 삭제: {}", groupId);
     }
 
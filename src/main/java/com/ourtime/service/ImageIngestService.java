@@ -0,0 +1,196 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.Image;
+import com.ourtime.domain.ImageVariant;
+import com.ourtime.event.ImageUploadedEvent;
+import com.ourtime.image.ImageProcessor;
+import com.ourtime.repository.ImageRepository;
+import com.ourtime.storage.ObjectNotFoundException;
+import com.ourtime.storage.StorageBackend;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드된 이미지 처리 (메타데이터, 플레이스홀더, 썸네일 변형)
+ * <p>
+ * 업로드가 끝나면(ImageUploadedEvent) 원본을 저장소에서 한 번 내려받아 ImageProcessor로 크기, 대표 색, blurhash를 구하고
+ * 고정 너비의 JPEG 변형을 variants/ 아래에 올린 뒤 images, image_variants에 기록합니다. 요청 스레드는 작업을 큐에 넣기만 하며,
+ * 디코딩/리사이즈는 CPU를 많이 쓰므로 코어 절반 크기의 전용 풀에서만 실행합니다.
+ * 처리 전이거나 변형을 만들 수 없는 형식(WebP)이면 응답은 원본 URL만 내려가므로 클라이언트는 원본을 사용합니다.
+ * 대기열이 가득 차 넣지 못한 원본과 처리 기능 이전에 올라온 원본은 주기적인 보충 작업(enqueueUnprocessed)이 다시 넣습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageIngestService {
+
+    public static final List<Integer> VARIANT_WIDTHS = List.of(320, 640, 1280);
+
+    static final String VARIANT_PREFIX = "variants/";
+    // 변형 키는 원본마다 유일하므로 내용이 바뀌지 않음
+    private static final String VARIANT_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private static final int INGEST_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int INGEST_QUEUE_CAPACITY = 256;
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final StorageBackend storageBackend;
+    private final ImageRepository imageRepository;
+    private final ImageRecorder imageRecorder;
+
+    // 큐가 가득 차면 거절 (처리 전이어도 원본으로 표시되므로 업로드를 막지 않음)
+    private final ThreadPoolExecutor ingestExecutor = new ThreadPoolExecutor(
+            INGEST_THREADS, INGEST_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(INGEST_QUEUE_CAPACITY),
+            new CustomizableThreadFactory("image-ingest-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    // 다음 보충 작업이 이어서 볼 memory_images.id (처리할 수 없는 원본이 매번 앞을 막지 않도록 끝까지 보면 처음부터)
+    private final AtomicLong sweepCursor = new AtomicLong();
+
+    @EventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        if (!submit(event.getKey(), event.getFileUrl())) {
+            log.warn("이미지 처리 대기열이 가득 차 보충 작업으로 미룸: {}", event.getKey());
+        }
+    }
+
+    /**
+     * 처리 기록(images)이 없는 추억 이미지 원본을 대기열에 남은 자리의 절반까지만 다시 넣습니다.
+     * (나머지 자리는 새 업로드용)
+     *
+     * @return 대기열에 넣은 원본 수
+     */
+    public int enqueueUnprocessed() {
+        int capacity = ingestExecutor.getQueue().remainingCapacity() / 2;
+        long afterId = sweepCursor.get();
+        Set<String> submitted = new HashSet<>();
+        while (submitted.size() < capacity) {
+            int limit = Math.min(SWEEP_BATCH_SIZE, capacity - submitted.size());
+            List<Object[]> rows = imageRepository.findUnprocessedMemoryImages(afterId, PageRequest.of(0, limit));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                String fileUrl = (String) row[1];
+                // 같은 원본을 쓰는 추억 이미지는 한 번만, 이 저장소의 URL이 아니면 건너뜀
+                String key = storageBackend.keyOf(fileUrl);
+                if (key == null || submitted.contains(fileUrl)) {
+                    continue;
+                }
+                if (!submit(key, fileUrl)) {
+                    sweepCursor.set(afterId - 1);
+                    return submitted.size();
+                }
+                submitted.add(fileUrl);
+            }
+            if (rows.size() < limit) {
+                afterId = 0;
+                break;
+            }
+        }
+        sweepCursor.set(afterId);
+        return submitted.size();
+    }
+
+    /**
+     * 원본 이미지를 처리해서 기록합니다. 이미 기록된 원본은 건너뜁니다.
+     */
+    public void ingest(String key, String fileUrl) {
+        if (imageRepository.existsByUrl(fileUrl)) {
+            return;
+        }
+
+        String contentType;
+        long fileSize;
+        ImageProcessor.Result result;
+        try (StorageBackend.ObjectContent original = storageBackend.getObject(key)) {
+            contentType = original.getContentType();
+            fileSize = original.getSize();
+            result = ImageProcessor.process(original, VARIANT_WIDTHS);
+        } catch (ObjectNotFoundException e) {
+            // 업로드 직후 정리된 파일 (추억 생성 실패 등)
+            log.debug("처리 전 원본 삭제됨: {}", key);
+            return;
+        } catch (IOException e) {
+            log.info("이미지 처리 불가: {} ({})", key, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            log.warn("이미지 처리 실패: {} ({})", key, e.getMessage());
+            return;
+        }
+
+        try {
+            List<ImageVariant> variants = new ArrayList<>();
+            for (ImageProcessor.Resized resized : result.getVariants()) {
+                String variantKey = variantKey(key, resized.getWidth());
+                storageBackend.putObject(variantKey, resized.getBytes(), resized.getBytes().length,
+                        ImageProcessor.CONTENT_TYPE, VARIANT_CACHE_CONTROL);
+                variants.add(ImageVariant.builder()
+                        .sourceUrl(fileUrl)
+                        .width(resized.getWidth())
+                        .height(resized.getHeight())
+                        .url(storageBackend.fileUrl(variantKey))
+                        .contentType(ImageProcessor.CONTENT_TYPE)
+                        .fileSize(resized.getBytes().length)
+                        .build());
+            }
+
+            imageRecorder.record(Image.builder()
+                    .url(fileUrl)
+                    .contentType(contentType)
+                    .fileSize(fileSize)
+                    .width(result.getWidth())
+                    .height(result.getHeight())
+                    .dominantColor(result.getDominantColor())
+                    .blurhash(result.getBlurhash())
+                    .build(), variants);
+            log.debug("이미지 처리 완료: {} ({}x{}, 변형 {}개)", key, result.getWidth(), result.getHeight(), variants.size());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 원본을 다른 작업이 먼저 기록 (변형은 같은 키로 올라가므로 저장된 객체는 그대로 사용)
+            log.debug("이미지 동시 처리: {}", key);
+        } catch (RuntimeException e) {
+            log.warn("이미지 처리 결과 저장 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    private boolean submit(String key, String fileUrl) {
+        try {
+            ingestExecutor.execute(() -> ingest(key, fileUrl));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        ingestExecutor.shutdown();
+        if (!ingestExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            ingestExecutor.shutdownNow();
+        }
+    }
+
+    // memories/7/uuid.jpg -> variants/memories/7/uuid_w320.jpg
+    private static String variantKey(String key, int width) {
+        int dot = key.lastIndexOf('.');
+        String base = dot > key.lastIndexOf('/') ? key.substring(0, dot) : key;
+        return VARIANT_PREFIX + base + "_w" + width + ".jpg";
+    }
+
+}
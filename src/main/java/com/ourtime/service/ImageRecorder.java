@@ -0,0 +1,35 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.Image;
+import com.ourtime.domain.ImageVariant;
+import com.ourtime.repository.ImageRepository;
+import com.ourtime.repository.ImageVariantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 이미지 처리 결과(메타데이터와 변형)를 한 트랜잭션으로 기록합니다.
+ * <p>
+ * 처리 스레드에는 트랜잭션이 없으므로 별도 빈으로 분리했습니다. Image 행이 처리 완료 표시이므로
+ * 변형만 기록되고 Image 행이 빠지는 경우가 없어야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageRecorder {
+
+    private final ImageRepository imageRepository;
+    private final ImageVariantRepository imageVariantRepository;
+
+    /**
+     * 같은 URL이 이미 기록되어 있으면 DataIntegrityViolationException이 발생합니다. (호출 측에서 무시)
+     */
+    @Transactional
+    public void record(Image image, List<ImageVariant> variants) {
+        imageRepository.save(image);
+        imageVariantRepository.saveAll(variants);
+    }
+
+}
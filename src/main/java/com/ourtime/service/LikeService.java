@@ -3,14 +3,15 @@ package com.ourtime.service;
 import com.ourtime.domain.Like;
 import com.ourtime.domain.Memory;
 import com.ourtime.domain.User;
+import com.ourtime.event.LikeChangedEvent;
 import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import com.ourtime.repository.LikeRepository;
 import com.ourtime.repository.MemoryRepository;
-import com.ourtime.repository.UserGroupRepository;
 import com.ourtime.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +24,8 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final MemoryRepository memoryRepository;
     private final UserRepository userRepository;
-    private final UserGroupRepository userGroupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void toggleLike(Long memoryId, Long userId) {
@@ -34,14 +36,17 @@ public class LikeService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMORY_NOT_FOUND));
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, memory.getGroup().getId())) {
+        if (!groupMembershipCache.isMember(userId, memory.getGroup().getId())) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
         // 이미 좋아요를 눌렀는지 확인
         if (likeRepository.existsByMemoryIdAndUserId(memoryId, userId)) {
             // 좋아요 취소
-            likeRepository.deleteByMemoryIdAndUserId(memoryId, userId);
+            if (likeRepository.deleteByMemoryIdAndUserId(memoryId, userId) > 0) {
+                memoryRepository.decrementLikeCount(memoryId);
+                eventPublisher.publishEvent(new LikeChangedEvent(memoryId, memory.getGroup().getId(), userId, false));
+            }
             log.info("좋아요 취소: memory={}, user={}", memoryId, userId);
         } else {
             // 좋아요 추가
@@ -51,16 +56,16 @@ public class LikeService {
                     .build();
 
             likeRepository.save(like);
+            memoryRepository.incrementLikeCount(memoryId);
+            eventPublisher.publishEvent(new LikeChangedEvent(memoryId, memory.getGroup().getId(), userId, true));
             log.info("좋아요 추가: memory={}, user={}", memoryId, userId);
         }
     }
 
     public long getLikeCount(Long memoryId) {
-        if (!memoryRepository.existsById(memoryId)) {
-            throw new BusinessException(ErrorCode.MEMORY_NOT_FOUND);
-        }
-
-        return likeRepository.countByMemoryId(memoryId);
+        // 비정규화 카운터 조회 (likes 테이블 COUNT 없음)
+        return memoryRepository.findLikeCountById(memoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMORY_NOT_FOUND));
     }
 
     public boolean isLikedByUser(Long memoryId, Long userId) {
@@ -0,0 +1,106 @@
+package com.ourtime.service;
+
+import com.ourtime.dto.memory.MemoryClusterResponse;
+import com.ourtime.event.GroupContentDeletedEvent;
+import com.ourtime.event.MemoryChangedEvent;
+import com.ourtime.event.MemorySnapshot;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.index.GroupIndexCache;
+import com.ourtime.index.MarkerClusterIndex;
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.MemoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 줌 레벨별 추억 마커 클러스터링
+ * <p>
+ * 그룹별 MarkerClusterIndex를 처음 조회할 때 DB 좌표로 만들고, 이후에는 추억 생성/수정/삭제 이벤트를
+ * 커밋 후 증분 반영합니다. 최근에 조회된 그룹만 메모리에 유지합니다. (LRU)
+ * 인덱스 로딩이 holder 등록 이후의 스냅샷을 읽도록 조회 메서드는 트랜잭션 없이 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoryClusterService {
+
+    private static final int MAX_CACHED_GROUPS = 200;
+
+    private final MemoryRepository memoryRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+
+    private final GroupIndexCache<MarkerClusterIndex> indexes = new GroupIndexCache<>(MAX_CACHED_GROUPS);
+
+    /**
+     * 타일(zoom, x, y) 안의 마커 클러스터를 조회합니다. (타일당 최대 16개)
+     */
+    public List<MemoryClusterResponse> getClusters(Long groupId, Long userId, int zoom, int x, int y) {
+        validateTile(zoom, x, y);
+
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+
+        return indexes.read(groupId, this::load, index -> index.clusters(zoom, x, y).stream()
+                .map(MemoryClusterResponse::from)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 추억 좌표 변경을 이미 만들어진 인덱스에 반영합니다. (아직 조회되지 않은 그룹은 무시)
+     */
+    @TransactionalEventListener
+    public void onMemoryChanged(MemoryChangedEvent event) {
+        MemorySnapshot before = event.getBefore();
+        MemorySnapshot after = event.getAfter();
+
+        if (before != null && (after == null || !before.getGroupId().equals(after.getGroupId()))) {
+            indexes.update(before.getGroupId(), index -> index.remove(before.getId()));
+        }
+        if (after != null) {
+            indexes.update(after.getGroupId(), index -> index.put(after.getId(), after.getLatitude(), after.getLongitude()));
+        }
+    }
+
+    /**
+     * 그룹 삭제/회원 탈퇴로 cascade 삭제된 추억은 이벤트가 없으므로 인덱스를 버립니다.
+     */
+    @TransactionalEventListener
+    public void onGroupContentDeleted(GroupContentDeletedEvent event) {
+        event.getGroupIds().forEach(indexes::evict);
+    }
+
+    private MarkerClusterIndex load(long groupId) {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        for (Object[] row : memoryRepository.findLocationsByGroupId(groupId)) {
+            index.put((Long) row[0], (Double) row[1], (Double) row[2]);
+        }
+        log.debug("그룹 {} 마커 클러스터 인덱스 생성: {}개", groupId, index.size());
+        return index;
+    }
+
+    private void validateTile(int zoom, int x, int y) {
+        if (zoom < 0 || zoom > MarkerClusterIndex.MAX_ZOOM) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "zoom은 0 이상 " + MarkerClusterIndex.MAX_ZOOM + " 이하여야 합니다.");
+        }
+        int tiles = 1 << zoom;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "타일 좌표가 올바르지 않습니다.");
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.ourtime.service;
+
+import com.ourtime.dto.memory.CreateMemoryRequest;
+import com.ourtime.dto.memory.MemoryResponse;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추억 생성 (이미지 업로드와 DB 저장 분리)
+ * <p>
+ * 파일 업로드는 수 초가 걸릴 수 있으므로 트랜잭션 밖에서 먼저 올려 두고(1단계), 행 INSERT만 하는 짧은
+ * 트랜잭션(MemoryService.createMemory)으로 저장합니다(2단계). 업로드 중에는 DB 커넥션과 락을 잡지 않습니다.
+ * 2단계가 실패하면 올려 둔 이미지를 되돌립니다. (다른 업로드와 공유될 수 있는 내용 키는 저장소 GC가 정리)
+ * presigned URL로 클라이언트가 저장소에 직접 올린 이미지(imageKeys)는 1단계에서 업로드 여부만 확인합니다.
+ * <p>
+ * 업로드 동안 트랜잭션(과 그에 묶인 커넥션)이 열리지 않도록 @Transactional을 두지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoryCreationService {
+
+    private final MemoryService memoryService;
+    private final FileStorageService fileStorageService;
+
+    public MemoryResponse createMemory(Long userId, CreateMemoryRequest request) {
+        boolean hasImages = request.getImages() != null && !request.getImages().isEmpty();
+        boolean hasImageKeys = request.getImageKeys() != null && !request.getImageKeys().isEmpty();
+        if (hasImages && hasImageKeys) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미지 파일과 이미지 키를 함께 보낼 수 없습니다.");
+        }
+
+        memoryService.checkCreatable(userId, request.getGroupId());
+
+        // 1단계: 이미지 업로드 (동시 업로드, 순서 유지) 또는 presigned URL로 올라온 이미지 확인
+        List<String> imageUrls = new ArrayList<>();
+        if (hasImages) {
+            imageUrls = fileStorageService.uploadFiles(request.getImages(), "memories");
+        } else if (hasImageKeys) {
+            imageUrls = fileStorageService.verifyUploadedFiles(request.getImageKeys(), "memories", userId);
+        }
+
+        // 2단계: 행 저장 (실패하면 서버가 업로드한 이미지 삭제)
+        try {
+            return memoryService.createMemory(userId, request, imageUrls);
+        } catch (RuntimeException e) {
+            // 클라이언트가 직접 올린 이미지는 같은 키로 다시 시도할 수 있도록 남겨 둠
+            if (hasImages && !imageUrls.isEmpty()) {
+                log.warn("추억 저장 실패로 업로드한 이미지 {}개 삭제: {}", imageUrls.size(), e.getMessage());
+                fileStorageService.deleteFilesQuietly(imageUrls);
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.Memory;
+import com.ourtime.domain.MemoryTag;
+import com.ourtime.domain.Tag;
+import com.ourtime.domain.User;
+import com.ourtime.dto.memory.MemoryImageResponse;
+import com.ourtime.dto.memory.MemoryResponse;
+import com.ourtime.repository.ImageVariantRepository;
+import com.ourtime.repository.MemoryRepository;
+import com.ourtime.repository.MemoryTagRepository;
+import com.ourtime.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 추억 목록을 MemoryResponse 목록으로 일괄 변환합니다.
+ * <p>
+ * MemoryResponse.from은 추억마다 작성자/태그/이미지를 지연 로딩하므로 N+1 쿼리가 발생합니다.
+ * 여기서는 연관 데이터마다 IN 쿼리 한 번으로 모아 조회한 뒤 메모리에서 조립하므로,
+ * 페이지 크기와 무관하게 실행되는 쿼리 수가 일정합니다. 좋아요/댓글 수는 Memory의 카운터 컬럼을 사용하므로
+ * likes, comments 테이블은 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemoryResponseAssembler {
+
+    private final UserRepository userRepository;
+    private final MemoryRepository memoryRepository;
+    private final MemoryTagRepository memoryTagRepository;
+    private final ImageVariantRepository imageVariantRepository;
+
+    /**
+     * ID 목록 순서대로 추억을 조회해 변환합니다. (인덱스 반영 전에 삭제된 추억은 제외)
+     */
+    public List<MemoryResponse> toResponsesByIds(List<Long> memoryIds) {
+        Map<Long, Memory> found = memoryRepository.findAllById(memoryIds).stream()
+                .collect(Collectors.toMap(Memory::getId, Function.identity()));
+
+        List<Memory> memories = new ArrayList<>();
+        for (Long memoryId : memoryIds) {
+            Memory memory = found.get(memoryId);
+            if (memory != null) {
+                memories.add(memory);
+            }
+        }
+        return toResponses(memories);
+    }
+
+    public List<MemoryResponse> toResponses(List<Memory> memories) {
+        if (memories.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> memoryIds = memories.stream()
+                .map(Memory::getId)
+                .collect(Collectors.toList());
+
+        // 작성자 (지연 로딩 프록시의 ID만 사용하므로 추가 쿼리 없음)
+        Set<Long> userIds = new HashSet<>();
+        memories.forEach(memory -> userIds.add(memory.getUser().getId()));
+        Map<Long, User> authors = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 이미지 (표시 순서, 메타데이터는 처리 전이면 null)
+        List<Object[]> imageRows = memoryRepository.findImagesByMemoryIds(memoryIds);
+
+        // 이미지 변형 (원본 URL -> 너비별 URL)
+        Set<String> sourceUrls = new HashSet<>();
+        imageRows.forEach(row -> sourceUrls.add((String) row[1]));
+        Map<String, Map<Integer, String>> imageVariants = new HashMap<>();
+        if (!sourceUrls.isEmpty()) {
+            for (Object[] row : imageVariantRepository.findVariantUrlsBySourceUrls(sourceUrls)) {
+                imageVariants.computeIfAbsent((String) row[0], url -> new HashMap<>()).put((Integer) row[1], (String) row[2]);
+            }
+        }
+        Map<Long, List<MemoryImageResponse>> images = new HashMap<>();
+        for (Object[] row : imageRows) {
+            images.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(MemoryImageResponse.of(row, imageVariants.getOrDefault((String) row[1], Collections.emptyMap())));
+        }
+
+        // 태그
+        Map<Long, List<Tag>> tags = new HashMap<>();
+        for (MemoryTag memoryTag : memoryTagRepository.findAllWithTagByMemoryIds(memoryIds)) {
+            tags.computeIfAbsent(memoryTag.getMemory().getId(), id -> new ArrayList<>()).add(memoryTag.getTag());
+        }
+
+        return memories.stream()
+                .map(memory -> MemoryResponse.of(
+                        memory,
+                        authors.get(memory.getUser().getId()),
+                        images.getOrDefault(memory.getId(), new ArrayList<>()),
+                        tags.getOrDefault(memory.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.ourtime.service;
+
+import com.ourtime.dto.common.CursorResponse;
+import com.ourtime.dto.memory.MemoryResponse;
+import com.ourtime.event.CommentChangedEvent;
+import com.ourtime.event.GroupContentDeletedEvent;
+import com.ourtime.event.MemoryChangedEvent;
+import com.ourtime.event.MemorySnapshot;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.index.GroupIndexCache;
+import com.ourtime.index.TextSearchIndex;
+import com.ourtime.repository.CommentRepository;
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.MemoryRepository;
+import com.ourtime.util.SearchCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 범위 추억 전문 검색 (제목, 설명, 장소명, 댓글)
+ * <p>
+ * 그룹별 TextSearchIndex(n-gram 역색인)를 처음 검색할 때 만들고, 이후에는 추억/댓글 변경 이벤트를
+ * 커밋 후 증분 반영합니다. 검색 시 DB에는 결과 페이지의 추억만 ID로 조회하므로 LIKE '%..%' 스캔이 없습니다.
+ * 인덱스 로딩이 holder 등록 이후의 스냅샷을 읽도록 검색 메서드는 트랜잭션 없이 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemorySearchService {
+
+    private static final int MAX_CACHED_GROUPS = 200;
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    private final MemoryRepository memoryRepository;
+    private final CommentRepository commentRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+    private final MemoryResponseAssembler memoryResponseAssembler;
+
+    private final GroupIndexCache<TextSearchIndex> indexes = new GroupIndexCache<>(MAX_CACHED_GROUPS);
+
+    /**
+     * 그룹 추억을 검색합니다. (관련도 순, 커서 기반 페이징)
+     * <p>
+     * 커서에 첫 페이지의 점수 계산 기준(전체 문서 수, n-gram별 문서 빈도)과 마지막 결과의 (score, id)를 담고,
+     * 다음 페이지는 같은 기준으로 다시 검색해 그 뒤의 결과를 반환합니다. 서버에 결과를 보관하지 않으므로
+     * 결과 수에 제한이 없고 어느 인스턴스에서든 이어서 조회할 수 있습니다. 페이지 사이에 내용이 바뀐 추억만 순서가 달라집니다.
+     */
+    public CursorResponse<MemoryResponse> search(Long groupId, Long userId, String query, String cursor, int size) {
+        validateQuery(query);
+
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+
+        int pageSize = size <= 0 ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+        SearchCursor position = (cursor == null || cursor.isBlank()) ? null : SearchCursor.decode(cursor);
+        if (position != null && !position.getRanking().isFor(query)) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+
+        // 첫 페이지는 지금 색인 기준으로 점수 계산 기준을 정함 (이후 색인이 바뀌어도 이 기준으로 점수를 매김)
+        TextSearchIndex.Ranking ranking = position != null
+                ? position.getRanking()
+                : indexes.read(groupId, this::load, index -> index.ranking(query));
+        TextSearchIndex.Hit after = position != null ? position.toHit() : null;
+        // 다음 페이지 확인용으로 한 건 더 조회
+        List<TextSearchIndex.Hit> hits = indexes.read(groupId, this::load,
+                index -> index.search(query, ranking, after, pageSize + 1));
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+        List<Long> pageIds = hits.stream()
+                .map(TextSearchIndex.Hit::getMemoryId)
+                .collect(Collectors.toList());
+
+        // 관련도 순서 유지 (커밋 직후 아직 인덱스에 반영되지 않은 삭제 건은 제외)
+        String nextCursor = hasNext ? SearchCursor.of(hits.get(hits.size() - 1), ranking).encode() : null;
+        return CursorResponse.of(memoryResponseAssembler.toResponsesByIds(pageIds), nextCursor);
+    }
+
+    @TransactionalEventListener
+    public void onMemoryChanged(MemoryChangedEvent event) {
+        MemorySnapshot before = event.getBefore();
+        MemorySnapshot after = event.getAfter();
+
+        if (before != null && (after == null || !before.getGroupId().equals(after.getGroupId()))) {
+            indexes.update(before.getGroupId(), index -> index.removeMemory(before.getId()));
+        }
+        if (after != null) {
+            indexes.update(after.getGroupId(), index ->
+                    index.putMemory(after.getId(), after.getTitle(), after.getDescription(), after.getLocationName()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.isDeleted()) {
+            indexes.update(event.getGroupId(), index -> index.removeComment(event.getMemoryId(), event.getCommentId()));
+        } else {
+            indexes.update(event.getGroupId(), index ->
+                    index.putComment(event.getMemoryId(), event.getCommentId(), event.getContent()));
+        }
+    }
+
+    /**
+     * 그룹 삭제/회원 탈퇴로 cascade 삭제된 추억/댓글은 이벤트가 없으므로 인덱스를 버립니다.
+     */
+    @TransactionalEventListener
+    public void onGroupContentDeleted(GroupContentDeletedEvent event) {
+        event.getGroupIds().forEach(indexes::evict);
+    }
+
+    private TextSearchIndex load(long groupId) {
+        Map<Long, Map<Long, String>> comments = new HashMap<>();
+        for (Object[] row : commentRepository.findSearchFieldsByGroupId(groupId)) {
+            comments.computeIfAbsent((Long) row[1], id -> new HashMap<>()).put((Long) row[0], (String) row[2]);
+        }
+
+        TextSearchIndex index = new TextSearchIndex();
+        for (Object[] row : memoryRepository.findSearchFieldsByGroupId(groupId)) {
+            Long memoryId = (Long) row[0];
+            index.putMemory(memoryId, (String) row[1], (String) row[2], (String) row[3],
+                    comments.getOrDefault(memoryId, Collections.emptyMap()));
+        }
+        log.debug("그룹 {} 검색 인덱스 생성: {}개", groupId, index.size());
+        return index;
+    }
+
+    private void validateQuery(String query) {
+        if (query == null || query.length() > TextSearchIndex.MAX_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "검색어는 1자 이상 " + TextSearchIndex.MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        if (!TextSearchIndex.isSearchable(query)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색어에 글자 또는 숫자가 포함되어야 합니다.");
+        }
+    }
+
+}
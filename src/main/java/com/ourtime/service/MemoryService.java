@@ -1,22 +1,28 @@
 package com.ourtime.service;
 
 import com.ourtime.domain.*;
+import com.ourtime.dto.common.CursorResponse;
 import com.ourtime.dto.memory.CreateMemoryRequest;
 import com.ourtime.dto.memory.MemoryResponse;
 import com.ourtime.dto.memory.UpdateMemoryRequest;
+import com.ourtime.event.MemoryChangedEvent;
+import com.ourtime.event.MemorySnapshot;
 import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import com.ourtime.repository.*;
+import com.ourtime.util.MemoryCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,16 +30,46 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class MemoryService {
 
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 100;
+    private static final int DEFAULT_WITHIN_LIMIT = 500;
+    private static final int MAX_WITHIN_LIMIT = 1000;
+
     private final MemoryRepository memoryRepository;
     private final GroupRepository groupRepository;
     private final UserRepository userRepository;
     private final UserGroupRepository userGroupRepository;
+    private final GroupMembershipCache groupMembershipCache;
     private final TagRepository tagRepository;
     private final MemoryTagRepository memoryTagRepository;
-    private final S3Service s3Service;
+    private final MemoryResponseAssembler memoryResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 추억을 만들 수 있는지 확인합니다. 권한 없는 요청이 이미지를 올리지 않도록 업로드 전에 호출합니다.
+     */
+    public void checkCreatable(Long userId, Long groupId) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+    }
 
+    /**
+     * 추억 행을 저장합니다. 이미지는 이미 업로드된 URL만 받으므로 트랜잭션 안에서 외부 I/O를 하지 않습니다.
+     * (이미지 업로드를 포함한 생성은 MemoryCreationService)
+     */
     @Transactional
-    public MemoryResponse createMemory(Long userId, CreateMemoryRequest request) {
+    public MemoryResponse createMemory(Long userId, CreateMemoryRequest request, List<String> imageUrls) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -41,21 +77,10 @@ public class MemoryService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, request.getGroupId())) {
+        if (!groupMembershipCache.isMember(userId, request.getGroupId())) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
-        // 이미지 파일 업로드
-        List<String> imageUrls = new ArrayList<>();
-        if (request.getImages() != null && !request.getImages().isEmpty()) {
-            for (var image : request.getImages()) {
-                if (!image.isEmpty()) {
-                    String imageUrl = s3Service.uploadFile(image, "memories");
-                    imageUrls.add(imageUrl);
-                }
-            }
-        }
-
         // 추억 생성
         Memory memory = Memory.builder()
                 .group(group)
@@ -66,8 +91,8 @@ public class MemoryService {
                 .longitude(request.getLongitude())
                 .locationName(request.getLocationName())
                 .visitedAt(request.getVisitedAt())
-                .imageUrls(imageUrls)
                 .build();
+        imageUrls.forEach(memory::addImage);
 
         Memory savedMemory = memoryRepository.save(memory);
 
@@ -115,6 +140,8 @@ public class MemoryService {
                 savedMemory.getId(), savedMemory.getLocationName(), 
                 savedMemory.getMemoryTags().size(), userId);
 
+        eventPublisher.publishEvent(MemoryChangedEvent.created(MemorySnapshot.of(savedMemory)));
+
         return MemoryResponse.from(savedMemory);
     }
 
@@ -122,9 +149,34 @@ public class MemoryService {
         // 사용자가 속한 그룹들의 모든 메모리를 조회 (다른 사용자가 생성한 메모리도 포함)
         List<Memory> memories = memoryRepository.findAllByUserGroups(userId);
         log.debug("사용자 {}가 속한 그룹들의 메모리 {}개 조회", userId, memories.size());
-        return memories.stream()
-                .map(MemoryResponse::from)
-                .collect(Collectors.toList());
+        return memoryResponseAssembler.toResponses(memories);
+    }
+
+    /**
+     * 사용자가 속한 모든 그룹의 추억을 커서 기반으로 조회합니다.
+     * 한 번에 최대 size건만 메모리에 올리므로 접근 가능한 추억 수와 무관하게 힙 사용량이 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 100)
+     */
+    public CursorResponse<MemoryResponse> getMemoryFeedByUserId(Long userId, String cursor, int size) {
+        List<Long> groupIds = userGroupRepository.findGroupIdsByUserId(userId);
+        if (groupIds.isEmpty()) {
+            return CursorResponse.of(new ArrayList<>(), null);
+        }
+
+        int pageSize = normalizeFeedSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Memory> memories;
+        if (cursor == null || cursor.isBlank()) {
+            memories = memoryRepository.findFeedByGroupIds(groupIds, limit);
+        } else {
+            MemoryCursor position = MemoryCursor.decode(cursor);
+            memories = memoryRepository.findFeedByGroupIdsAfter(groupIds, position.getVisitedAt(), position.getId(), limit);
+        }
+
+        return toCursorResponse(memories, pageSize);
     }
 
     public MemoryResponse getMemoryById(Long memoryId, Long userId) {
@@ -132,11 +184,12 @@ public class MemoryService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMORY_NOT_FOUND));
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, memory.getGroup().getId())) {
+        if (!groupMembershipCache.isMember(userId, memory.getGroup().getId())) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
-        return MemoryResponse.from(memory);
+        // 썸네일 변형 포함
+        return memoryResponseAssembler.toResponses(List.of(memory)).get(0);
     }
 
     public Page<MemoryResponse> getMemoriesByGroupId(Long groupId, Long userId, Pageable pageable) {
@@ -146,12 +199,73 @@ public class MemoryService {
         }
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, groupId)) {
+        if (!groupMembershipCache.isMember(userId, groupId)) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
         Page<Memory> memories = memoryRepository.findAllByGroupId(groupId, pageable);
-        return memories.map(MemoryResponse::from);
+        List<MemoryResponse> content = memoryResponseAssembler.toResponses(memories.getContent());
+        return new PageImpl<>(content, memories.getPageable(), memories.getTotalElements());
+    }
+
+    /**
+     * 그룹 추억 피드를 커서 기반으로 조회합니다.
+     * OFFSET과 COUNT 없이 (visitedAt, id) 키셋으로 이어 읽기 때문에 스크롤 깊이와 무관하게 비용이 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 100)
+     */
+    public CursorResponse<MemoryResponse> getMemoryFeedByGroupId(Long groupId, Long userId, String cursor, int size) {
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+
+        int pageSize = normalizeFeedSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Memory> memories;
+        if (cursor == null || cursor.isBlank()) {
+            memories = memoryRepository.findFeedByGroupId(groupId, limit);
+        } else {
+            MemoryCursor position = MemoryCursor.decode(cursor);
+            memories = memoryRepository.findFeedByGroupIdAfter(groupId, position.getVisitedAt(), position.getId(), limit);
+        }
+
+        return toCursorResponse(memories, pageSize);
+    }
+
+    /**
+     * 지도 화면(경계 상자) 안에 있는 그룹 추억을 조회합니다.
+     * geo_cell 공간 인덱스의 범위 스캔으로 후보를 좁히므로 그룹의 전체 추억 수와 무관하게 빠르게 응답합니다.
+     *
+     * @param limit 최대 반환 개수 (최대 1000, 최근 방문 순)
+     */
+    public List<MemoryResponse> getMemoriesWithin(Long groupId, Long userId,
+                                                  double minLat, double maxLat,
+                                                  double minLng, double maxLng, int limit) {
+        validateBoundingBox(minLat, maxLat, minLng, maxLng);
+
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+
+        int size = limit <= 0 ? DEFAULT_WITHIN_LIMIT : Math.min(limit, MAX_WITHIN_LIMIT);
+        List<Memory> memories = memoryRepository.findAllByGroupIdWithin(
+                groupId, minLat, maxLat, minLng, maxLng, PageRequest.of(0, size));
+        return memoryResponseAssembler.toResponses(memories);
     }
 
     public List<MemoryResponse> getMemoriesByGroupIdAndTagId(Long groupId, Long tagId, Long userId) {
@@ -161,7 +275,7 @@ public class MemoryService {
         }
 
         // 그룹 멤버인지 확인
-        if (!userGroupRepository.existsByUserIdAndGroupId(userId, groupId)) {
+        if (!groupMembershipCache.isMember(userId, groupId)) {
             throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
         }
 
@@ -171,9 +285,7 @@ public class MemoryService {
         }
 
         List<Memory> memories = memoryRepository.findAllByGroupIdAndTagId(groupId, tagId);
-        return memories.stream()
-                .map(MemoryResponse::from)
-                .collect(Collectors.toList());
+        return memoryResponseAssembler.toResponses(memories);
     }
 
     @Transactional
@@ -186,6 +298,8 @@ public class MemoryService {
             throw new BusinessException(ErrorCode.NOT_MEMORY_OWNER);
         }
 
+        MemorySnapshot before = MemorySnapshot.of(memory);
+
         // 내용 업데이트
         memory.updateContent(request.getTitle(), request.getDescription(), 
                             request.getLocationName(), request.getVisitedAt());
@@ -201,6 +315,8 @@ public class MemoryService {
             List<MemoryTag> existingTags = memoryTagRepository.findAllByMemoryId(memoryId);
             existingTags.forEach(memoryTagRepository::delete);
             memory.getMemoryTags().clear();
+            // 같은 태그를 다시 추가할 때 유니크 제약에 걸리지 않도록 삭제를 먼저 반영
+            memoryTagRepository.flush();
 
             // tagNames로 태그 추가 (우선순위)
             if (request.getTagNames() != null && !request.getTagNames().isEmpty()) {
@@ -241,6 +357,8 @@ public class MemoryService {
 
         log.info("추억 업데이트: {} (위치: {}, 태그: {})", memoryId, memory.getLocationName(), memory.getMemoryTags().size());
 
+        eventPublisher.publishEvent(MemoryChangedEvent.updated(before, MemorySnapshot.of(memory)));
+
         return MemoryResponse.from(memory);
     }
 
@@ -254,8 +372,59 @@ public class MemoryService {
             throw new BusinessException(ErrorCode.NOT_MEMORY_OWNER);
         }
 
+        // 삭제 전에 발행 - 동기 리스너(통계)가 cascade로 함께 삭제될 댓글/좋아요를 집계에서 뺄 수 있도록
+        eventPublisher.publishEvent(MemoryChangedEvent.deleted(MemorySnapshot.of(memory)));
+
         memoryRepository.delete(memory);
         log.info("추억 삭제: {}", memoryId);
     }
 
+    /**
+     * 공간 인덱스 값(geo_cell)이 없는 기존 추억을 batchSize건씩 채웁니다.
+     *
+     * @return 이번에 처리한 건수 (0이면 완료)
+     */
+    @Transactional
+    public int backfillGeoCells(int batchSize) {
+        List<Memory> memories = memoryRepository.findAllByGeoCellIsNull(PageRequest.of(0, batchSize));
+        memories.forEach(Memory::refreshGeoCell);
+        return memories.size();
+    }
+
+    /**
+     * "N년 전 오늘" 인덱스 키(visited_month_day)가 없는 기존 추억을 batchSize건씩 채웁니다.
+     *
+     * @return 이번에 처리한 건수 (0이면 완료)
+     */
+    @Transactional
+    public int backfillVisitedMonthDays(int batchSize) {
+        List<Memory> memories = memoryRepository.findAllByVisitedMonthDayIsNull(PageRequest.of(0, batchSize));
+        memories.forEach(Memory::refreshVisitedMonthDay);
+        return memories.size();
+    }
+
+    private void validateBoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180
+                || minLat > maxLat || minLng > maxLng) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지도 영역 좌표가 올바르지 않습니다.");
+        }
+    }
+
+    private int normalizeFeedSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_FEED_SIZE;
+        }
+        return Math.min(size, MAX_FEED_SIZE);
+    }
+
+    private CursorResponse<MemoryResponse> toCursorResponse(List<Memory> memories, int pageSize) {
+        boolean hasNext = memories.size() > pageSize;
+        List<Memory> page = hasNext ? memories.subList(0, pageSize) : memories;
+
+        String nextCursor = hasNext ? MemoryCursor.of(page.get(page.size() - 1)).encode() : null;
+        List<MemoryResponse> content = memoryResponseAssembler.toResponses(page);
+
+        return CursorResponse.of(content, nextCursor);
+    }
+
 }
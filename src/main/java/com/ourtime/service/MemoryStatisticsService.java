@@ -0,0 +1,361 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.StatisticCount;
+import com.ourtime.domain.StatisticMetric;
+import com.ourtime.domain.StatisticScope;
+import com.ourtime.domain.Tag;
+import com.ourtime.domain.User;
+import com.ourtime.dto.statistics.GroupStatisticsResponse;
+import com.ourtime.dto.statistics.MemberStatisticResponse;
+import com.ourtime.dto.statistics.PlaceStatisticResponse;
+import com.ourtime.dto.statistics.TagStatisticResponse;
+import com.ourtime.dto.statistics.UserStatisticsResponse;
+import com.ourtime.dto.user.UserResponse;
+import com.ourtime.event.CommentChangedEvent;
+import com.ourtime.event.LikeChangedEvent;
+import com.ourtime.event.MemoryChangedEvent;
+import com.ourtime.event.MemorySnapshot;
+import com.ourtime.event.TagDeletedEvent;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.repository.CommentRepository;
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.LikeRepository;
+import com.ourtime.repository.StatisticCountRepository;
+import com.ourtime.repository.TagRepository;
+import com.ourtime.repository.UserRepository;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹/사용자 활동 통계 (추억/댓글/좋아요 수, 많이 쓴 태그, 자주 간 장소, 활발한 멤버)
+ * <p>
+ * statistic_counts에 항목별 개수를 미리 집계해 두고, 추억/댓글/좋아요 변경 시 같은 트랜잭션 안에서
+ * 원자적 UPSERT/UPDATE로 증분 반영합니다. (첫 행 생성도 같은 문장이므로 커넥션을 하나 더 쓰지 않음)
+ * 조회는 집계 행만 읽으며 memories/comments/likes를 집계하지 않습니다.
+ * cascade 삭제(그룹 삭제, 회원 탈퇴) 등으로 어긋난 값은 매일 밤 rebuild()로 보정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemoryStatisticsService {
+
+    private static final int TOP_TAGS = 10;
+    private static final int TOP_PLACES = 10;
+    private static final int TOP_MEMBERS = 5;
+
+    private static final EnumSet<StatisticMetric> MEMBER_METRICS =
+            EnumSet.of(StatisticMetric.MEMBER_MEMORIES, StatisticMetric.MEMBER_COMMENTS, StatisticMetric.MEMBER_LIKES);
+    private static final EnumSet<StatisticMetric> USER_TOTAL_METRICS =
+            EnumSet.of(StatisticMetric.MEMORIES, StatisticMetric.COMMENTS, StatisticMetric.LIKES);
+
+    private final StatisticCountRepository statisticCountRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final TagRepository tagRepository;
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+
+    public GroupStatisticsResponse getGroupStatistics(Long groupId, Long userId) {
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+
+        // 멤버별 활동 수 (그룹 멤버 수 x 3행 이내)
+        Map<Long, long[]> activities = new LinkedHashMap<>();
+        long[] totals = new long[3];
+        for (Object[] row : statisticCountRepository.findCounts(StatisticScope.GROUP, groupId, MEMBER_METRICS)) {
+            int index = countIndex((StatisticMetric) row[0]);
+            long count = (Long) row[2];
+            activities.computeIfAbsent(Long.valueOf((String) row[1]), id -> new long[3])[index] += count;
+            totals[index] += count;
+        }
+
+        List<Long> topMemberIds = activities.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Long, long[]> entry) -> -sum(entry.getValue()))
+                        .thenComparing(Map.Entry::getKey))
+                .limit(TOP_MEMBERS)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        Map<Long, User> users = userRepository.findAllById(topMemberIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<MemberStatisticResponse> topMembers = new ArrayList<>();
+        for (Long memberId : topMemberIds) {
+            User user = users.get(memberId);
+            if (user == null) {
+                continue; // 탈퇴한 회원 (재집계 전)
+            }
+            long[] counts = activities.get(memberId);
+            topMembers.add(MemberStatisticResponse.builder()
+                    .user(UserResponse.from(user))
+                    .memoryCount(counts[0])
+                    .commentCount(counts[1])
+                    .likeCount(counts[2])
+                    .build());
+        }
+
+        return GroupStatisticsResponse.builder()
+                .memoryCount(totals[0])
+                .commentCount(totals[1])
+                .likeCount(totals[2])
+                .placeCount(statisticCountRepository.countItems(StatisticScope.GROUP, groupId, StatisticMetric.PLACE_MEMORIES))
+                .topTags(getTopTags(StatisticScope.GROUP, groupId))
+                .topPlaces(getTopPlaces(StatisticScope.GROUP, groupId))
+                .topMembers(topMembers)
+                .build();
+    }
+
+    /**
+     * 사용자 본인의 활동 통계를 조회합니다. (모든 그룹 합계)
+     */
+    public UserStatisticsResponse getUserStatistics(Long userId) {
+        long[] totals = new long[3];
+        for (Object[] row : statisticCountRepository.findCounts(StatisticScope.USER, userId, USER_TOTAL_METRICS)) {
+            totals[countIndex((StatisticMetric) row[0])] = (Long) row[2];
+        }
+
+        return UserStatisticsResponse.builder()
+                .memoryCount(totals[0])
+                .commentCount(totals[1])
+                .likeCount(totals[2])
+                .placeCount(statisticCountRepository.countItems(StatisticScope.USER, userId, StatisticMetric.PLACE_MEMORIES))
+                .topTags(getTopTags(StatisticScope.USER, userId))
+                .topPlaces(getTopPlaces(StatisticScope.USER, userId))
+                .build();
+    }
+
+    /**
+     * 추억 생성/수정/삭제를 집계에 반영합니다. (발행한 트랜잭션 안에서 동기 실행)
+     * 삭제 이벤트는 추억이 실제로 삭제되기 전에 발행되므로, cascade로 함께 삭제될 댓글/좋아요도 여기서 뺍니다.
+     */
+    @EventListener
+    @Transactional
+    public void onMemoryChanged(MemoryChangedEvent event) {
+        Deltas deltas = new Deltas();
+        if (event.getBefore() != null) {
+            addMemory(deltas, event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            addMemory(deltas, event.getAfter(), 1);
+        }
+
+        if (event.getType() == MemoryChangedEvent.Type.DELETED) {
+            MemorySnapshot memory = event.getBefore();
+            for (Object[] row : commentRepository.countByUserIdForMemory(memory.getId())) {
+                addComment(deltas, memory.getGroupId(), (Long) row[0], -(Long) row[1]);
+            }
+            for (Object[] row : likeRepository.countByUserIdForMemory(memory.getId())) {
+                addLike(deltas, memory.getGroupId(), (Long) row[0], -(Long) row[1]);
+            }
+        }
+
+        // 변화 없는 항목(제목만 수정 등)은 쓰지 않음
+        deltas.values.forEach((key, delta) -> apply(key, delta));
+    }
+
+    @EventListener
+    @Transactional
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (!event.isCreated() && !event.isDeleted()) {
+            return; // 내용 수정
+        }
+        Deltas deltas = new Deltas();
+        addComment(deltas, event.getGroupId(), event.getUserId(), event.isCreated() ? 1 : -1);
+        deltas.values.forEach((key, delta) -> apply(key, delta));
+    }
+
+    @EventListener
+    @Transactional
+    public void onLikeChanged(LikeChangedEvent event) {
+        Deltas deltas = new Deltas();
+        addLike(deltas, event.getGroupId(), event.getUserId(), event.isLiked() ? 1 : -1);
+        deltas.values.forEach((key, delta) -> apply(key, delta));
+    }
+
+    @EventListener
+    @Transactional
+    public void onTagDeleted(TagDeletedEvent event) {
+        statisticCountRepository.deleteItems(StatisticMetric.TAG_MEMORIES, String.valueOf(event.getTagId()));
+    }
+
+    /**
+     * 추억/댓글/좋아요 테이블 기준으로 집계를 보정합니다. (최초 도입 시 백필, cascade 삭제 등으로 어긋난 집계 보정)
+     * <p>
+     * 집계를 비우고 다시 채우면 그 사이 커밋된 증분이 사라지므로, 한 스냅샷(REPEATABLE READ)에서 읽은 실제 수와
+     * 집계 값의 차이만 더합니다. 스냅샷 이후 커밋된 쓰기는 원본과 집계에 함께 반영되어 있으므로 결과는 최신 값과 같고,
+     * 보정할 행만 잠급니다.
+     *
+     * @return 보정한 행 수
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int rebuild() {
+        Deltas corrections = new Deltas();
+        addCounts(corrections, StatisticScope.GROUP, StatisticMetric.MEMBER_MEMORIES, statisticCountRepository.countGroupMemberMemories());
+        addCounts(corrections, StatisticScope.GROUP, StatisticMetric.MEMBER_COMMENTS, statisticCountRepository.countGroupMemberComments());
+        addCounts(corrections, StatisticScope.GROUP, StatisticMetric.MEMBER_LIKES, statisticCountRepository.countGroupMemberLikes());
+        addCounts(corrections, StatisticScope.GROUP, StatisticMetric.TAG_MEMORIES, statisticCountRepository.countGroupTags());
+        addCounts(corrections, StatisticScope.GROUP, StatisticMetric.PLACE_MEMORIES, statisticCountRepository.countGroupPlaces());
+        addCounts(corrections, StatisticScope.USER, StatisticMetric.MEMORIES, statisticCountRepository.countUserMemories());
+        addCounts(corrections, StatisticScope.USER, StatisticMetric.COMMENTS, statisticCountRepository.countUserComments());
+        addCounts(corrections, StatisticScope.USER, StatisticMetric.LIKES, statisticCountRepository.countUserLikes());
+        addCounts(corrections, StatisticScope.USER, StatisticMetric.TAG_MEMORIES, statisticCountRepository.countUserTags());
+        addCounts(corrections, StatisticScope.USER, StatisticMetric.PLACE_MEMORIES, statisticCountRepository.countUserPlaces());
+        for (Object[] row : statisticCountRepository.findAllCounts()) {
+            long count = ((Number) row[4]).longValue();
+            if (count != 0) {
+                corrections.add((StatisticScope) row[0], (Long) row[1], (StatisticMetric) row[2], (String) row[3], -count);
+            }
+        }
+
+        // DB가 같은 키로 보는 장소명(대소문자만 다름 등)은 여기서 다른 항목이어도 상대값이라 같은 행에서 합쳐짐
+        corrections.values.forEach((key, delta) -> statisticCountRepository.addCount(
+                key.scope.name(), key.scopeId, key.metric.name(), key.itemKey, delta));
+        return corrections.values.size();
+    }
+
+    public boolean isEmpty() {
+        return statisticCountRepository.count() == 0;
+    }
+
+    private List<TagStatisticResponse> getTopTags(StatisticScope scope, Long scopeId) {
+        List<Object[]> rows = statisticCountRepository.findTopItems(scope, scopeId, StatisticMetric.TAG_MEMORIES,
+                PageRequest.of(0, TOP_TAGS));
+        List<Long> tagIds = rows.stream()
+                .map(row -> Long.valueOf((String) row[0]))
+                .collect(Collectors.toList());
+        Map<Long, Tag> tags = tagRepository.findAllById(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+
+        List<TagStatisticResponse> topTags = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Tag tag = tags.get(tagIds.get(i));
+            if (tag != null) {
+                topTags.add(TagStatisticResponse.of(tag, (Long) rows.get(i)[1]));
+            }
+        }
+        return topTags;
+    }
+
+    private List<PlaceStatisticResponse> getTopPlaces(StatisticScope scope, Long scopeId) {
+        return statisticCountRepository.findTopItems(scope, scopeId, StatisticMetric.PLACE_MEMORIES,
+                        PageRequest.of(0, TOP_PLACES)).stream()
+                .map(row -> PlaceStatisticResponse.of((String) row[0], (Long) row[1]))
+                .collect(Collectors.toList());
+    }
+
+    private void addMemory(Deltas deltas, MemorySnapshot memory, long sign) {
+        Long groupId = memory.getGroupId();
+        Long userId = memory.getUserId();
+
+        deltas.add(StatisticScope.GROUP, groupId, StatisticMetric.MEMBER_MEMORIES, String.valueOf(userId), sign);
+        deltas.add(StatisticScope.USER, userId, StatisticMetric.MEMORIES, StatisticCount.TOTAL, sign);
+
+        for (Long tagId : memory.getTagIds()) {
+            deltas.add(StatisticScope.GROUP, groupId, StatisticMetric.TAG_MEMORIES, String.valueOf(tagId), sign);
+            deltas.add(StatisticScope.USER, userId, StatisticMetric.TAG_MEMORIES, String.valueOf(tagId), sign);
+        }
+
+        String place = StatisticCount.placeKey(memory.getLocationName());
+        if (place != null) {
+            deltas.add(StatisticScope.GROUP, groupId, StatisticMetric.PLACE_MEMORIES, place, sign);
+            deltas.add(StatisticScope.USER, userId, StatisticMetric.PLACE_MEMORIES, place, sign);
+        }
+    }
+
+    private void addComment(Deltas deltas, Long groupId, Long userId, long amount) {
+        deltas.add(StatisticScope.GROUP, groupId, StatisticMetric.MEMBER_COMMENTS, String.valueOf(userId), amount);
+        deltas.add(StatisticScope.USER, userId, StatisticMetric.COMMENTS, StatisticCount.TOTAL, amount);
+    }
+
+    private void addLike(Deltas deltas, Long groupId, Long userId, long amount) {
+        deltas.add(StatisticScope.GROUP, groupId, StatisticMetric.MEMBER_LIKES, String.valueOf(userId), amount);
+        deltas.add(StatisticScope.USER, userId, StatisticMetric.LIKES, StatisticCount.TOTAL, amount);
+    }
+
+    private void apply(Key key, long delta) {
+        if (delta < 0) {
+            if (statisticCountRepository.subtractCount(key.scope, key.scopeId, key.metric, key.itemKey, -delta) == 0) {
+                // 집계가 이미 어긋나 있음 (다음 rebuild에서 보정)
+                log.warn("통계 집계 행이 없어 감소하지 못했습니다 - scope: {}, scopeId: {}, metric: {}, item: {}",
+                        key.scope, key.scopeId, key.metric, key.itemKey);
+            }
+            return;
+        }
+        statisticCountRepository.addCount(key.scope.name(), key.scopeId, key.metric.name(), key.itemKey, delta);
+    }
+
+    // rows: [scopeId, itemKey, count]
+    private static void addCounts(Deltas deltas, StatisticScope scope, StatisticMetric metric, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            deltas.add(scope, ((Number) row[0]).longValue(), metric, (String) row[1], ((Number) row[2]).longValue());
+        }
+    }
+
+    // 추억/댓글/좋아요 수 배열의 위치
+    private static int countIndex(StatisticMetric metric) {
+        return switch (metric) {
+            case MEMBER_MEMORIES, MEMORIES -> 0;
+            case MEMBER_COMMENTS, COMMENTS -> 1;
+            case MEMBER_LIKES, LIKES -> 2;
+            default -> throw new IllegalArgumentException("활동 수 지표가 아닙니다: " + metric);
+        };
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 집계 항목별 증감 (수정 전/후 기여를 합쳐 0이 된 항목은 쓰지 않음)
+     */
+    private static final class Deltas {
+
+        private final Map<Key, Long> values = new LinkedHashMap<>();
+
+        private void add(StatisticScope scope, Long scopeId, StatisticMetric metric, String itemKey, long amount) {
+            values.merge(new Key(scope, scopeId, metric, itemKey), amount,
+                    (current, added) -> current + added == 0 ? null : current + added);
+        }
+
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+
+        private final StatisticScope scope;
+        private final Long scopeId;
+        private final StatisticMetric metric;
+        private final String itemKey;
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.ourtime.service;
+
+import com.ourtime.dto.common.CursorResponse;
+import com.ourtime.dto.memory.MemoryResponse;
+import com.ourtime.event.GroupContentDeletedEvent;
+import com.ourtime.event.MemoryChangedEvent;
+import com.ourtime.event.MemorySnapshot;
+import com.ourtime.event.TagDeletedEvent;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.index.GroupIndexCache;
+import com.ourtime.index.TagBitmapIndex;
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.MemoryRepository;
+import com.ourtime.repository.MemoryTagRepository;
+import com.ourtime.util.IdCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 태그의 AND/OR/NOT 조합으로 그룹 추억을 필터링합니다.
+ * <p>
+ * 그룹별 TagBitmapIndex를 처음 조회할 때 memory_tag 한 번 조회로 만들고, 이후에는 추억/태그 변경 이벤트를
+ * 커밋 후 증분 반영합니다. 필터링은 비트맵 연산으로 끝나며 DB에는 결과 페이지의 추억만 ID로 조회합니다.
+ * 인덱스 로딩이 holder 등록 이후의 스냅샷을 읽도록 필터 메서드는 트랜잭션 없이 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoryTagFilterService {
+
+    private static final int MAX_CACHED_GROUPS = 200;
+    private static final int MAX_FILTER_TAGS = 20;
+    private static final int DEFAULT_FILTER_SIZE = 20;
+    private static final int MAX_FILTER_SIZE = 100;
+
+    private final MemoryRepository memoryRepository;
+    private final MemoryTagRepository memoryTagRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+    private final MemoryResponseAssembler memoryResponseAssembler;
+
+    private final GroupIndexCache<TagBitmapIndex> indexes = new GroupIndexCache<>(MAX_CACHED_GROUPS);
+
+    /**
+     * 태그 조건에 맞는 그룹 추억을 최근 생성 순으로 조회합니다. (커서 기반 페이징)
+     *
+     * @param all  모두 가져야 하는 태그 ID (AND)
+     * @param any  하나 이상 가져야 하는 태그 ID (OR)
+     * @param none 가지면 안 되는 태그 ID (NOT)
+     */
+    public CursorResponse<MemoryResponse> filter(Long groupId, Long userId,
+                                                 List<Long> all, List<Long> any, List<Long> none,
+                                                 String cursor, int size) {
+        List<Long> allTags = all != null ? all : Collections.emptyList();
+        List<Long> anyTags = any != null ? any : Collections.emptyList();
+        List<Long> noneTags = none != null ? none : Collections.emptyList();
+        validateTags(allTags, anyTags, noneTags);
+
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+
+        int pageSize = size <= 0 ? DEFAULT_FILTER_SIZE : Math.min(size, MAX_FILTER_SIZE);
+        Long beforeId = (cursor == null || cursor.isBlank()) ? null : IdCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Long> memoryIds = indexes.read(groupId, this::load, index ->
+                TagBitmapIndex.page(index.filter(allTags, anyTags, noneTags), beforeId, pageSize + 1));
+
+        boolean hasNext = memoryIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? memoryIds.subList(0, pageSize) : memoryIds;
+
+        String nextCursor = hasNext ? IdCursor.encode(pageIds.get(pageIds.size() - 1)) : null;
+        return CursorResponse.of(memoryResponseAssembler.toResponsesByIds(pageIds), nextCursor);
+    }
+
+    @TransactionalEventListener
+    public void onMemoryChanged(MemoryChangedEvent event) {
+        MemorySnapshot before = event.getBefore();
+        MemorySnapshot after = event.getAfter();
+
+        if (before != null && (after == null || !before.getGroupId().equals(after.getGroupId()))) {
+            indexes.update(before.getGroupId(), index -> index.remove(before.getId()));
+        }
+        if (after != null) {
+            indexes.update(after.getGroupId(), index -> index.put(after.getId(), after.getTagIds()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTagDeleted(TagDeletedEvent event) {
+        indexes.updateAll(index -> index.removeTag(event.getTagId()));
+    }
+
+    /**
+     * 그룹 삭제/회원 탈퇴로 cascade 삭제된 추억은 이벤트가 없으므로 인덱스를 버립니다.
+     */
+    @TransactionalEventListener
+    public void onGroupContentDeleted(GroupContentDeletedEvent event) {
+        event.getGroupIds().forEach(indexes::evict);
+    }
+
+    private TagBitmapIndex load(long groupId) {
+        Map<Long, List<Long>> memoryTags = new HashMap<>();
+        for (Long memoryId : memoryRepository.findIdsByGroupId(groupId)) {
+            memoryTags.put(memoryId, new ArrayList<>());
+        }
+        for (Object[] row : memoryTagRepository.findMemoryTagIdsByGroupId(groupId)) {
+            memoryTags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        TagBitmapIndex index = new TagBitmapIndex();
+        memoryTags.forEach(index::put);
+        log.debug("그룹 {} 태그 비트맵 인덱스 생성: {}개", groupId, index.size());
+        return index;
+    }
+
+    private void validateTags(List<Long> all, List<Long> any, List<Long> none) {
+        int count = all.size() + any.size() + none.size();
+        if (count == 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "태그 조건(all, any, none)을 하나 이상 지정해야 합니다.");
+        }
+        if (count > MAX_FILTER_TAGS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "태그 조건은 최대 " + MAX_FILTER_TAGS + "개까지 지정할 수 있습니다.");
+        }
+    }
+
+}
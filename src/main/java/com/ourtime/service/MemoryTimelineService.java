@@ -0,0 +1,194 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.TimelineScope;
+import com.ourtime.dto.memory.TimelineBucketResponse;
+import com.ourtime.dto.memory.TimelineUnit;
+import com.ourtime.event.MemoryChangedEvent;
+import com.ourtime.event.MemorySnapshot;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.MemoryDayCountRepository;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 연/월/일 단위 추억 수 히스토그램 (캘린더 히트맵, 연/월 이동용)
+ * <p>
+ * memory_day_counts에 그룹별/작성자별 방문일 추억 수를 미리 집계해 두고, 추억 생성/날짜 변경/삭제 시
+ * 같은 트랜잭션 안에서 원자적 UPSERT/UPDATE로 증분 반영합니다. 조회는 기간에 상관없이 집계 테이블 쿼리 한 번입니다.
+ * 첫 행 생성도 같은 문장에서 하므로 쓰기 트랜잭션이 커넥션을 하나 더 쓰지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemoryTimelineService {
+
+    // 기간 미지정 시 전체 기간 (MySQL DATE 범위)
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final MemoryDayCountRepository memoryDayCountRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+
+    public List<TimelineBucketResponse> getGroupTimeline(Long groupId, Long userId, TimelineUnit unit,
+                                                         LocalDate from, LocalDate to) {
+        // 그룹 존재 확인
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        // 그룹 멤버인지 확인
+        if (!groupMembershipCache.isMember(userId, groupId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER);
+        }
+
+        return getTimeline(TimelineScope.GROUP, groupId, unit, from, to);
+    }
+
+    /**
+     * 사용자가 작성한 추억의 히스토그램을 조회합니다.
+     */
+    public List<TimelineBucketResponse> getUserTimeline(Long userId, TimelineUnit unit, LocalDate from, LocalDate to) {
+        return getTimeline(TimelineScope.USER, userId, unit, from, to);
+    }
+
+    /**
+     * 추억 생성/수정/삭제를 집계에 반영합니다. (발행한 트랜잭션 안에서 동기 실행)
+     */
+    @EventListener
+    @Transactional
+    public void onMemoryChanged(MemoryChangedEvent event) {
+        MemorySnapshot before = event.getBefore();
+        MemorySnapshot after = event.getAfter();
+
+        // 방문일/그룹/작성자가 그대로인 수정은 집계 변화 없음
+        if (before != null && after != null
+                && Objects.equals(dayOf(before), dayOf(after))
+                && before.getGroupId().equals(after.getGroupId())
+                && before.getUserId().equals(after.getUserId())) {
+            return;
+        }
+
+        if (before != null) {
+            decrement(TimelineScope.GROUP, before.getGroupId(), dayOf(before));
+            decrement(TimelineScope.USER, before.getUserId(), dayOf(before));
+        }
+        if (after != null) {
+            increment(TimelineScope.GROUP, after.getGroupId(), dayOf(after));
+            increment(TimelineScope.USER, after.getUserId(), dayOf(after));
+        }
+    }
+
+    /**
+     * memories 테이블 기준으로 집계를 보정합니다. (최초 도입 시 백필, cascade 삭제 등으로 어긋난 집계 보정)
+     * <p>
+     * 집계를 비우고 다시 채우면 그 사이 커밋된 증분이 사라지므로, 한 스냅샷에서 읽은 실제 수와 집계 값의 차이만 더합니다.
+     * 스냅샷 이후 커밋된 쓰기는 추억과 집계에 함께 반영되어 있으므로 차이를 더한 결과는 최신 추억 수와 같습니다.
+     * 보정할 행만 잠그므로 증분 갱신을 막지 않습니다.
+     *
+     * @return 보정한 행 수
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int rebuild() {
+        Map<DayKey, Long> corrections = new LinkedHashMap<>();
+        addCounts(corrections, TimelineScope.GROUP, memoryDayCountRepository.countGroupMemories(), 1);
+        addCounts(corrections, TimelineScope.USER, memoryDayCountRepository.countUserMemories(), 1);
+        for (TimelineScope scope : TimelineScope.values()) {
+            addCounts(corrections, scope, memoryDayCountRepository.findAllCounts(scope), -1);
+        }
+
+        corrections.forEach((key, amount) ->
+                memoryDayCountRepository.addCount(key.scope.name(), key.scopeId, key.bucketDate, Math.toIntExact(amount)));
+        return corrections.size();
+    }
+
+    public boolean isEmpty() {
+        return memoryDayCountRepository.count() == 0;
+    }
+
+    private List<TimelineBucketResponse> getTimeline(TimelineScope scope, Long scopeId, TimelineUnit unit,
+                                                     LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : MIN_DATE;
+        LocalDate end = to != null ? to : MAX_DATE;
+        if (start.isAfter(end)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        List<TimelineBucketResponse> buckets = new ArrayList<>();
+        switch (unit) {
+            case DAY -> {
+                for (Object[] row : memoryDayCountRepository.findDayBuckets(scope, scopeId, start, end)) {
+                    buckets.add(TimelineBucketResponse.of(row[0].toString(), ((Number) row[1]).longValue()));
+                }
+            }
+            case MONTH -> {
+                for (Object[] row : memoryDayCountRepository.findMonthBuckets(scope, scopeId, start, end)) {
+                    String bucket = String.format("%04d-%02d", ((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+                    buckets.add(TimelineBucketResponse.of(bucket, ((Number) row[2]).longValue()));
+                }
+            }
+            case YEAR -> {
+                for (Object[] row : memoryDayCountRepository.findYearBuckets(scope, scopeId, start, end)) {
+                    String bucket = String.format("%04d", ((Number) row[0]).intValue());
+                    buckets.add(TimelineBucketResponse.of(bucket, ((Number) row[1]).longValue()));
+                }
+            }
+        }
+        return buckets;
+    }
+
+    private void increment(TimelineScope scope, Long scopeId, LocalDate day) {
+        if (day == null) {
+            return;
+        }
+        memoryDayCountRepository.addCount(scope.name(), scopeId, day, 1);
+    }
+
+    private void decrement(TimelineScope scope, Long scopeId, LocalDate day) {
+        if (day != null && memoryDayCountRepository.decrementCount(scope, scopeId, day) == 0) {
+            // 집계가 이미 어긋나 있음 (다음 rebuild에서 보정)
+            log.warn("타임라인 집계 행이 없어 감소하지 못했습니다 - scope: {}, scopeId: {}, date: {}", scope, scopeId, day);
+        }
+    }
+
+    private static LocalDate dayOf(MemorySnapshot snapshot) {
+        return snapshot.getVisitedAt() != null ? snapshot.getVisitedAt().toLocalDate() : null;
+    }
+
+    // rows: [scopeId, bucketDate, count], 합이 0이 된 항목은 보정하지 않음
+    private static void addCounts(Map<DayKey, Long> corrections, TimelineScope scope, List<Object[]> rows, int sign) {
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            if (count != 0) {
+                corrections.merge(new DayKey(scope, (Long) row[0], (LocalDate) row[1]), sign * count,
+                        (current, added) -> current + added == 0 ? null : current + added);
+            }
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class DayKey {
+
+        private final TimelineScope scope;
+        private final Long scopeId;
+        private final LocalDate bucketDate;
+
+    }
+
+}
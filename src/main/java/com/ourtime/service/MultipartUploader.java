@@ -0,0 +1,381 @@
+package com.ourtime.service;
+
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import com.ourtime.storage.StorageBackend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 입력 스트림을 저장소 멀티파트 업로드로 나눠 올립니다.
+ * <p>
+ * 스트림을 part-size 단위로 읽어 파트마다 병렬로 업로드하므로 파일 전체를 힙이나 임시 파일에 담지 않습니다.
+ * 버퍼는 서버 전체 바이트 예산(part-size x max-buffers) 안에서만 잡고, 업로드 하나가 동시에 붙잡는 버퍼는
+ * parts-in-flight개로 제한합니다. 멀티파트는 한 파트보다 큰 본문에만 쓰고, 한 파트 이하의 파일은 putObject 한 번으로 올립니다.
+ * 크기를 미리 알면(MultipartFile 크기, Content-Length) 한 파트 이하 파일은 그 크기만큼만 버퍼를 잡으므로,
+ * 작은 이미지 업로드가 파트 크기(8MB) 버퍼를 기다리거나 예산을 차지하지 않습니다.
+ * <p>
+ * 읽으면서 SHA-256을 계산하고, 저장 위치는 해시가 정해진 뒤 ContentTarget이 정합니다. 같은 내용이 이미 있으면
+ * 한 파트 이하의 파일은 쓰지 않고 끝나고, 더 큰 파일은 staging/ 아래 멀티파트 업로드를 완료하지 않고 취소합니다.
+ */
+@Slf4j
+@Component
+public class MultipartUploader {
+
+    // S3 제약: 마지막 파트를 제외한 모든 파트는 5MB 이상 (로컬 저장소도 같은 조건으로 동작)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    // 해시를 알기 전에 시작하는 멀티파트 업로드의 임시 위치 (완료 후 내용 키로 복사)
+    public static final String STAGING_PREFIX = "staging/";
+
+    private final StorageBackend storageBackend;
+    @Getter
+    private final int partSize;
+    private final int partsInFlight;
+
+    // 버퍼 바이트 예산 (KB 단위 허가)
+    private final Semaphore bufferPermits;
+    // 파트 크기 버퍼만 재사용 (작은 파일 버퍼는 크기가 제각각이므로 쓰고 버림)
+    private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+
+    // 제출된 파트는 항상 버퍼를 하나씩 쥐고 있으므로 큐가 가득 찰 일은 없음
+    private final ThreadPoolExecutor partExecutor;
+
+    public MultipartUploader(StorageBackend storageBackend,
+                             @Value("${upload.multipart.part-size:8388608}") int partSize,
+                             @Value("${upload.multipart.parts-in-flight:4}") int partsInFlight,
+                             @Value("${upload.multipart.max-buffers:16}") int maxBuffers) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("upload.multipart.part-size는 5MB 이상이어야 합니다: " + partSize);
+        }
+        this.storageBackend = storageBackend;
+        this.partSize = partSize;
+        this.partsInFlight = Math.min(partsInFlight, maxBuffers);
+        this.bufferPermits = new Semaphore(kilobytes((long) partSize * maxBuffers), true);
+        this.partExecutor = new ThreadPoolExecutor(
+                maxBuffers, maxBuffers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxBuffers),
+                new CustomizableThreadFactory("upload-part-"));
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 내용 해시로 정한 키에 업로드합니다. 같은 내용이 이미 있으면 그 키를 반환합니다.
+     * maxSize를 넘거나 업로드가 실패하면 진행 중인 멀티파트 업로드를 취소하므로 저장소에 남는 객체가 없습니다.
+     *
+     * @param size 본문 크기 (모르면 -1)
+     */
+    public Uploaded upload(InputStream in, long size, String contentType, long maxSize, ContentTarget target) {
+        if (size > maxSize) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        MessageDigest digest = sha256();
+        Semaphore uploadPermits = new Semaphore(partsInFlight);
+        // 한 파트 이하로 크기를 알면 그 크기만큼만, 아니면 파트 크기 버퍼로 첫 파트를 읽음
+        boolean knownSinglePart = size >= 0 && size <= partSize;
+        PushbackInputStream body = new PushbackInputStream(in, 1);
+        byte[] first = acquireBuffer(knownSinglePart ? (int) size : partSize, uploadPermits);
+        int length = readPart(body, first, uploadPermits, digest);
+
+        // 버퍼를 다 채웠고 본문이 남아 있을 때만 멀티파트
+        if (length == first.length && hasMore(body, first, uploadPermits)) {
+            if (knownSinglePart) {
+                releaseBuffer(first, uploadPermits);
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일 크기가 요청한 크기와 다릅니다.");
+            }
+            return uploadParts(body, contentType, maxSize, target, digest, first, uploadPermits);
+        }
+
+        try {
+            if (length == 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일이 비어있습니다.");
+            }
+            if (length > maxSize) {
+                throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            String existingKey = target.reuseExisting(contentHash);
+            if (existingKey != null) {
+                return new Uploaded(existingKey, contentHash, length, false);
+            }
+
+            String key = target.keyFor(contentHash);
+            storageBackend.putObject(key, first, length, contentType, null);
+            return new Uploaded(key, contentHash, length, true);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("파일 업로드 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        } finally {
+            releaseBuffer(first, uploadPermits);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        partExecutor.shutdown();
+        if (!partExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            partExecutor.shutdownNow();
+        }
+    }
+
+    private Uploaded uploadParts(InputStream in, String contentType, long maxSize, ContentTarget target,
+                                 MessageDigest digest, byte[] first, Semaphore uploadPermits) {
+        String key = STAGING_PREFIX + UUID.randomUUID();
+        String uploadId;
+        try {
+            uploadId = storageBackend.createMultipartUpload(key, contentType);
+        } catch (RuntimeException e) {
+            releaseBuffer(first, uploadPermits);
+            log.error("멀티파트 업로드 시작 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        List<Future<String>> parts = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        long total = 0;
+        String contentHash;
+        try {
+            byte[] buffer = first;
+            int length = partSize;
+            while (true) {
+                total += length;
+                if (total > maxSize) {
+                    releaseBuffer(buffer, uploadPermits);
+                    throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
+                }
+                parts.add(submitPart(key, uploadId, parts.size() + 1, buffer, length, uploadPermits, failed));
+
+                // 짧은 파트는 스트림의 끝, 앞선 파트가 실패했으면 더 읽지 않음
+                if (length < partSize || failed.get()) {
+                    break;
+                }
+                buffer = acquireBuffer(partSize, uploadPermits);
+                length = readPart(in, buffer, uploadPermits, digest);
+                if (length == 0) {
+                    releaseBuffer(buffer, uploadPermits);
+                    break;
+                }
+            }
+
+            // 앞선 파트가 실패해 중간에 멈췄으면 해시가 본문 앞부분의 것이므로 같은 내용 재사용을 확인하지 않고 바로 취소
+            if (failed.get()) {
+                for (Future<String> part : parts) {
+                    FileStorageService.getUninterruptibly(part); // 실패한 파트의 예외를 던짐
+                }
+                throw new IllegalStateException("파트 업로드 실패");
+            }
+
+            // 같은 내용이 이미 있으면 완료하지 않고 취소 (올라간 파트는 객체가 되지 않음, 대기 중인 파트는 건너뜀)
+            contentHash = HexFormat.of().formatHex(digest.digest());
+            String existingKey = target.reuseExisting(contentHash);
+            if (existingKey != null) {
+                failed.set(true);
+                abortQuietly(key, uploadId, parts);
+                return new Uploaded(existingKey, contentHash, total, false);
+            }
+
+            List<String> eTags = new ArrayList<>();
+            for (Future<String> part : parts) {
+                eTags.add(FileStorageService.getUninterruptibly(part));
+            }
+            storageBackend.completeMultipartUpload(key, uploadId, eTags);
+            log.debug("멀티파트 업로드 완료: {} ({}개 파트, {} bytes)", key, eTags.size(), total);
+        } catch (ExecutionException | RuntimeException e) {
+            failed.set(true);
+            abortQuietly(key, uploadId, parts);
+            if (e instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.error("멀티파트 업로드 실패: {} ({})", key, cause.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        return new Uploaded(moveStaged(key, target.keyFor(contentHash)), contentHash, total, true);
+    }
+
+    private Future<String> submitPart(String key, String uploadId, int partNumber,
+                                      byte[] buffer, int length, Semaphore uploadPermits, AtomicBoolean failed) {
+        try {
+            return partExecutor.submit(() -> {
+                try {
+                    // 다른 파트가 이미 실패했으면 어차피 취소될 업로드이므로 건너뜀
+                    if (failed.get()) {
+                        throw new IllegalStateException("앞선 파트 업로드 실패");
+                    }
+                    return storageBackend.uploadPart(key, uploadId, partNumber, buffer, length);
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                } finally {
+                    releaseBuffer(buffer, uploadPermits);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 종료 중이라 제출되지 않은 경우
+            releaseBuffer(buffer, uploadPermits);
+            throw e;
+        }
+    }
+
+    private String moveStaged(String stagingKey, String key) {
+        try {
+            storageBackend.copyObject(stagingKey, key);
+        } catch (RuntimeException e) {
+            deleteQuietly(stagingKey);
+            log.error("업로드 파일 이동 실패: {} ({})", key, e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        deleteQuietly(stagingKey);
+        return key;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storageBackend.deleteObject(key);
+        } catch (RuntimeException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    // 진행 중인 파트가 끝난 뒤에 취소해야 저장소에 파트가 남지 않음
+    private void abortQuietly(String key, String uploadId, List<Future<String>> parts) {
+        for (Future<String> part : parts) {
+            try {
+                FileStorageService.getUninterruptibly(part);
+            } catch (ExecutionException e) {
+                // 실패한 파트는 취소 대상
+            }
+        }
+        try {
+            storageBackend.abortMultipartUpload(key, uploadId);
+        } catch (RuntimeException e) {
+            log.warn("멀티파트 업로드 취소 실패: {} ({})", key, e.getMessage());
+        }
+    }
+
+    // 버퍼를 다 채울 때까지 읽음 (스트림 끝이면 더 적게 읽힘)
+    private int readPart(InputStream in, byte[] buffer, Semaphore uploadPermits, MessageDigest digest) {
+        try {
+            int length = in.readNBytes(buffer, 0, buffer.length);
+            digest.update(buffer, 0, length);
+            return length;
+        } catch (IOException e) {
+            releaseBuffer(buffer, uploadPermits);
+            log.error("업로드 스트림 읽기 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    // 버퍼를 채운 뒤 본문이 더 있는지 한 바이트 읽어 확인 (읽은 바이트는 되돌림)
+    private boolean hasMore(PushbackInputStream in, byte[] buffer, Semaphore uploadPermits) {
+        try {
+            int next = in.read();
+            if (next == -1) {
+                return false;
+            }
+            in.unread(next);
+            return true;
+        } catch (IOException e) {
+            releaseBuffer(buffer, uploadPermits);
+            log.error("업로드 스트림 읽기 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private byte[] acquireBuffer(int size, Semaphore uploadPermits) {
+        boolean uploadPermitAcquired = false;
+        try {
+            uploadPermits.acquire();
+            uploadPermitAcquired = true;
+            bufferPermits.acquire(kilobytes(size));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (uploadPermitAcquired) {
+                uploadPermits.release();
+            }
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        if (size != partSize) {
+            return new byte[size];
+        }
+        byte[] buffer = freeBuffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer, Semaphore uploadPermits) {
+        if (buffer.length == partSize) {
+            freeBuffers.offer(buffer);
+        }
+        bufferPermits.release(kilobytes(buffer.length));
+        uploadPermits.release();
+    }
+
+    private static int kilobytes(long bytes) {
+        return (int) Math.min((bytes + 1023) / 1024, Integer.MAX_VALUE);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 내용 해시로 저장 위치를 정합니다.
+     */
+    public interface ContentTarget {
+
+        /**
+         * 같은 내용이 이미 저장되어 있으면 사용 시각을 갱신하고 그 키를 반환합니다. (없으면 null)
+         */
+        String reuseExisting(String contentHash);
+
+        /**
+         * 새 내용을 올릴 키
+         */
+        String keyFor(String contentHash);
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Uploaded {
+
+        private final String key;
+        // SHA-256 (hex)
+        private final String contentHash;
+        private final long size;
+        // false면 이미 있던 객체를 사용 (저장소에 새로 쓰지 않음)
+        private final boolean created;
+
+    }
+
+}
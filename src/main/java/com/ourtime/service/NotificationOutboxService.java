@@ -0,0 +1,160 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.NotificationOutbox;
+import com.ourtime.domain.NotificationStatus;
+import com.ourtime.domain.NotificationType;
+import com.ourtime.dto.memory.MemoryReminder;
+import com.ourtime.repository.NotificationOutboxRepository;
+import com.ourtime.repository.UserGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 기록/선점/결과 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationOutboxService {
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    // 선점 후 이 시간 안에 결과가 반영되지 않으면 다시 전송 대기로
+    private static final long LEASE_MINUTES = 5;
+    // IN 절 크기 제한
+    private static final int DEDUP_CHECK_SIZE = 1000;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserGroupRepository userGroupRepository;
+
+    /**
+     * 리마인더 대상 추억을 그룹 멤버별 알림으로 펼쳐 아웃박스에 기록합니다.
+     * 같은 날 같은 추억/수신자 알림이 이미 있으면 건너뜁니다.
+     *
+     * @return 새로 기록한 알림 수
+     */
+    @Transactional
+    public int enqueueReminders(List<MemoryReminder> reminders, LocalDate date) {
+        if (reminders.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> groupIds = reminders.stream()
+                .map(MemoryReminder::getGroupId)
+                .collect(Collectors.toSet());
+        Map<Long, List<Long>> members = new HashMap<>();
+        for (Object[] row : userGroupRepository.findMembersByGroupIds(groupIds)) {
+            members.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> candidates = new ArrayList<>();
+        for (MemoryReminder reminder : reminders) {
+            int yearsAgo = date.getYear() - reminder.getVisitedAt().getYear();
+            String message = yearsAgo + "년 전 오늘의 추억: " + reminder.getTitle();
+            for (Long recipientId : members.getOrDefault(reminder.getGroupId(), Collections.emptyList())) {
+                candidates.add(NotificationOutbox.builder()
+                        .recipientId(recipientId)
+                        .type(NotificationType.MEMORY_REMINDER)
+                        .memoryId(reminder.getMemoryId())
+                        .groupId(reminder.getGroupId())
+                        .message(message)
+                        .dedupKey(NotificationType.MEMORY_REMINDER + ":" + date + ":" + reminder.getMemoryId() + ":" + recipientId)
+                        .nextAttemptAt(now)
+                        .build());
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        List<String> dedupKeys = candidates.stream()
+                .map(NotificationOutbox::getDedupKey)
+                .collect(Collectors.toList());
+        for (int from = 0; from < dedupKeys.size(); from += DEDUP_CHECK_SIZE) {
+            List<String> keys = dedupKeys.subList(from, Math.min(from + DEDUP_CHECK_SIZE, dedupKeys.size()));
+            existing.addAll(notificationOutboxRepository.findDedupKeysIn(keys));
+        }
+
+        List<NotificationOutbox> notifications = candidates.stream()
+                .filter(notification -> !existing.contains(notification.getDedupKey()))
+                .collect(Collectors.toList());
+        notificationOutboxRepository.saveAll(notifications);
+        return notifications.size();
+    }
+
+    /**
+     * 전송할 때가 된 알림을 최대 limit건 선점합니다.
+     */
+    @Transactional
+    public List<NotificationOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        int released = notificationOutboxRepository.releaseExpired(now);
+        if (released > 0) {
+            log.warn("임대 만료된 알림 {}건을 전송 대기로 복구", released);
+        }
+
+        List<Long> ids = notificationOutboxRepository.findDueIds(now, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // DB 시각 정밀도(마이크로초)와 무관하게 같은 값으로 비교되도록 밀리초로 자름
+        LocalDateTime leaseUntil = now.plusMinutes(LEASE_MINUTES).truncatedTo(ChronoUnit.MILLIS);
+        notificationOutboxRepository.claim(ids, leaseUntil);
+        return notificationOutboxRepository.findClaimed(ids, leaseUntil);
+    }
+
+    @Transactional
+    public void markSent(Long notificationId) {
+        notificationOutboxRepository.markSent(notificationId, LocalDateTime.now());
+    }
+
+    /**
+     * 전송 실패를 기록합니다. 최대 재시도 전이면 지수 백오프(1, 2, 4, 8분) 후 다시 전송합니다.
+     * 최대 재시도를 넘겨 FAILED가 되면 다음 시도가 없으므로 next_attempt_at에 실패 시각을 남겨 보관 기간 기준으로 씁니다.
+     *
+     * @param attempts 이번 시도를 포함한 시도 횟수
+     */
+    @Transactional
+    public void markFailed(Long notificationId, int attempts, String error) {
+        NotificationStatus status = attempts >= MAX_ATTEMPTS ? NotificationStatus.FAILED : NotificationStatus.PENDING;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextAttemptAt = status == NotificationStatus.FAILED
+                ? now
+                : now.plusMinutes(1L << Math.max(0, attempts - 1));
+        String lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        notificationOutboxRepository.markAttemptFailed(notificationId, status, nextAttemptAt, lastError);
+    }
+
+    /**
+     * 보관 기간이 지난 전송 완료 알림을 삭제합니다.
+     */
+    @Transactional
+    public int purgeSent(LocalDateTime before) {
+        return notificationOutboxRepository.deleteSentBefore(before);
+    }
+
+    /**
+     * 최대 재시도를 넘긴 뒤 보관 기간이 지난 실패 알림을 삭제합니다.
+     */
+    @Transactional
+    public int purgeFailed(LocalDateTime before) {
+        return notificationOutboxRepository.deleteFailedBefore(before);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.RefreshTokenFamily;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.repository.RefreshTokenFamilyRepository;
+import com.ourtime.security.JwtTokenProvider;
+import com.ourtime.security.RevokedTokenFamilies;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 패밀리 저장소 (1회용 회전 + 폐기)
+ * <p>
+ * 폐기는 DB(refresh_token_families.revoked_at)에 기록하는 동시에 RevokedTokenFamilies에 바로 반영하므로,
+ * 같은 인스턴스에서는 다음 요청부터 액세스 토큰이 거절됩니다. 다른 인스턴스는 RefreshTokenScheduler가
+ * 주기적으로 최근 폐기분을 읽어 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final RevokedTokenFamilies revokedTokenFamilies;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 로그인 시 새 패밀리를 시작합니다.
+     */
+    @Transactional
+    public RefreshTokenFamily startFamily(Long userId) {
+        return refreshTokenFamilyRepository.save(RefreshTokenFamily.builder()
+                .familyId(UUID.randomUUID().toString())
+                .userId(userId)
+                .currentTokenId(UUID.randomUUID().toString())
+                .expiresAt(nextExpiry())
+                .build());
+    }
+
+    /**
+     * 제시된 리프레시 토큰을 새 토큰 ID로 교체하고, 새 토큰 ID를 반환합니다.
+     * 이미 교체된 토큰이 다시 사용되면 패밀리 전체를 폐기합니다. (폐기는 예외와 함께 커밋되어야 하므로 롤백하지 않음)
+     *
+     * @throws BusinessException 패밀리가 없거나 폐기된 경우, 재사용이 감지된 경우
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public String rotate(String familyId, String tokenId, LocalDateTime expiresAt) {
+        RefreshTokenFamily family = refreshTokenFamilyRepository.findByFamilyId(familyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_TOKEN));
+        if (family.isRevoked()) {
+            throw new BusinessException(ErrorCode.REVOKED_TOKEN);
+        }
+
+        String nextTokenId = UUID.randomUUID().toString();
+        if (refreshTokenFamilyRepository.rotate(familyId, tokenId, nextTokenId, expiresAt, LocalDateTime.now()) == 0) {
+            // 이미 교체된 토큰의 재사용 (또는 같은 토큰으로 동시에 갱신) - 탈취로 보고 패밀리 폐기
+            log.warn("리프레시 토큰 재사용 감지, 패밀리 폐기: user={}, family={}", family.getUserId(), familyId);
+            revoke(familyId, family.getExpiresAt());
+            throw new BusinessException(ErrorCode.REVOKED_TOKEN);
+        }
+        return nextTokenId;
+    }
+
+    /**
+     * 패밀리 하나를 폐기합니다. (로그아웃)
+     */
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenFamilyRepository.findByFamilyId(familyId)
+                .ifPresent(family -> revoke(familyId, family.getExpiresAt()));
+    }
+
+    /**
+     * 사용자의 모든 패밀리를 폐기합니다. (비밀번호 변경, 회원 탈퇴)
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        // (row: [familyId, expiresAt])
+        List<Object[]> families = refreshTokenFamilyRepository.findActiveByUserId(userId, now);
+        refreshTokenFamilyRepository.revokeAllByUserId(userId, now);
+        for (Object[] row : families) {
+            revokedTokenFamilies.revoke((String) row[0], toEpochMillis((LocalDateTime) row[1]));
+        }
+        log.info("사용자 세션 전체 폐기: user={}, {}개", userId, families.size());
+    }
+
+    /**
+     * since 이후 폐기된(아직 만료되지 않은) 패밀리를 인메모리 목록에 반영합니다.
+     */
+    public int loadRevokedSince(LocalDateTime since) {
+        // (row: [familyId, expiresAt])
+        List<Object[]> rows = refreshTokenFamilyRepository.findRevokedSince(since, LocalDateTime.now());
+        for (Object[] row : rows) {
+            revokedTokenFamilies.revoke((String) row[0], toEpochMillis((LocalDateTime) row[1]));
+        }
+        return rows.size();
+    }
+
+    /**
+     * 만료된 패밀리를 DB와 인메모리 목록에서 정리합니다.
+     */
+    @Transactional
+    public int deleteExpired() {
+        revokedTokenFamilies.purgeExpired(System.currentTimeMillis());
+        return refreshTokenFamilyRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    public LocalDateTime nextExpiry() {
+        return LocalDateTime.now().plusNanos(jwtTokenProvider.getRefreshTokenExpiration() * 1_000_000L);
+    }
+
+    private void revoke(String familyId, LocalDateTime expiresAt) {
+        refreshTokenFamilyRepository.revoke(familyId, LocalDateTime.now());
+        revokedTokenFamilies.revoke(familyId, toEpochMillis(expiresAt));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -1,124 +0,0 @@
-package com.ourtime.service;
-
-import com.ourtime.exception.BusinessException;
-import com.ourtime.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
-
-@Slf4j
-@Service
-@RequiredArgsConstructor
-public class S3Service {
-
-    private final S3Client s3Client;
-
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
-
-    @Value("${spring.cloud.aws.region.static}")
-    private String region;
-
-    private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "webp");
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
-
-    public String uploadFile(MultipartFile file, String directory) {
-        validateFile(file);
-
-        String fileName = generateFileName(file.getOriginalFilename());
-        String key = directory + "/" + fileName;
-
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, 
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-            String fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
-            log.info("파일 업로드 성공: {}", fileUrl);
-
-            return fileUrl;
-        } catch (IOException e) {
-            log.error("파일 업로드 실패: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
-    }
-
-    public void deleteFile(String fileUrl) {
-        try {
-            String key = extractKeyFromUrl(fileUrl);
-
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-
-            s3Client.deleteObject(deleteObjectRequest);
-            log.info("파일 삭제 성공: {}", key);
-        } catch (Exception e) {
-            log.error("파일 삭제 실패: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
-    }
-
-    private void validateFile(MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일이 비어있습니다.");
-        }
-
-        // 파일 크기 검증
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED);
-        }
-
-        // 파일 확장자 검증
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일명이 없습니다.");
-        }
-
-        String extension = getFileExtension(originalFilename).toLowerCase();
-        if (!ALLOWED_EXTENSIONS.contains(extension)) {
-            throw new BusinessException(ErrorCode.INVALID_FILE_TYPE);
-        }
-    }
-
-    private String generateFileName(String originalFilename) {
-        String extension = getFileExtension(originalFilename);
-        return UUID.randomUUID().toString() + "." + extension;
-    }
-
-    private String getFileExtension(String filename) {
-        int lastDotIndex = filename.lastIndexOf('.');
-        if (lastDotIndex == -1) {
-            return "";
-        }
-        return filename.substring(lastDotIndex + 1);
-    }
-
-    private String extractKeyFromUrl(String fileUrl) {
-        // URL에서 키 추출: https://bucket.s3.region.amazonaws.com/key -> key
-        String[] parts = fileUrl.split(".amazonaws.com/");
-        if (parts.length < 2) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 URL입니다.");
-        }
-        return parts[1];
-    }
-
-}
@@ -0,0 +1,276 @@
+package com.ourtime.service;
+
+import com.ourtime.storage.StorageBackend;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 어디에서도 참조하지 않는 저장소 객체 정리 (mark-and-sweep)
+ * <p>
+ * 추억/그룹/회원 삭제는 행만 지우고, 업로드 후 쓰이지 않은 파일도 그대로 남으므로 버킷이 계속 커집니다.
+ * 업로드 위치를 목록 한 페이지(최대 1000개)씩 훑어 grace-period보다 오래된 객체 중 DB에서 참조하지 않는 것을 찾고,
+ * 같은 페이지를 deleteObjects 한 번(S3는 DeleteObjects)으로 지웁니다. 삭제 속도는 deletes-per-second로 제한하며,
+ * dry-run이면 지우지 않고 리포트만 만듭니다. 완료되지 않고 남은 staging/ 멀티파트 업로드도 취소합니다.
+ * <p>
+ * 참조 확인은 페이지마다 삭제 직전에 하지만 삭제와 같은 트랜잭션은 아니므로, 확인과 삭제 사이에 새로 참조되지 않는 것은
+ * 다음 조건으로 보장합니다.
+ * <ul>
+ *   <li>내용 키(content/): 같은 내용의 업로드/사용이 stored_files 행의 사용 시각을 갱신하므로, 행을 잠근 채
+ *       grace-period 안에 다시 쓰인 키를 빼고 지움</li>
+ *   <li>사용자 키(profiles/, groups/, memories/): 업로드 후 upload.key-ttl이 지난 키는 추억/프로필/그룹 이미지로
+ *       새로 쓸 수 없고(FileStorageService.verifyUploadedFiles, verifyImageUrl), grace-period는 key-ttl보다
+ *       저장 여유(1시간) 이상 길어야 하므로 대상 객체는 더 이상 새로 참조되지 않음</li>
+ *   <li>변형(variants/): 원본이 참조되지 않을 때만 지우며, 원본은 위 조건을 따름</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class StorageGarbageCollector {
+
+    // 리포트에 남기는 삭제 대상 키 수
+    private static final int SAMPLE_KEYS = 20;
+    // 이미지 키 확인 후 추억/프로필/그룹 저장이 커밋되기까지의 여유
+    private static final Duration REFERENCE_MARGIN = Duration.ofHours(1);
+
+    private final StorageBackend storageBackend;
+    private final StorageReferences storageReferences;
+    private final StoredFileRegistry storedFileRegistry;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final int deletesPerSecond;
+    private final int maxDeletesPerRun;
+    private final List<String> prefixes;
+
+    private final Counter deletedObjects;
+    private volatile Report lastReport;
+
+    public StorageGarbageCollector(StorageBackend storageBackend, StorageReferences storageReferences,
+                                   StoredFileRegistry storedFileRegistry, MeterRegistry meterRegistry,
+                                   @Value("${storage.gc.grace-period:24h}") Duration gracePeriod,
+                                   @Value("${upload.key-ttl:12h}") Duration keyTtl,
+                                   @Value("${storage.gc.batch-size:1000}") int batchSize,
+                                   @Value("${storage.gc.deletes-per-second:500}") int deletesPerSecond,
+                                   @Value("${storage.gc.max-deletes-per-run:100000}") int maxDeletesPerRun) {
+        if (gracePeriod.compareTo(keyTtl.plus(REFERENCE_MARGIN)) < 0) {
+            throw new IllegalArgumentException("storage.gc.grace-period는 upload.key-ttl보다 "
+                    + REFERENCE_MARGIN.toHours() + "시간 이상 길어야 합니다: " + gracePeriod + " / " + keyTtl);
+        }
+        if (deletesPerSecond <= 0) {
+            throw new IllegalArgumentException("storage.gc.deletes-per-second는 1 이상이어야 합니다: " + deletesPerSecond);
+        }
+        this.storageBackend = storageBackend;
+        this.storageReferences = storageReferences;
+        this.storedFileRegistry = storedFileRegistry;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = Math.max(1, Math.min(batchSize, StorageBackend.MAX_DELETE_BATCH));
+        this.deletesPerSecond = deletesPerSecond;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+
+        List<String> prefixes = new ArrayList<>();
+        FileStorageService.UPLOAD_DIRECTORIES.stream().sorted().forEach(directory -> prefixes.add(directory + "/"));
+        prefixes.add(FileStorageService.CONTENT_PREFIX);
+        prefixes.add(ImageIngestService.VARIANT_PREFIX);
+        prefixes.add(MultipartUploader.STAGING_PREFIX);
+        this.prefixes = List.copyOf(prefixes);
+
+        this.deletedObjects = Counter.builder("ourtime.storage.gc.deleted")
+                .description("저장소 GC가 삭제한 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("ourtime.storage.gc.orphans", this, collector -> collector.lastReport == null
+                        ? 0 : collector.lastReport.getOrphanedObjects())
+                .description("마지막 GC에서 찾은 참조되지 않는 객체 수 (dry-run 포함)")
+                .register(meterRegistry);
+        Gauge.builder("ourtime.storage.gc.orphan.bytes", this, collector -> collector.lastReport == null
+                        ? 0 : collector.lastReport.getOrphanedBytes())
+                .description("마지막 GC에서 찾은 참조되지 않는 객체 크기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 참조되지 않는 객체를 찾아 지웁니다. (dryRun이면 찾기만 함)
+     */
+    public Report collect(boolean dryRun) {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        Report report = new Report(dryRun);
+
+        for (String prefix : prefixes) {
+            storageBackend.listObjects(prefix, batchSize, page -> {
+                report.scannedObjects += page.size();
+
+                List<StorageBackend.StoredObject> expired = page.stream()
+                        .filter(object -> object.getLastModified().isBefore(cutoff))
+                        .collect(Collectors.toList());
+                List<StorageBackend.StoredObject> orphans = expired.isEmpty() ? expired : findOrphans(prefix, expired);
+                if (!dryRun && report.deletedObjects + orphans.size() > maxDeletesPerRun) {
+                    orphans = orphans.subList(0, maxDeletesPerRun - report.deletedObjects);
+                    report.truncated = true;
+                }
+                report.addOrphans(prefix, orphans);
+
+                if (!dryRun && !orphans.isEmpty()) {
+                    delete(prefix, orphans, report);
+                }
+                return !report.truncated && !Thread.currentThread().isInterrupted();
+            });
+            if (report.truncated || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        abortStaleUploads(cutoff, dryRun, report);
+        lastReport = report;
+        return report;
+    }
+
+    private List<StorageBackend.StoredObject> findOrphans(String prefix, List<StorageBackend.StoredObject> objects) {
+        // 완료/취소되지 않고 남은 임시 파일
+        if (prefix.equals(MultipartUploader.STAGING_PREFIX)) {
+            return objects;
+        }
+
+        Map<String, StorageBackend.StoredObject> byUrl = new LinkedHashMap<>();
+        objects.forEach(object -> byUrl.put(storageBackend.fileUrl(object.getKey()), object));
+
+        if (prefix.equals(ImageIngestService.VARIANT_PREFIX)) {
+            Map<String, String> sources = storageReferences.findVariantSources(byUrl.keySet());
+            Set<String> referenced = storageReferences.findReferenced(sources.values());
+            return byUrl.entrySet().stream()
+                    .filter(entry -> !referenced.contains(sources.get(entry.getKey())))
+                    .map(Map.Entry::getValue)
+                    .collect(Collectors.toList());
+        }
+
+        Set<String> referenced = storageReferences.findReferenced(byUrl.keySet());
+        return byUrl.entrySet().stream()
+                .filter(entry -> !referenced.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+    }
+
+    private void delete(String prefix, List<StorageBackend.StoredObject> orphans, Report report) {
+        List<String> keys = orphans.stream()
+                .map(StorageBackend.StoredObject::getKey)
+                .collect(Collectors.toList());
+
+        List<String> deleted;
+        try {
+            // 내용 키는 같은 내용의 업로드가 동시에 참조를 늘릴 수 있으므로 행을 잠근 채로 지움 (최근 다시 쓰인 키는 남김)
+            deleted = prefix.equals(FileStorageService.CONTENT_PREFIX)
+                    ? storedFileRegistry.evict(keys, LocalDateTime.now().minus(gracePeriod),
+                            evictable -> deleteObjects(evictable, report))
+                    : deleteObjects(keys, report);
+        } catch (RuntimeException e) {
+            log.warn("저장소 GC 삭제 실패: {} ({}개, {})", prefix, keys.size(), e.getMessage());
+            report.failedObjects += keys.size();
+            return;
+        }
+        report.deletedObjects += deleted.size();
+        deletedObjects.increment(deleted.size());
+
+        if (!prefix.equals(MultipartUploader.STAGING_PREFIX)) {
+            storageReferences.deleteImageMetadata(deleted.stream()
+                    .map(storageBackend::fileUrl)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * 한 번에 지우고 지워진 키를 반환합니다. deletes-per-second를 넘지 않도록 호출 후 대기합니다.
+     */
+    private List<String> deleteObjects(List<String> keys, Report report) {
+        long startedAt = System.nanoTime();
+        List<String> deleted = storageBackend.deleteObjects(keys);
+        report.failedObjects += keys.size() - deleted.size();
+        throttle(startedAt, keys.size());
+        return deleted;
+    }
+
+    private void throttle(long startedAt, int deleted) {
+        long minimumNanos = TimeUnit.SECONDS.toNanos(deleted) / deletesPerSecond;
+        long remainingNanos = minimumNanos - (System.nanoTime() - startedAt);
+        if (remainingNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        } catch (InterruptedException e) {
+            // 종료 중이면 현재 페이지까지만 처리
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void abortStaleUploads(Instant cutoff, boolean dryRun, Report report) {
+        for (StorageBackend.PendingUpload upload : storageBackend.listMultipartUploads(MultipartUploader.STAGING_PREFIX)) {
+            if (!upload.getInitiated().isBefore(cutoff)) {
+                continue;
+            }
+            report.staleUploads++;
+            if (dryRun) {
+                continue;
+            }
+            try {
+                storageBackend.abortMultipartUpload(upload.getKey(), upload.getUploadId());
+            } catch (RuntimeException e) {
+                log.warn("멀티파트 업로드 취소 실패: {} ({})", upload.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * GC 한 번의 결과 (dry-run이면 삭제 대상만 집계)
+     */
+    @Getter
+    public static final class Report {
+
+        private final boolean dryRun;
+        private int scannedObjects;
+        private int orphanedObjects;
+        private long orphanedBytes;
+        private int deletedObjects;
+        private int failedObjects;
+        private int staleUploads;
+        // max-deletes-per-run에 걸려 중간에 멈췄는지
+        private boolean truncated;
+        private final Map<String, Integer> orphansByPrefix = new LinkedHashMap<>();
+        private final List<String> sampleKeys = new ArrayList<>();
+
+        private Report(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+
+        private void addOrphans(String prefix, List<StorageBackend.StoredObject> orphans) {
+            orphanedObjects += orphans.size();
+            orphansByPrefix.merge(prefix, orphans.size(), Integer::sum);
+            for (StorageBackend.StoredObject orphan : orphans) {
+                orphanedBytes += orphan.getSize();
+                if (sampleKeys.size() < SAMPLE_KEYS) {
+                    sampleKeys.add(orphan.getKey());
+                }
+            }
+        }
+
+        public String summary() {
+            return String.format("(dry-run: %s, 확인 %d개, 미참조 %d개/%d bytes %s, 삭제 %d개, 실패 %d개, 취소한 업로드 %d개%s)",
+                    dryRun, scannedObjects, orphanedObjects, orphanedBytes, orphansByPrefix, deletedObjects,
+                    failedObjects, staleUploads, truncated ? ", 최대 삭제 수 도달" : "");
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.ourtime.service;
+
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.ImageRepository;
+import com.ourtime.repository.ImageVariantRepository;
+import com.ourtime.repository.MemoryRepository;
+import com.ourtime.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저장소 GC가 객체의 참조 여부를 확인할 때 쓰는 조회 (목록 한 페이지 단위 IN 쿼리)
+ * <p>
+ * 파일 URL을 참조하는 곳은 추억 이미지(memory_images), 프로필 이미지(users), 그룹 이미지(groups)뿐입니다.
+ * 썸네일 변형은 원본이 참조될 때만 참조된 것으로 봅니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StorageReferences {
+
+    private final MemoryRepository memoryRepository;
+    private final UserRepository userRepository;
+    private final GroupRepository groupRepository;
+    private final ImageRepository imageRepository;
+    private final ImageVariantRepository imageVariantRepository;
+
+    /**
+     * urls 중 추억, 프로필, 그룹 이미지로 참조되는 URL
+     */
+    public Set<String> findReferenced(Collection<String> urls) {
+        Set<String> referenced = new HashSet<>();
+        if (urls.isEmpty()) {
+            return referenced;
+        }
+        referenced.addAll(memoryRepository.findReferencedImageUrls(urls));
+        referenced.addAll(userRepository.findReferencedProfileImages(urls));
+        referenced.addAll(groupRepository.findReferencedGroupImages(urls));
+        return referenced;
+    }
+
+    /**
+     * 변형 URL -> 원본 URL (기록되지 않은 변형은 빠짐)
+     */
+    public Map<String, String> findVariantSources(Collection<String> variantUrls) {
+        Map<String, String> sources = new HashMap<>();
+        for (Object[] row : imageVariantRepository.findSourceUrlsByUrls(variantUrls)) {
+            sources.put((String) row[0], (String) row[1]);
+        }
+        return sources;
+    }
+
+    /**
+     * 지운 원본/변형의 메타데이터와 변형 기록을 지웁니다. (같은 내용이 다시 올라오면 새로 처리되도록)
+     */
+    @Transactional
+    public void deleteImageMetadata(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        imageVariantRepository.deleteByUrlsOrSourceUrls(urls);
+        imageRepository.deleteByUrls(urls);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.StoredFile;
+import com.ourtime.repository.StoredFileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 주소 방식 업로드 파일을 등록하고, 다시 쓰일 때마다 사용 시각(updatedAt)을 갱신합니다.
+ * <p>
+ * 내용 키는 사용자와 무관하게 공유되고 키를 예측할 수 있으므로 참조 수를 두지 않습니다.
+ * 객체 삭제는 DB 참조를 확인하는 저장소 GC(evict)만 하며, 사용 시각이 grace-period 안이면 지우지 않습니다.
+ * FileStorageService는 트랜잭션 없이 동작하므로 변경을 각각 짧은 트랜잭션으로 분리했습니다.
+ * 같은 내용이 동시에 처음 올라오면 양쪽 모두 같은 키에 같은 바이트를 쓰고, 나중에 등록하는 쪽은
+ * DataIntegrityViolationException을 받아 reuse로 기존 키를 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoredFileRegistry {
+
+    private final StoredFileRepository storedFileRepository;
+
+    /**
+     * 같은 내용이 이미 저장되어 있으면 사용 시각을 갱신하고 키를 반환합니다.
+     * GC가 행을 잠그고 지우는 중이면 끝날 때까지 기다린 뒤 빈 값을 반환하므로 새로 올리면 됩니다.
+     */
+    @Transactional
+    public Optional<String> reuse(String contentHash) {
+        if (storedFileRepository.touchByContentHash(contentHash, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return storedFileRepository.findObjectKeyByContentHash(contentHash);
+    }
+
+    /**
+     * 새로 올린 내용을 등록합니다. 이미 등록된 내용이면 DataIntegrityViolationException이 발생합니다.
+     */
+    @Transactional
+    public void register(String contentHash, String objectKey, String contentType, long fileSize) {
+        storedFileRepository.saveAndFlush(StoredFile.builder()
+                .contentHash(contentHash)
+                .objectKey(objectKey)
+                .contentType(contentType)
+                .fileSize(fileSize)
+                .build());
+    }
+
+    /**
+     * 저장소 GC가 어디에서도 참조하지 않는 내용 키를 지웁니다.
+     * 행을 잠근 채로 unusedBefore 이후 다시 참조되지 않은 키만 deleteObjects로 지우고 행을 삭제하므로,
+     * 그 사이 같은 내용을 올리는 업로드는 잠금이 풀린 뒤 새로 올립니다. 등록 전에 실패한 업로드의 객체(행 없음)도 지웁니다.
+     *
+     * @return 실제로 지운 키
+     */
+    @Transactional
+    public List<String> evict(Collection<String> objectKeys, LocalDateTime unusedBefore,
+                              Function<List<String>, List<String>> deleteObjects) {
+        Map<String, StoredFile> storedFiles = storedFileRepository.findForUpdateByObjectKeys(objectKeys).stream()
+                .collect(Collectors.toMap(StoredFile::getObjectKey, Function.identity()));
+
+        List<String> evictable = objectKeys.stream()
+                .filter(key -> !storedFiles.containsKey(key) || storedFiles.get(key).getUpdatedAt().isBefore(unusedBefore))
+                .collect(Collectors.toList());
+        if (evictable.isEmpty()) {
+            return evictable;
+        }
+
+        List<String> deleted = deleteObjects.apply(evictable);
+        storedFileRepository.deleteAllInBatch(deleted.stream()
+                .map(storedFiles::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+        return deleted;
+    }
+
+    /**
+     * 추억 생성 등에서 내용 키를 쓰기 직전에 사용 시각을 갱신합니다. 등록되지 않았거나 GC가 지운 키면 false를 반환합니다.
+     */
+    @Transactional
+    public boolean touch(String objectKey) {
+        return storedFileRepository.touchByObjectKey(objectKey, LocalDateTime.now()) > 0;
+    }
+
+}
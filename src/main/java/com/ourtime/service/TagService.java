@@ -3,11 +3,13 @@ package com.ourtime.service;
 import com.ourtime.domain.Tag;
 import com.ourtime.dto.tag.CreateTagRequest;
 import com.ourtime.dto.tag.TagResponse;
+import com.ourtime.event.TagDeletedEvent;
 import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
 import com.ourtime.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TagResponse createTag(CreateTagRequest request) {
@@ -60,6 +63,8 @@ public class TagService {
 
         tagRepository.delete(tag);
         log.info("태그 삭제: {}", tagId);
+
+        eventPublisher.publishEvent(new TagDeletedEvent(tagId));
     }
 
 }
@@ -4,15 +4,23 @@ import com.ourtime.domain.User;
 import com.ourtime.dto.user.UpdatePasswordRequest;
 import com.ourtime.dto.user.UpdateProfileRequest;
 import com.ourtime.dto.user.UserResponse;
+import com.ourtime.event.GroupContentDeletedEvent;
+import com.ourtime.event.MembershipChangedEvent;
 import com.ourtime.exception.BusinessException;
 import com.ourtime.exception.ErrorCode;
+import com.ourtime.repository.MemoryRepository;
 import com.ourtime.repository.UserRepository;
+import com.ourtime.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,7 +28,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final MemoryRepository memoryRepository;
+    private final PasswordHasher passwordHasher;
+    private final FileStorageService fileStorageService;
+    private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserResponse getUserById(Long userId) {
         User user = userRepository.findById(userId)
@@ -40,24 +52,39 @@ public class UserService {
             throw new BusinessException(ErrorCode.NICKNAME_ALREADY_EXISTS);
         }
 
-        user.updateProfile(request.getNickname(), request.getProfileImage(), request.getUserTag());
+        // 바꾼 이미지만 확인 (그대로 둔 이미지는 계속 참조 중이므로 GC 대상이 아님)
+        String profileImage = request.getProfileImage();
+        if (profileImage != null && !profileImage.equals(user.getProfileImage())) {
+            profileImage = fileStorageService.verifyImageUrl(profileImage, "profiles", userId);
+        }
+
+        user.updateProfile(request.getNickname(), profileImage, request.getUserTag());
         log.info("사용자 프로필 업데이트: {}", userId);
 
         return UserResponse.from(user);
     }
 
-    @Transactional
+    /**
+     * 해시 계산(PasswordHasher)이 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updatePassword(Long userId, UpdatePasswordRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
         // 새 비밀번호로 변경
-        user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
+        String newPassword = passwordHasher.encode(request.getNewPassword());
+        if (userRepository.updatePassword(userId, user.getPassword(), newPassword, LocalDateTime.now()) == 0) {
+            // 확인 이후 다른 요청이 먼저 비밀번호를 바꾼 경우
+            throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+        }
+        // 다른 기기의 세션까지 모두 로그아웃
+        refreshTokenService.revokeAll(userId);
         log.info("사용자 비밀번호 변경: {}", userId);
     }
 
@@ -66,7 +93,16 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
+        // cascade로 함께 삭제되는 추억/댓글이 있는 그룹 목록
+        List<Long> groupIds = memoryRepository.findGroupIdsByAuthorOrCommenter(userId);
+
         userRepository.delete(user);
+        refreshTokenService.revokeAll(userId);
+        // cascade로 멤버십도 함께 삭제됨
+        eventPublisher.publishEvent(MembershipChangedEvent.of(userId));
+        if (!groupIds.isEmpty()) {
+            eventPublisher.publishEvent(new GroupContentDeletedEvent(groupIds));
+        }
         log.info("사용자 탈퇴: {}", userId);
     }
 
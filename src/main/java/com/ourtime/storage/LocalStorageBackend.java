@@ -0,0 +1,500 @@
+package com.ourtime.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 로컬 디스크 저장소 (온프레미스, AWS 없이 로컬 실행/성능 측정)
+ * <p>
+ * 키의 디렉터리 아래에 파일 이름 해시로 정한 샤드 디렉터리(00~ff)를 두어 한 디렉터리의 파일 수를 제한합니다.
+ * (memories/1/abc.jpg -> {root}/memories/1/{샤드}/abc.jpg)
+ * 쓰기는 {root}/.tmp에 FileChannel로 쓴 뒤 최종 위치로 원자적 rename하므로 쓰는 중인 파일은 보이지 않습니다.
+ * 멀티파트 업로드는 파트를 {root}/.uploads/{uploadId}/에 따로 쓰고, 완료할 때 이어 붙여 같은 방식으로 반영합니다.
+ * <p>
+ * 파일은 LocalFileController({base-url}/{key})가 내려주며, presigned URL도 같은 주소에 HMAC 서명을 붙여 발급합니다.
+ * 디스크에는 형식을 따로 저장하지 않으므로 Content-Type은 확장자로 정합니다.
+ */
+@Slf4j
+public class LocalStorageBackend implements StorageBackend {
+
+    private static final String TMP_DIRECTORY = ".tmp";
+    private static final String UPLOADS_DIRECTORY = ".uploads";
+    // 멀티파트 업로드 디렉터리에 남기는 대상 키 (생성 시각이 업로드 시작 시각)
+    private static final String UPLOAD_KEY_FILE = "key";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final Map<String, String> EXTENSION_CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private final Path root;
+    private final Path tmpDirectory;
+    private final Path uploadsDirectory;
+    private final String baseUrl;
+    // false면 rename 전에 디스크에 쓰지 않음 (전원 장애 시 최근 파일 유실 가능, 측정용)
+    private final boolean fsync;
+    private final SecretKeySpec signingKey;
+
+    public LocalStorageBackend(Path root, String baseUrl, boolean fsync, String signingKey) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tmpDirectory = this.root.resolve(TMP_DIRECTORY);
+        this.uploadsDirectory = this.root.resolve(UPLOADS_DIRECTORY);
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.fsync = fsync;
+
+        // 키를 정하지 않으면 기동할 때마다 새로 만듦 (재시작 전에 발급한 URL은 무효)
+        byte[] key = signingKey == null || signingKey.isBlank()
+                ? new SecureRandom().generateSeed(32)
+                : signingKey.getBytes(StandardCharsets.UTF_8);
+        this.signingKey = new SecretKeySpec(key, "HmacSHA256");
+
+        try {
+            Files.createDirectories(tmpDirectory);
+            Files.createDirectories(uploadsDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 저장소 디렉터리를 만들 수 없습니다: " + this.root, e);
+        }
+        log.info("로컬 저장소 사용: {} ({})", this.root, this.baseUrl);
+    }
+
+    @Override
+    public String fileUrl(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String fileUrl) {
+        String prefix = baseUrl + "/";
+        if (fileUrl == null || !fileUrl.startsWith(prefix) || fileUrl.length() == prefix.length()) {
+            return null;
+        }
+        return fileUrl.substring(prefix.length());
+    }
+
+    @Override
+    public void putObject(String key, byte[] content, int length, String contentType, String cacheControl) {
+        write(resolve(key), channel -> {
+            ByteBuffer buffer = ByteBuffer.wrap(content, 0, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * 스트림을 정확히 contentLength만큼 씁니다. (presigned PUT, 크기가 다르면 쓰지 않고 false)
+     */
+    public boolean putObject(String key, InputStream in, long contentLength) {
+        Path target = resolve(key);
+        try {
+            write(target, channel -> {
+                // 하나 더 읽어서 선언한 크기보다 긴 본문도 거름
+                long written = channel.transferFrom(Channels.newChannel(in), 0, contentLength + 1);
+                if (written != contentLength) {
+                    throw new ContentLengthMismatchException(written);
+                }
+            });
+            return true;
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof ContentLengthMismatchException) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public ObjectContent getObject(String key) {
+        Path file = resolve(key);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            return new ObjectContent(Channels.newInputStream(channel), contentTypeOf(key), channel.size());
+        } catch (NoSuchFileException e) {
+            throw new ObjectNotFoundException(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public StoredObject headObject(String key) {
+        Path file = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toInstant(), contentTypeOf(key));
+        } catch (NoSuchFileException e) {
+            throw new ObjectNotFoundException(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void copyObject(String sourceKey, String targetKey) {
+        Path source = resolve(sourceKey);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            write(resolve(targetKey), channel -> transferAll(in, channel));
+        } catch (NoSuchFileException e) {
+            throw new ObjectNotFoundException(sourceKey);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteObjects(List<String> keys) {
+        List<String> deleted = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+                deleted.add(key);
+            } catch (IOException | RuntimeException e) {
+                log.warn("로컬 파일 삭제 실패: {} ({})", key, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void listObjects(String prefix, int pageSize, Predicate<List<StoredObject>> handler) {
+        // 디렉터리 경계까지만 경로로 찾고 나머지는 키로 거름
+        String directory = prefix.substring(0, prefix.lastIndexOf('/') + 1);
+        Path start = directory.isEmpty() ? root : root.resolve(validate(directory.substring(0, directory.length() - 1)));
+        if (!Files.isDirectory(start)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(start)) {
+            List<StoredObject> page = new ArrayList<>();
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                String key = keyOf(file);
+                if (key == null || !key.startsWith(prefix)) {
+                    continue;
+                }
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    // 훑는 사이 지워짐
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                page.add(new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toInstant(), null));
+                if (page.size() == pageSize) {
+                    if (!handler.test(page)) {
+                        return;
+                    }
+                    page = new ArrayList<>();
+                }
+            }
+            if (!page.isEmpty()) {
+                handler.test(page);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        resolve(key);
+        String uploadId = UUID.randomUUID().toString();
+        Path directory = uploadsDirectory.resolve(uploadId);
+        try {
+            Files.createDirectory(directory);
+            Files.writeString(directory.resolve(UPLOAD_KEY_FILE), key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        Path directory = uploadDirectory(key, uploadId);
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer, 0, length);
+        write(directory.resolve(partName(partNumber)), channel -> {
+            ByteBuffer content = ByteBuffer.wrap(buffer, 0, length);
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        });
+        return Long.toHexString(checksum.getValue());
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, List<String> eTags) {
+        Path directory = uploadDirectory(key, uploadId);
+        List<Path> parts = new ArrayList<>();
+        for (int partNumber = 1; partNumber <= eTags.size(); partNumber++) {
+            Path part = directory.resolve(partName(partNumber));
+            if (!Files.isRegularFile(part)) {
+                throw new ObjectNotFoundException(key + " (파트 " + partNumber + ")");
+            }
+            parts.add(part);
+        }
+
+        write(resolve(key), channel -> {
+            for (Path part : parts) {
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    transferAll(in, channel);
+                }
+            }
+        });
+        deleteRecursively(directory);
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        deleteRecursively(uploadDirectory(key, uploadId));
+    }
+
+    @Override
+    public List<PendingUpload> listMultipartUploads(String prefix) {
+        List<PendingUpload> uploads = new ArrayList<>();
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(uploadsDirectory)) {
+            for (Path directory : directories) {
+                Path keyFile = directory.resolve(UPLOAD_KEY_FILE);
+                try {
+                    String key = Files.readString(keyFile);
+                    if (key.startsWith(prefix)) {
+                        Instant initiated = Files.getLastModifiedTime(keyFile).toInstant();
+                        uploads.add(new PendingUpload(key, directory.getFileName().toString(), initiated));
+                    }
+                } catch (NoSuchFileException e) {
+                    // 만드는 중이거나 방금 끝난 업로드
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return uploads;
+    }
+
+    @Override
+    public PresignedUpload presignPutObject(String key, String contentType, long contentLength, Duration expiration) {
+        resolve(key);
+        Instant expiresAt = Instant.now().plus(expiration);
+        long expires = expiresAt.getEpochSecond();
+        String url = fileUrl(key) + "?expires=" + expires + "&signature=" + sign(key, contentType, contentLength, expires);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("content-length", String.valueOf(contentLength));
+        headers.put("content-type", contentType);
+        return new PresignedUpload(url, headers, expiresAt);
+    }
+
+    /**
+     * presignPutObject로 발급한 URL의 서명과 만료 시각을 확인합니다.
+     */
+    public boolean verifyPresigned(String key, String contentType, long contentLength, long expires, String signature) {
+        if (Instant.now().getEpochSecond() > expires || signature == null) {
+            return false;
+        }
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 키의 디스크 위치 ({root}/{디렉터리}/{샤드}/{파일 이름})
+     *
+     * @throws IllegalArgumentException 빈 경로, '.'으로 시작하는 경로 조각 등 키로 쓸 수 없는 값
+     */
+    public Path resolve(String key) {
+        validate(key);
+        int slash = key.lastIndexOf('/');
+        String name = key.substring(slash + 1);
+        Path directory = slash < 0 ? root : root.resolve(key.substring(0, slash));
+        return directory.resolve(shardOf(name)).resolve(name);
+    }
+
+    public String contentTypeOf(String key) {
+        int dot = key.lastIndexOf('.');
+        String extension = dot < 0 ? "" : key.substring(dot + 1).toLowerCase();
+        return EXTENSION_CONTENT_TYPES.getOrDefault(extension, DEFAULT_CONTENT_TYPE);
+    }
+
+    // resolve의 역변환 (샤드 디렉터리 제거, 저장소 파일이 아니면 null)
+    private String keyOf(Path file) {
+        Path relative = root.relativize(file);
+        int count = relative.getNameCount();
+        if (count < 2 || relative.getName(0).toString().startsWith(".")) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i == count - 2) {
+                continue;
+            }
+            if (key.length() > 0) {
+                key.append('/');
+            }
+            key.append(relative.getName(i));
+        }
+        return key.toString();
+    }
+
+    private static String shardOf(String name) {
+        // String.hashCode는 명세로 정해져 있어 JVM과 무관하게 같은 샤드
+        return String.format("%02x", name.hashCode() & 0xff);
+    }
+
+    private static String validate(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("빈 키입니다.");
+        }
+        for (String segment : key.split("/", -1)) {
+            // .tmp, .uploads와 상위 디렉터리 접근 차단
+            if (segment.isEmpty() || segment.startsWith(".") || segment.contains("\\")) {
+                throw new IllegalArgumentException("사용할 수 없는 키입니다: " + key);
+            }
+        }
+        return key;
+    }
+
+    private Path uploadDirectory(String key, String uploadId) {
+        try {
+            UUID.fromString(uploadId);
+        } catch (IllegalArgumentException e) {
+            throw new ObjectNotFoundException(key + " (" + uploadId + ")");
+        }
+        Path directory = uploadsDirectory.resolve(uploadId);
+        if (!Files.isDirectory(directory)) {
+            throw new ObjectNotFoundException(key + " (" + uploadId + ")");
+        }
+        return directory;
+    }
+
+    private static String partName(int partNumber) {
+        return String.format("%05d", partNumber);
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 target으로 rename합니다. (실패하면 임시 파일을 지우고 target은 그대로)
+     */
+    private void write(Path target, ChannelWriter writer) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(tmpDirectory, "put-", null);
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.write(channel);
+                if (fsync) {
+                    channel.force(false);
+                }
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(tmp);
+            throw e;
+        }
+    }
+
+    private static void transferAll(FileChannel in, FileChannel out) throws IOException {
+        long size = in.size();
+        long position = 0;
+        while (position < size) {
+            position += in.transferTo(position, size - position, out);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(LocalStorageBackend::deleteQuietly);
+        } catch (NoSuchFileException e) {
+            // 이미 지워짐
+        } catch (IOException e) {
+            log.warn("로컬 디렉터리 삭제 실패: {} ({})", directory, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("로컬 파일 삭제 실패: {} ({})", path, e.getMessage());
+        }
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((key + "\n" + contentType + "\n" + contentLength + "\n" + expires)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ContentLengthMismatchException extends IOException {
+
+        private ContentLengthMismatchException(long written) {
+            super("본문 크기가 Content-Length와 다릅니다: " + written);
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+
+        void write(FileChannel channel) throws IOException;
+
+    }
+
+}
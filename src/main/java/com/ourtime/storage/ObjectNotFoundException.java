@@ -0,0 +1,12 @@
+package com.ourtime.storage;
+
+/**
+ * 저장소에 없는 키(또는 멀티파트 업로드)
+ */
+public class ObjectNotFoundException extends RuntimeException {
+
+    public ObjectNotFoundException(String key) {
+        super("저장소에 없는 객체입니다: " + key);
+    }
+
+}
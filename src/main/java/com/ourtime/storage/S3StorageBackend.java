@@ -0,0 +1,241 @@
+package com.ourtime.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * S3 저장소 (파일 URL: https://{bucket}.s3.{region}.amazonaws.com/{key})
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class S3StorageBackend implements StorageBackend {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucketName;
+    private final String region;
+
+    @Override
+    public String fileUrl(String key) {
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+    }
+
+    @Override
+    public String keyOf(String fileUrl) {
+        String baseUrl = fileUrl("");
+        if (fileUrl == null || !fileUrl.startsWith(baseUrl) || fileUrl.length() == baseUrl.length()) {
+            return null;
+        }
+        return fileUrl.substring(baseUrl.length());
+    }
+
+    @Override
+    public void putObject(String key, byte[] content, int length, String contentType, String cacheControl) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) length)
+                        .cacheControl(cacheControl)
+                        .build(),
+                RequestBody.fromContentProvider(() -> new ByteArrayInputStream(content, 0, length), length, contentType));
+    }
+
+    @Override
+    public ObjectContent getObject(String key) {
+        ResponseInputStream<GetObjectResponse> object;
+        try {
+            object = s3Client.getObject(request -> request
+                    .bucket(bucketName)
+                    .key(key));
+        } catch (NoSuchKeyException e) {
+            throw new ObjectNotFoundException(key);
+        }
+        Long contentLength = object.response().contentLength();
+        return new ObjectContent(object, object.response().contentType(), contentLength != null ? contentLength : 0L);
+    }
+
+    @Override
+    public StoredObject headObject(String key) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(request -> request
+                    .bucket(bucketName)
+                    .key(key));
+        } catch (NoSuchKeyException e) {
+            throw new ObjectNotFoundException(key);
+        }
+        return new StoredObject(key, head.contentLength(), head.lastModified(), head.contentType());
+    }
+
+    // 서버 측 복사이므로 파일을 다시 전송하지 않음 (CopyObject 한 번은 5GB까지)
+    @Override
+    public void copyObject(String sourceKey, String targetKey) {
+        try {
+            s3Client.copyObject(request -> request
+                    .sourceBucket(bucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(targetKey));
+        } catch (NoSuchKeyException e) {
+            throw new ObjectNotFoundException(sourceKey);
+        }
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        s3Client.deleteObject(request -> request
+                .bucket(bucketName)
+                .key(key));
+    }
+
+    @Override
+    public List<String> deleteObjects(List<String> keys) {
+        DeleteObjectsResponse response = s3Client.deleteObjects(request -> request
+                .bucket(bucketName)
+                .delete(delete -> delete
+                        .objects(keys.stream()
+                                .map(key -> ObjectIdentifier.builder().key(key).build())
+                                .collect(Collectors.toList()))
+                        .quiet(true)));
+
+        // quiet 모드는 실패한 키만 응답에 포함
+        Set<String> failed = response.errors().stream()
+                .peek(error -> log.warn("S3 객체 삭제 실패: {} ({})", error.key(), error.message()))
+                .map(S3Error::key)
+                .collect(Collectors.toSet());
+        return keys.stream()
+                .filter(key -> !failed.contains(key))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void listObjects(String prefix, int pageSize, Predicate<List<StoredObject>> handler) {
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(request -> request
+                .bucket(bucketName)
+                .prefix(prefix)
+                .maxKeys(pageSize))) {
+            List<StoredObject> objects = page.contents().stream()
+                    .map(object -> new StoredObject(object.key(), object.size(), object.lastModified(), null))
+                    .collect(Collectors.toList());
+            if (!handler.test(objects)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String key, String contentType) {
+        return s3Client.createMultipartUpload(request -> request
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)).uploadId();
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        try {
+            return s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) length)
+                            .build(),
+                    RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length,
+                            "application/octet-stream"))
+                    .eTag();
+        } catch (NoSuchUploadException e) {
+            throw new ObjectNotFoundException(key);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String key, String uploadId, List<String> eTags) {
+        List<CompletedPart> parts = new ArrayList<>();
+        for (int i = 0; i < eTags.size(); i++) {
+            parts.add(CompletedPart.builder()
+                    .partNumber(i + 1)
+                    .eTag(eTags.get(i))
+                    .build());
+        }
+        try {
+            s3Client.completeMultipartUpload(request -> request
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(parts)));
+        } catch (NoSuchUploadException e) {
+            throw new ObjectNotFoundException(key);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) {
+        s3Client.abortMultipartUpload(request -> request
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId));
+    }
+
+    @Override
+    public List<PendingUpload> listMultipartUploads(String prefix) {
+        List<PendingUpload> uploads = new ArrayList<>();
+        for (ListMultipartUploadsResponse page : s3Client.listMultipartUploadsPaginator(request -> request
+                .bucket(bucketName)
+                .prefix(prefix))) {
+            page.uploads().forEach(upload ->
+                    uploads.add(new PendingUpload(upload.key(), upload.uploadId(), upload.initiated())));
+        }
+        return uploads;
+    }
+
+    @Override
+    public PresignedUpload presignPutObject(String key, String contentType, long contentLength, Duration expiration) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presign -> presign
+                .signatureDuration(expiration)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build()));
+
+        // Host는 URL에 포함되므로 클라이언트가 따로 보낼 필요 없음
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), headers, presigned.expiration());
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.ourtime.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 파일 저장소 (S3, 로컬 디스크)
+ * <p>
+ * 업로드, 이미지 처리, 저장소 GC는 이 인터페이스만 사용하므로 저장소를 바꿔도 같은 경로로 동작합니다.
+ * 키는 '/'로 구분한 경로(memories/1/abc.jpg)이며, 쓰기는 완료된 객체만 보이도록 한 번에 반영됩니다.
+ * 멀티파트 업로드는 S3 방식을 따릅니다. (파트 번호 1부터, 완료할 때 파트 순서대로 이어 붙임)
+ * 없는 키나 업로드를 읽으면 ObjectNotFoundException을 던집니다.
+ */
+public interface StorageBackend {
+
+    // S3 제약: DeleteObjects 한 번에 최대 1000개
+    int MAX_DELETE_BATCH = 1000;
+
+    /**
+     * 클라이언트가 파일을 받을 URL
+     */
+    String fileUrl(String key);
+
+    /**
+     * fileUrl의 역변환 (이 저장소의 URL이 아니면 null)
+     */
+    String keyOf(String fileUrl);
+
+    void putObject(String key, byte[] content, int length, String contentType, String cacheControl);
+
+    ObjectContent getObject(String key);
+
+    StoredObject headObject(String key);
+
+    void copyObject(String sourceKey, String targetKey);
+
+    void deleteObject(String key);
+
+    /**
+     * 최대 MAX_DELETE_BATCH개를 한 번에 지우고 실제로 지운 키를 반환합니다. (실패한 키는 로그만 남김)
+     */
+    List<String> deleteObjects(List<String> keys);
+
+    /**
+     * prefix로 시작하는 객체를 최대 pageSize개씩 handler에 넘깁니다. handler가 false를 반환하면 멈춥니다.
+     */
+    void listObjects(String prefix, int pageSize, Predicate<List<StoredObject>> handler);
+
+    /**
+     * @return uploadId
+     */
+    String createMultipartUpload(String key, String contentType);
+
+    /**
+     * @return 완료할 때 넘길 ETag
+     */
+    String uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length);
+
+    /**
+     * eTags[i]는 파트 i + 1의 ETag
+     */
+    void completeMultipartUpload(String key, String uploadId, List<String> eTags);
+
+    void abortMultipartUpload(String key, String uploadId);
+
+    /**
+     * prefix 아래에서 완료/취소되지 않은 멀티파트 업로드
+     */
+    List<PendingUpload> listMultipartUploads(String prefix);
+
+    /**
+     * 클라이언트가 key에 직접 올릴 수 있는 PUT URL (형식과 크기는 서명에 포함)
+     */
+    PresignedUpload presignPutObject(String key, String contentType, long contentLength, Duration expiration);
+
+    @Getter
+    @RequiredArgsConstructor
+    final class StoredObject {
+
+        private final String key;
+        private final long size;
+        private final Instant lastModified;
+        // 목록 조회에서는 null
+        private final String contentType;
+
+    }
+
+    /**
+     * 객체 본문 (다 읽은 뒤 닫아야 함)
+     */
+    @Getter
+    final class ObjectContent extends FilterInputStream {
+
+        private final String contentType;
+        private final long size;
+
+        public ObjectContent(InputStream in, String contentType, long size) {
+            super(in);
+            this.contentType = contentType;
+            this.size = size;
+        }
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    final class PendingUpload {
+
+        private final String key;
+        private final String uploadId;
+        private final Instant initiated;
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    final class PresignedUpload {
+
+        private final String url;
+        // 클라이언트가 PUT 요청에 그대로 넣어야 하는 헤더
+        private final Map<String, String> headers;
+        private final Instant expiration;
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.ourtime.util;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위도/경도를 Z-order(Morton) 셀 ID로 변환하는 공간 인덱스 유틸리티
+ * <p>
+ * 지구를 레벨마다 가로/세로 2등분하는 격자로 보고, 최대 레벨(26, 약 0.6m 단위)의 셀 번호를
+ * 비트 인터리빙한 long 값으로 저장합니다. 상위 레벨 셀은 하위 셀 ID의 연속 구간이 되므로
+ * B-tree 인덱스의 범위 스캔(BETWEEN)으로 영역 검색을 할 수 있습니다.
+ */
+public class GeoCell {
+
+    public static final int MAX_LEVEL = 26;
+
+    // 영역 검색 시 최대 2x2 셀로 덮으므로 구간은 최대 4개
+    public static final int MAX_COVER_RANGES = 4;
+
+    private GeoCell() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 좌표를 최대 레벨 셀 ID로 변환합니다.
+     */
+    public static long encode(double latitude, double longitude) {
+        long x = toGrid(longitude, -180.0, 360.0, MAX_LEVEL);
+        long y = toGrid(latitude, -90.0, 180.0, MAX_LEVEL);
+        return interleave(x, y);
+    }
+
+    /**
+     * 경계 상자를 덮는 셀 ID 구간 목록을 반환합니다. (최대 4개, 정렬 및 병합됨)
+     * 상자보다 크거나 같은 가장 작은 셀 레벨을 골라 모서리가 걸치는 셀들만 사용합니다.
+     */
+    public static List<Range> cover(double minLat, double maxLat, double minLng, double maxLng) {
+        int level = coverLevel(maxLat - minLat, maxLng - minLng);
+
+        long x0 = toGrid(minLng, -180.0, 360.0, level);
+        long x1 = toGrid(maxLng, -180.0, 360.0, level);
+        long y0 = toGrid(minLat, -90.0, 180.0, level);
+        long y1 = toGrid(maxLat, -90.0, 180.0, level);
+        // 부동소수점 오차로 3칸에 걸치는 경우 한 단계 큰 셀 사용
+        while (level > 0 && (x1 - x0 > 1 || y1 - y0 > 1)) {
+            level--;
+            x0 >>= 1;
+            x1 >>= 1;
+            y0 >>= 1;
+            y1 >>= 1;
+        }
+        int shift = 2 * (MAX_LEVEL - level);
+
+        List<Long> cells = new ArrayList<>();
+        for (long y = y0; y <= y1; y++) {
+            for (long x = x0; x <= x1; x++) {
+                cells.add(interleave(x, y));
+            }
+        }
+        cells.sort(Long::compare);
+
+        List<Range> ranges = new ArrayList<>();
+        for (long cell : cells) {
+            long from = cell << shift;
+            long to = ((cell + 1) << shift) - 1;
+            Range last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last.getTo() + 1 == from) {
+                ranges.set(ranges.size() - 1, new Range(last.getFrom(), to));
+            } else {
+                ranges.add(new Range(from, to));
+            }
+        }
+        return ranges;
+    }
+
+    private static int coverLevel(double latSpan, double lngSpan) {
+        int level = MAX_LEVEL;
+        if (lngSpan > 0) {
+            level = Math.min(level, (int) Math.floor(log2(360.0 / lngSpan)));
+        }
+        if (latSpan > 0) {
+            level = Math.min(level, (int) Math.floor(log2(180.0 / latSpan)));
+        }
+        return Math.max(level, 0);
+    }
+
+    private static long toGrid(double value, double origin, double span, int level) {
+        long cells = 1L << level;
+        long index = (long) Math.floor((value - origin) / span * cells);
+        return Math.max(0, Math.min(cells - 1, index));
+    }
+
+    private static long interleave(long x, long y) {
+        return spread(x) | (spread(y) << 1);
+    }
+
+    // 하위 32비트를 짝수 비트 위치로 펼침
+    private static long spread(long v) {
+        v &= 0x00000000FFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    /**
+     * 셀 ID 구간 [from, to]
+     */
+    @Getter
+    public static class Range {
+
+        private final long from;
+        private final long to;
+
+        public Range(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+    }
+
+}
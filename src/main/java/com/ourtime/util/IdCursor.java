@@ -0,0 +1,34 @@
+package com.ourtime.util;
+
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * ID 내림차순 목록의 마지막 ID를 나타내는 불투명 커서
+ * <p>
+ * 다음 페이지는 이 ID보다 작은 항목부터 시작합니다.
+ */
+public final class IdCursor {
+
+    private IdCursor() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(raw);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+}
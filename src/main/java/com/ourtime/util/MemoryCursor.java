@@ -0,0 +1,57 @@
+package com.ourtime.util;
+
+import com.ourtime.domain.Memory;
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 추억 피드의 (visitedAt, id) 위치를 나타내는 불투명 커서
+ * <p>
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출되며, 다음 페이지는
+ * 이 위치보다 "이전"(visitedAt DESC, id DESC 기준)의 추억부터 시작합니다.
+ */
+@Getter
+public final class MemoryCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime visitedAt;
+    private final Long id;
+
+    private MemoryCursor(LocalDateTime visitedAt, Long id) {
+        this.visitedAt = visitedAt;
+        this.id = id;
+    }
+
+    public static MemoryCursor of(Memory memory) {
+        return new MemoryCursor(memory.getVisitedAt(), memory.getId());
+    }
+
+    public String encode() {
+        String raw = visitedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            LocalDateTime visitedAt = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.parseLong(raw.substring(index + 1));
+            return new MemoryCursor(visitedAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+}
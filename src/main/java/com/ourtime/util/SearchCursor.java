@@ -0,0 +1,75 @@
+package com.ourtime.util;
+
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.index.TextSearchIndex;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과의 (score, id) 위치와 첫 페이지의 점수 계산 기준을 담은 불투명 커서
+ * <p>
+ * 다음 페이지는 같은 기준으로 다시 검색해 이 위치보다 "뒤"(score DESC, id DESC 기준)의 결과부터 시작합니다.
+ * 서버에 상태를 두지 않으므로 어느 인스턴스로 요청이 가도 이어서 조회할 수 있습니다.
+ */
+@Getter
+public final class SearchCursor {
+
+    private static final String DELIMITER = "|";
+    private static final String FREQUENCY_DELIMITER = ",";
+
+    private final double score;
+    private final long id;
+    private final TextSearchIndex.Ranking ranking;
+
+    private SearchCursor(double score, long id, TextSearchIndex.Ranking ranking) {
+        this.score = score;
+        this.id = id;
+        this.ranking = ranking;
+    }
+
+    public static SearchCursor of(TextSearchIndex.Hit hit, TextSearchIndex.Ranking ranking) {
+        return new SearchCursor(hit.getScore(), hit.getMemoryId(), ranking);
+    }
+
+    public TextSearchIndex.Hit toHit() {
+        return new TextSearchIndex.Hit(id, score);
+    }
+
+    public String encode() {
+        String frequencies = Arrays.stream(ranking.getFrequencies())
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(FREQUENCY_DELIMITER));
+        // Double.toString은 같은 double로 다시 읽히므로 다음 페이지의 점수와 정확히 비교됨
+        String raw = score + DELIMITER + id + DELIMITER + ranking.getTotal() + DELIMITER + frequencies;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 4 || parts[3].isEmpty()) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            double score = Double.parseDouble(parts[0]);
+            long id = Long.parseLong(parts[1]);
+            int total = Integer.parseInt(parts[2]);
+            int[] frequencies = Arrays.stream(parts[3].split(FREQUENCY_DELIMITER))
+                    .mapToInt(Integer::parseInt)
+                    .toArray();
+            if (!Double.isFinite(score) || total < 0 || Arrays.stream(frequencies).anyMatch(frequency -> frequency < 0)) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new SearchCursor(score, id, new TextSearchIndex.Ranking(total, frequencies));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+}
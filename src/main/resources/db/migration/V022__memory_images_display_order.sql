@@ -0,0 +1,26 @@
+-- memory_images 테이블 마이그레이션 (MySQL 8.0+)
+-- 추억 이미지를 MemoryImage 엔티티로 관리하면서 추가된 id(PK), display_order 컬럼을 기존 테이블에 반영합니다.
+-- schema.sql은 CREATE TABLE IF NOT EXISTS라 기존 테이블을 바꾸지 않고, prod는 ddl-auto: validate이므로
+-- 애플리케이션 배포 전에 한 번 실행해야 합니다.
+
+USE ourtime;
+
+-- 1. 대리 키와 표시 순서 컬럼 추가
+--    PK가 없던 InnoDB 테이블은 삽입 순서(숨은 row id)로 저장되어 있으므로, 새 id도 기존 표시 순서대로 매겨집니다.
+ALTER TABLE memory_images
+    ADD COLUMN id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY FIRST,
+    ADD COLUMN display_order INT NOT NULL DEFAULT 0 AFTER image_url;
+
+-- 2. 기존 행의 표시 순서를 추억별 id 순으로 0부터 부여
+UPDATE memory_images mi
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY memory_id ORDER BY id) - 1 AS display_order
+    FROM memory_images
+) ordered ON ordered.id = mi.id
+SET mi.display_order = ordered.display_order;
+
+-- 3. 추억별 순서 조회 인덱스로 교체 (외래 키가 쓸 인덱스를 먼저 만든 뒤 기존 인덱스 삭제)
+ALTER TABLE memory_images
+    ADD INDEX idx_memory_image_memory_id (memory_id, display_order);
+ALTER TABLE memory_images
+    DROP INDEX idx_memory_id;
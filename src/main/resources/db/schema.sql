@@ -13,6 +13,9 @@ USE ourtime;
 -- DROP TABLE IF EXISTS comments;
 -- DROP TABLE IF EXISTS memory_tag;
 -- DROP TABLE IF EXISTS memory_images;
+-- DROP TABLE IF EXISTS images;
+-- DROP TABLE IF EXISTS image_variants;
+-- DROP TABLE IF EXISTS stored_files;
 -- DROP TABLE IF EXISTS memories;
 -- DROP TABLE IF EXISTS user_group;
 -- DROP TABLE IF EXISTS tags;
@@ -30,7 +33,8 @@ CREATE TABLE IF NOT EXISTS users (
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     INDEX idx_email (email),
-    INDEX idx_nickname (nickname)
+    INDEX idx_nickname (nickname),
+    INDEX idx_user_profile_image (profile_image)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- groups 테이블 (groups는 MySQL 예약어이므로 백틱 사용)
@@ -45,7 +49,8 @@ CREATE TABLE IF NOT EXISTS `groups` (
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     INDEX idx_invite_code (invite_code),
-    INDEX idx_created_by (created_by)
+    INDEX idx_created_by (created_by),
+    INDEX idx_group_image (group_image)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- user_group 테이블 (사용자-그룹 매핑)
@@ -83,7 +88,11 @@ CREATE TABLE IF NOT EXISTS memories (
     latitude DOUBLE NOT NULL,
     longitude DOUBLE NOT NULL,
     location_name VARCHAR(500),
+    geo_cell BIGINT,
     visited_at DATETIME(6) NOT NULL,
+    visited_month_day INT,
+    like_count INT NOT NULL DEFAULT 0,
+    comment_count INT NOT NULL DEFAULT 0,
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     INDEX idx_group_id (group_id),
@@ -91,15 +100,22 @@ CREATE TABLE IF NOT EXISTS memories (
     INDEX idx_visited_at (visited_at),
     INDEX idx_created_at (created_at),
     INDEX idx_location (latitude, longitude),
+    INDEX idx_group_visited_at_id (group_id, visited_at, id),
+    INDEX idx_group_geo_cell (group_id, geo_cell),
+    INDEX idx_visited_month_day_id (visited_month_day, id),
     CONSTRAINT fk_memory_group FOREIGN KEY (group_id) REFERENCES `groups`(id) ON DELETE CASCADE,
     CONSTRAINT fk_memory_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
--- memory_images 테이블 (추억 이미지 URL 저장)
+-- memory_images 테이블 (추억 이미지 URL과 표시 순서)
+-- 기존 테이블은 db/migration/V022__memory_images_display_order.sql로 id, display_order를 추가
 CREATE TABLE IF NOT EXISTS memory_images (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
     memory_id BIGINT NOT NULL,
     image_url VARCHAR(500) NOT NULL,
-    INDEX idx_memory_id (memory_id),
+    display_order INT NOT NULL DEFAULT 0,
+    INDEX idx_memory_image_memory_id (memory_id, display_order),
+    INDEX idx_memory_image_url (image_url),
     CONSTRAINT fk_memory_images FOREIGN KEY (memory_id) REFERENCES memories(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -145,6 +161,107 @@ CREATE TABLE IF NOT EXISTS likes (
     CONSTRAINT fk_like_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- memory_day_counts 테이블 (그룹/작성자별 방문일 추억 수 집계, 타임라인 히스토그램용)
+CREATE TABLE IF NOT EXISTS memory_day_counts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    scope VARCHAR(10) NOT NULL,
+    scope_id BIGINT NOT NULL,
+    bucket_date DATE NOT NULL,
+    memory_count INT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_memory_day_count (scope, scope_id, bucket_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- statistic_counts 테이블 (그룹/사용자별 활동 통계 집계)
+CREATE TABLE IF NOT EXISTS statistic_counts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    scope VARCHAR(10) NOT NULL,
+    scope_id BIGINT NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    item_key VARCHAR(255) NOT NULL,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_statistic_count (scope, scope_id, metric, item_key),
+    INDEX idx_scope_metric_count (scope, scope_id, metric, item_count)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- notification_outbox 테이블 (알림 아웃박스)
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient_id BIGINT NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    memory_id BIGINT,
+    group_id BIGINT,
+    message VARCHAR(500) NOT NULL,
+    dedup_key VARCHAR(100) NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_notification_dedup_key (dedup_key),
+    INDEX idx_status_next_attempt_at (status, next_attempt_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- refresh_token_families 테이블 (리프레시 토큰 회전/폐기)
+CREATE TABLE IF NOT EXISTS refresh_token_families (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    current_token_id VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_refresh_token_family (family_id),
+    INDEX idx_refresh_token_user_id (user_id),
+    INDEX idx_refresh_token_revoked_at (revoked_at),
+    INDEX idx_refresh_token_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- image_variants 테이블 (업로드 이미지의 썸네일 변형)
+CREATE TABLE IF NOT EXISTS image_variants (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    source_url VARCHAR(500) NOT NULL,
+    width INT NOT NULL,
+    height INT NOT NULL,
+    url VARCHAR(500) NOT NULL,
+    content_type VARCHAR(50) NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_image_variant_source_width (source_url, width),
+    INDEX idx_image_variant_url (url)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- images 테이블 (업로드 이미지 메타데이터와 플레이스홀더, 처리 완료된 원본만)
+CREATE TABLE IF NOT EXISTS images (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    url VARCHAR(500) NOT NULL,
+    content_type VARCHAR(50),
+    file_size BIGINT NOT NULL,
+    width INT,
+    height INT,
+    dominant_color VARCHAR(7),
+    blurhash VARCHAR(64),
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_image_url (url)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- stored_files 테이블 (내용 주소 방식 업로드 파일, 삭제는 저장소 GC만)
+CREATE TABLE IF NOT EXISTS stored_files (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_hash CHAR(64) NOT NULL,
+    object_key VARCHAR(500) NOT NULL,
+    content_type VARCHAR(50) NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_stored_file_hash (content_hash),
+    UNIQUE KEY uk_stored_file_key (object_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 초기 태그 데이터
 INSERT INTO tags (name, color) VALUES
     ('데이트', '#FF6B6B'),
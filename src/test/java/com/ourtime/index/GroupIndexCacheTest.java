@@ -0,0 +1,85 @@
+package com.ourtime.index;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupIndexCacheTest {
+
+    @Test
+    void indexIsLoadedOnceAndReused() {
+        GroupIndexCache<List<Long>> cache = new GroupIndexCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+        LongFunction<List<Long>> loader = groupId -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(List.of(groupId));
+        };
+
+        int first = cache.read(1L, loader, List::size);
+        int second = cache.read(1L, loader, List::size);
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void updatesApplyOnlyToLoadedIndexes() {
+        GroupIndexCache<List<Long>> cache = new GroupIndexCache<>(10);
+        LongFunction<List<Long>> loader = groupId -> new ArrayList<>();
+
+        // 아직 만들어지지 않은 그룹의 변경은 무시 (다음 조회 때 DB에서 다시 만듦)
+        cache.update(1L, index -> index.add(100L));
+        List<Long> loaded = cache.read(1L, loader, List::copyOf);
+        assertThat(loaded).isEmpty();
+
+        cache.update(1L, index -> index.add(100L));
+        cache.updateAll(index -> index.add(200L));
+        List<Long> updated = cache.read(1L, loader, List::copyOf);
+        assertThat(updated).containsExactly(100L, 200L);
+    }
+
+    @Test
+    void evictedAndLeastRecentlyUsedGroupsAreReloaded() {
+        GroupIndexCache<List<Long>> cache = new GroupIndexCache<>(2);
+        AtomicInteger loads = new AtomicInteger();
+        LongFunction<List<Long>> loader = groupId -> {
+            loads.incrementAndGet();
+            return new ArrayList<>();
+        };
+
+        cache.read(1L, loader, List::size);
+        cache.read(2L, loader, List::size);
+        cache.read(1L, loader, List::size); // 1이 최근 사용
+        cache.read(3L, loader, List::size); // 가장 오래 쓰지 않은 2가 밀려남
+        assertThat(loads).hasValue(3);
+
+        cache.read(1L, loader, List::size);
+        assertThat(loads).hasValue(3);
+        cache.read(2L, loader, List::size);
+        assertThat(loads).hasValue(4);
+
+        cache.evict(2L);
+        cache.read(2L, loader, List::size);
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    void readInsideTransactionIsRejected() {
+        GroupIndexCache<List<Long>> cache = new GroupIndexCache<>(10);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> cache.read(1L, groupId -> new ArrayList<>(), List::size))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+}
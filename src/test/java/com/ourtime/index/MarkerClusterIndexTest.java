@@ -0,0 +1,113 @@
+package com.ourtime.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MarkerClusterIndexTest {
+
+    @Test
+    void nearbyPointsMergeAtLowZoomAndSplitAtHighZoom() {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        // 서울 시청과 약 700m 떨어진 지점 (줌 15의 셀 한 변은 약 240m)
+        index.put(1, 37.5665, 126.9780);
+        index.put(2, 37.5700, 126.9850);
+
+        List<MarkerClusterIndex.Cluster> world = index.clusters(0, 0, 0);
+        assertThat(world).hasSize(1);
+        assertThat(world.get(0).getCount()).isEqualTo(2);
+        assertThat(world.get(0).getMemoryId()).isNull();
+        assertThat(world.get(0).getLatitude()).isCloseTo(37.56825, within(1e-9));
+        assertThat(world.get(0).getLongitude()).isCloseTo(126.9815, within(1e-9));
+
+        int zoom = MarkerClusterIndex.MAX_ZOOM;
+        assertThat(memoryIds(index.clusters(zoom, tileX(126.9780, zoom), tileY(37.5665, zoom)))).contains(1L);
+        assertThat(memoryIds(index.clusters(zoom, tileX(126.9850, zoom), tileY(37.5700, zoom)))).contains(2L);
+    }
+
+    @Test
+    void pointsAreBucketedIntoTheirTile() {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.put(1, 37.5665, 126.9780);   // 서울 (북동 사분면)
+        index.put(2, -33.8688, 151.2093);  // 시드니 (남동 사분면)
+        index.put(3, 40.7128, -74.0060);   // 뉴욕 (북서 사분면)
+
+        assertThat(memoryIds(index.clusters(1, 1, 0))).containsExactly(1L);
+        assertThat(memoryIds(index.clusters(1, 1, 1))).containsExactly(2L);
+        assertThat(memoryIds(index.clusters(1, 0, 0))).containsExactly(3L);
+        assertThat(index.clusters(1, 0, 1)).isEmpty();
+
+        for (int zoom = 0; zoom <= MarkerClusterIndex.MAX_ZOOM; zoom++) {
+            assertThat(memoryIds(index.clusters(zoom, tileX(151.2093, zoom), tileY(-33.8688, zoom))))
+                    .as("zoom %d", zoom)
+                    .contains(2L);
+        }
+    }
+
+    @Test
+    void polesAreClampedIntoEdgeTiles() {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.put(1, 90.0, 180.0);
+        index.put(2, -90.0, -180.0);
+
+        assertThat(memoryIds(index.clusters(2, 3, 0))).containsExactly(1L);
+        assertThat(memoryIds(index.clusters(2, 0, 3))).containsExactly(2L);
+    }
+
+    @Test
+    void singleRemainingMemberIdIsRecoveredAfterRemovals() {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.put(11, 33.4996, 126.5312);
+        index.put(22, 33.4997, 126.5313);
+        index.put(33, 33.4998, 126.5314);
+
+        index.remove(11);
+        assertThat(single(index).getMemoryId()).isNull();
+
+        // 남은 구성원이 하나면 ID의 XOR가 그 추억의 ID
+        index.remove(33);
+        MarkerClusterIndex.Cluster cluster = single(index);
+        assertThat(cluster.getCount()).isEqualTo(1);
+        assertThat(cluster.getMemoryId()).isEqualTo(22L);
+        assertThat(cluster.getLatitude()).isCloseTo(33.4997, within(1e-9));
+
+        index.remove(22);
+        assertThat(index.clusters(0, 0, 0)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void putMovesExistingPoint() {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.put(1, 37.5665, 126.9780);
+        index.put(1, -33.8688, 151.2093);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.clusters(1, 1, 0)).isEmpty();
+        assertThat(memoryIds(index.clusters(1, 1, 1))).containsExactly(1L);
+    }
+
+    private static MarkerClusterIndex.Cluster single(MarkerClusterIndex index) {
+        List<MarkerClusterIndex.Cluster> clusters = index.clusters(0, 0, 0);
+        assertThat(clusters).hasSize(1);
+        return clusters.get(0);
+    }
+
+    private static List<Long> memoryIds(List<MarkerClusterIndex.Cluster> clusters) {
+        return clusters.stream().map(MarkerClusterIndex.Cluster::getMemoryId).toList();
+    }
+
+    // 표준 슬리피 맵 타일 번호
+    private static int tileX(double longitude, int zoom) {
+        return (int) Math.floor((longitude + 180.0) / 360.0 * (1 << zoom));
+    }
+
+    private static int tileY(double latitude, int zoom) {
+        double rad = Math.toRadians(latitude);
+        return (int) Math.floor((1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * (1 << zoom));
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.ourtime.index;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagBitmapIndexTest {
+
+    private static final long TRAVEL = 1;
+    private static final long FOOD = 2;
+    private static final long FAMILY = 3;
+
+    @Test
+    void filterCombinesAllAnyAndNone() {
+        TagBitmapIndex index = new TagBitmapIndex();
+        index.put(1, List.of(TRAVEL, FOOD));
+        index.put(2, List.of(TRAVEL));
+        index.put(3, List.of(FOOD, FAMILY));
+        index.put(4, List.of());
+
+        assertThat(ids(index.filter(List.of(TRAVEL), List.of(), List.of()))).containsExactly(1L, 2L);
+        assertThat(ids(index.filter(List.of(TRAVEL, FOOD), List.of(), List.of()))).containsExactly(1L);
+        assertThat(ids(index.filter(List.of(), List.of(TRAVEL, FAMILY), List.of()))).containsExactly(1L, 2L, 3L);
+        // NOT만 있으면 그룹의 전체 추억이 기준 (태그 없는 추억 포함)
+        assertThat(ids(index.filter(List.of(), List.of(), List.of(FOOD)))).containsExactly(2L, 4L);
+        assertThat(ids(index.filter(List.of(), List.of(FOOD), List.of(FAMILY)))).containsExactly(1L);
+        // 없는 태그
+        assertThat(ids(index.filter(List.of(99L), List.of(), List.of()))).isEmpty();
+    }
+
+    @Test
+    void putReplacesTagsAndRemovalsClearBits() {
+        TagBitmapIndex index = new TagBitmapIndex();
+        index.put(1, List.of(TRAVEL, FOOD));
+        index.put(2, List.of(FOOD));
+
+        index.put(1, List.of(FAMILY));
+        assertThat(ids(index.filter(List.of(TRAVEL), List.of(), List.of()))).isEmpty();
+        assertThat(ids(index.filter(List.of(FAMILY), List.of(), List.of()))).containsExactly(1L);
+
+        index.removeTag(FOOD);
+        assertThat(ids(index.filter(List.of(FOOD), List.of(), List.of()))).isEmpty();
+        assertThat(ids(index.filter(List.of(), List.of(), List.of(FAMILY)))).containsExactly(2L);
+
+        index.remove(1);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ids(index.filter(List.of(FAMILY), List.of(), List.of()))).isEmpty();
+    }
+
+    @Test
+    void pagesWalkResultInDescendingIdOrder() {
+        Roaring64NavigableMap result = new Roaring64NavigableMap();
+        // 32비트를 넘는 ID와 듬성듬성한 ID 포함
+        long[] ids = LongStream.concat(LongStream.rangeClosed(1, 95).map(i -> i * 7),
+                LongStream.of(5_000_000_000L, 5_000_000_001L, 9_000_000_000L)).toArray();
+        for (long id : ids) {
+            result.addLong(id);
+        }
+        List<Long> expected = LongStream.of(ids).boxed().sorted((a, b) -> Long.compare(b, a)).toList();
+
+        List<Long> paged = new ArrayList<>();
+        Long beforeId = null;
+        while (true) {
+            List<Long> page = TagBitmapIndex.page(result, beforeId, 10);
+            if (page.isEmpty()) {
+                break;
+            }
+            assertThat(page).hasSizeLessThanOrEqualTo(10);
+            paged.addAll(page);
+            beforeId = page.get(page.size() - 1);
+        }
+
+        assertThat(paged).isEqualTo(expected);
+    }
+
+    @Test
+    void pageStartsBelowBeforeIdEvenWhenItIsNotInResult() {
+        Roaring64NavigableMap result = Roaring64NavigableMap.bitmapOf(10, 20, 30, 40);
+
+        // 커서의 추억이 그 사이에 삭제되었거나 조건에서 빠진 경우
+        assertThat(TagBitmapIndex.page(result, 35L, 2)).containsExactly(30L, 20L);
+        assertThat(TagBitmapIndex.page(result, 30L, 10)).containsExactly(20L, 10L);
+        assertThat(TagBitmapIndex.page(result, 1_000L, 1)).containsExactly(40L);
+        assertThat(TagBitmapIndex.page(result, 10L, 10)).isEmpty();
+        assertThat(TagBitmapIndex.page(result, 0L, 10)).isEmpty();
+        assertThat(TagBitmapIndex.page(new Roaring64NavigableMap(), null, 10)).isEmpty();
+    }
+
+    private static Set<Long> ids(Roaring64NavigableMap bitmap) {
+        Set<Long> ids = new TreeSet<>();
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.ourtime.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextSearchIndexTest {
+
+    @Test
+    void searchMatchesKoreanSubstringsAcrossFields() {
+        TextSearchIndex index = new TextSearchIndex();
+        index.putMemory(1, "제주도 여행", "바다 최고", "제주도", Map.of());
+        index.putMemory(2, "부산", "제주 가고 싶다", null, Map.of());
+        index.putMemory(3, "서울", null, null, Map.of(10L, "제주는 다음에"));
+
+        // 조사가 붙은 단어도 2-gram으로 찾음
+        assertThat(ids(index.search("제주"))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        // 한 글자 검색은 1-gram
+        assertThat(ids(index.search("바"))).containsExactly(1L);
+        // 모든 n-gram을 포함해야 함
+        assertThat(index.search("바다 서울")).isEmpty();
+        assertThat(index.search("없는말")).isEmpty();
+    }
+
+    @Test
+    void titleAndLocationMatchesScoreHigherThanDescription() {
+        TextSearchIndex index = new TextSearchIndex();
+        index.putMemory(1, "강릉", null, null, Map.of());
+        index.putMemory(2, "여행", "강릉", null, Map.of());
+        index.putMemory(3, "여행", null, "강릉", Map.of());
+        index.putMemory(4, "여행", null, null, Map.of());
+
+        // 제목(3) > 장소명(2) > 설명(1)
+        assertThat(ids(index.search("강릉"))).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void sameScoreIsOrderedByIdDescending() {
+        TextSearchIndex index = new TextSearchIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.putMemory(id, "바다", null, null, Map.of());
+        }
+
+        assertThat(ids(index.search("바다"))).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void commentsAndRemovalsAreReindexed() {
+        TextSearchIndex index = new TextSearchIndex();
+        index.putMemory(1, "서울", null, null, Map.of());
+        index.putComment(1, 10, "경포대 일출");
+        index.putComment(99, 11, "경포대"); // 색인되지 않은 추억의 댓글은 무시
+
+        assertThat(ids(index.search("경포대"))).containsExactly(1L);
+
+        index.removeComment(1, 10);
+        assertThat(index.search("경포대")).isEmpty();
+
+        index.removeMemory(1);
+        assertThat(index.search("서울")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void pagingWithFixedRankingReturnsEveryResultOnce() {
+        TextSearchIndex index = new TextSearchIndex();
+        for (long id = 1; id <= 25; id++) {
+            index.putMemory(id, "강릉 여행 " + id, id % 3 == 0 ? "강릉 바다" : null, null, Map.of());
+        }
+        List<Long> expected = ids(index.search("강릉"));
+
+        TextSearchIndex.Ranking ranking = index.ranking("강릉");
+        List<Long> paged = new ArrayList<>();
+        TextSearchIndex.Hit after = null;
+        while (true) {
+            List<TextSearchIndex.Hit> page = index.search("강릉", ranking, after, 10);
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.addAll(ids(page));
+            after = page.get(page.size() - 1);
+            // 페이지 사이에 추억이 추가되어도 기준이 같으므로 기존 결과의 순서가 바뀌지 않음
+            index.putMemory(100 + paged.size(), "강릉 강릉 강릉", null, null, Map.of());
+        }
+
+        assertThat(paged).isEqualTo(expected);
+    }
+
+    @Test
+    void rankingOfDifferentQueryIsRejected() {
+        TextSearchIndex index = new TextSearchIndex();
+        index.putMemory(1, "강릉 여행", null, null, Map.of());
+        TextSearchIndex.Ranking ranking = index.ranking("강릉");
+
+        assertThat(ranking.isFor("강릉")).isTrue();
+        assertThat(ranking.isFor("강릉 여행")).isFalse();
+        assertThat(index.search("강릉 여행", ranking, null, 10)).isEmpty();
+    }
+
+    @Test
+    void unsearchableQueryHasNoGrams() {
+        assertThat(TextSearchIndex.isSearchable("!!! ...")).isFalse();
+        assertThat(TextSearchIndex.isSearchable("ＡＢＣ")).isTrue();
+    }
+
+    private static List<Long> ids(List<TextSearchIndex.Hit> hits) {
+        return hits.stream().map(TextSearchIndex.Hit::getMemoryId).collect(Collectors.toList());
+    }
+
+}
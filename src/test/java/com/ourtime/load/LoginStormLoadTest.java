@@ -0,0 +1,216 @@
+package com.ourtime.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ourtime.domain.User;
+import com.ourtime.dto.group.CreateGroupRequest;
+import com.ourtime.dto.memory.CreateMemoryRequest;
+import com.ourtime.repository.UserRepository;
+import com.ourtime.service.GroupService;
+import com.ourtime.service.MemoryCreationService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주 중 피드 응답 시간 부하 테스트 (./gradlew loadTest)
+ * <p>
+ * 요청 처리 스레드 수보다 많은 동시 로그인을 계속 보내는 동안 피드 조회의 p95 응답 시간이
+ * 평상시 p95의 일정 배수 이내인지 확인합니다. 비밀번호 해시는 전용 워커 풀에서만 계산되고
+ * 넘치는 로그인은 429로 바로 거절되므로, 피드 요청이 처리 스레드를 기다리지 않아야 합니다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.ourtime=info") // 요청별 debug 로그가 측정을 좌우하지 않도록
+@ActiveProfiles("test")
+class LoginStormLoadTest {
+
+    private static final String EMAIL = "storm@ourtime.com";
+    private static final String PASSWORD = "password1234";
+    // 해시를 기다릴 수 있는 요청 수 (PasswordHasher의 워커 수 + 대기열 크기)
+    private static final int HASH_CAPACITY = Math.max(1, Runtime.getRuntime().availableProcessors() - 1) * 9;
+    // 요청 처리 스레드를 해시 대기 한도보다 조금 많게 줄여 적은 클라이언트로도 스레드 수를 넘기는 폭주를 만듦
+    // (기본 200 스레드를 넘기려고 수백 개의 클라이언트 스레드를 띄우면 부하 발생기 자체가 같은 머신의 CPU를 차지함)
+    private static final int REQUEST_THREADS = HASH_CAPACITY + 20;
+    private static final int STORM_CLIENTS = REQUEST_THREADS * 2;
+    private static final int FEED_SAMPLES = 100;
+    private static final long RETRY_AFTER_MILLIS = 1000;
+    // 폭주 중 p95는 평상시 p95의 이 배수 이하여야 함 (부하 발생기와 해시 워커가 같은 머신의 CPU를 나눠 쓰는 만큼의 여유)
+    private static final long FEED_P95_MAX_RATIO = 5;
+    // 평상시 p95가 수 ms면 밀리초 단위 오차가 배수를 좌우하므로 이 값 이상으로 보고 배수 적용
+    private static final long FEED_P95_BASELINE_FLOOR_MILLIS = 20;
+    // 배수와 무관한 절대 상한 (해시 격리 전에는 커넥션 풀/요청 스레드 고갈로 피드 요청이 30초 타임아웃으로 실패)
+    private static final long FEED_P95_LIMIT_MILLIS = 5000;
+
+    private static final Logger log = LoggerFactory.getLogger(LoginStormLoadTest.class);
+
+    @DynamicPropertySource
+    static void requestThreads(DynamicPropertyRegistry registry) {
+        registry.add("server.tomcat.threads.max", () -> REQUEST_THREADS);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private MemoryCreationService memoryCreationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 로그인 폭주와 피드 조회가 클라이언트 쪽 연결/스레드를 공유하지 않도록 분리
+    private final HttpClient stormClient = newClient();
+    private final HttpClient feedClient = newClient();
+
+    @Test
+    void feedLatencyStaysStableDuringLoginStorm() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .nickname("storm")
+                .build());
+        Long groupId = groupService.createGroup(user.getId(),
+                objectMapper.readValue("{\"name\":\"부하 테스트\",\"type\":\"ETC\"}", CreateGroupRequest.class)).getId();
+        for (int i = 0; i < 30; i++) {
+            memoryCreationService.createMemory(user.getId(), new CreateMemoryRequest(groupId, "추억 " + i, null,
+                    37.5, 127.0, "서울", "2024-05-0" + (i % 9 + 1), null, null));
+        }
+        String accessToken = login().path("data").path("accessToken").asText();
+
+        // 평상시 피드 응답 시간 (워밍업 후 측정)
+        measureFeed(accessToken, 20);
+        List<Long> baseline = measureFeed(accessToken, FEED_SAMPLES);
+
+        // 로그인 폭주
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService storm = Executors.newFixedThreadPool(STORM_CLIENTS);
+        for (int i = 0; i < STORM_CLIENTS; i++) {
+            storm.execute(() -> {
+                while (running.get()) {
+                    try {
+                        int status = loginStatus();
+                        if (status == 200) {
+                            succeeded.incrementAndGet();
+                        } else if (status == 429) {
+                            rejected.incrementAndGet();
+                            Thread.sleep(RETRY_AFTER_MILLIS); // Retry-After 준수
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        List<Long> duringStorm;
+        try {
+            Thread.sleep(1000);
+            duringStorm = measureFeed(accessToken, FEED_SAMPLES);
+        } finally {
+            running.set(false);
+            storm.shutdown();
+            storm.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        long baselineP95 = percentile(baseline, 95);
+        long stormP95 = percentile(duringStorm, 95);
+        log.info("feed p50/p95 평상시 {}/{}ms, 로그인 폭주 중 {}/{}ms (로그인 성공 {}, 429 {}, 실패 {})",
+                percentile(baseline, 50), baselineP95, percentile(duringStorm, 50), stormP95,
+                succeeded.get(), rejected.get(), failed.get());
+
+        assertThat(succeeded.get()).isPositive();
+        assertThat(failed.get()).isZero();
+        assertThat(stormP95)
+                .as("로그인 폭주 중 피드 p95 (평상시 p95 %dms)", baselineP95)
+                .isLessThanOrEqualTo(Math.max(baselineP95, FEED_P95_BASELINE_FLOOR_MILLIS) * FEED_P95_MAX_RATIO)
+                .isLessThanOrEqualTo(FEED_P95_LIMIT_MILLIS);
+    }
+
+    private List<Long> measureFeed(String accessToken, int samples) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/memories/feed?size=20"))
+                .header("Authorization", "Bearer " + accessToken)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = feedClient.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        return latencies;
+    }
+
+    private JsonNode login() throws Exception {
+        HttpResponse<String> response = feedClient.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private int loginStatus() throws Exception {
+        return stormClient.send(loginRequest(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest loginRequest() {
+        String body = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.ourtime.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenFamiliesTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void revokedFamiliesAreFoundAndOthersAreNot() {
+        RevokedTokenFamilies families = new RevokedTokenFamilies();
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String familyId = UUID.randomUUID().toString();
+            families.revoke(familyId, NOW + 60_000);
+            revoked.add(familyId);
+        }
+
+        assertThat(revoked).allMatch(families::isRevoked);
+        // 블룸 필터가 "있을 수도 있음"이라고 해도 정확한 집합으로 확인하므로 오탐 없음
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(families.isRevoked(UUID.randomUUID().toString())).isFalse();
+        }
+    }
+
+    @Test
+    void sameHashCodeDoesNotCauseFalsePositive() {
+        RevokedTokenFamilies families = new RevokedTokenFamilies();
+        // "Aa"와 "BB"는 String.hashCode가 같아 블룸 필터 비트도 같음
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        families.revoke("Aa", NOW + 60_000);
+
+        assertThat(families.isRevoked("Aa")).isTrue();
+        assertThat(families.isRevoked("BB")).isFalse();
+    }
+
+    @Test
+    void purgeExpiredKeepsLatestExpiryOfEachFamily() {
+        RevokedTokenFamilies families = new RevokedTokenFamilies();
+        families.revoke("expired", NOW - 1);
+        families.revoke("live", NOW + 60_000);
+        // 같은 패밀리를 다시 폐기하면 더 늦은 만료 시각을 유지
+        families.revoke("extended", NOW + 60_000);
+        families.revoke("extended", NOW - 1);
+
+        assertThat(families.purgeExpired(NOW)).isEqualTo(1);
+
+        assertThat(families.size()).isEqualTo(2);
+        assertThat(families.isRevoked("expired")).isFalse();
+        assertThat(families.isRevoked("live")).isTrue();
+        assertThat(families.isRevoked("extended")).isTrue();
+
+        assertThat(families.purgeExpired(NOW + 60_000)).isEqualTo(2);
+        assertThat(families.isRevoked("live")).isFalse();
+        assertThat(families.size()).isZero();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.Group;
+import com.ourtime.domain.GroupType;
+import com.ourtime.domain.User;
+import com.ourtime.domain.UserGroup;
+import com.ourtime.domain.UserGroupRole;
+import com.ourtime.dto.comment.CreateCommentRequest;
+import com.ourtime.dto.memory.CreateMemoryRequest;
+import com.ourtime.dto.statistics.GroupStatisticsResponse;
+import com.ourtime.dto.statistics.UserStatisticsResponse;
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.UserGroupRepository;
+import com.ourtime.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemoryStatisticsServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+
+    @Autowired
+    private MemoryCreationService memoryCreationService;
+
+    @Autowired
+    private MemoryService memoryService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private MemoryStatisticsService memoryStatisticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void memoryCommentAndLikeWritesUpdateStatistics() {
+        // 추억/댓글/좋아요 쓰기가 같은 트랜잭션의 집계 UPSERT와 함께 커밋되는지 확인 (test 프로필 데이터소스)
+        User author = saveUser("stats-author@ourtime.com", "author");
+        User member = saveUser("stats-member@ourtime.com", "member");
+        Group group = groupRepository.save(Group.builder()
+                .name("stats").type(GroupType.ETC).createdBy(author.getId()).build());
+        userGroupRepository.save(UserGroup.builder().user(author).group(group).role(UserGroupRole.ADMIN).build());
+        userGroupRepository.save(UserGroup.builder().user(member).group(group).role(UserGroupRole.MEMBER).build());
+
+        Long memoryId = createMemory(author, group, "제주도");
+        createMemory(author, group, "서울");
+        Long commentId = commentService.createComment(memoryId, member.getId(), comment("좋아요")).getId();
+        likeService.toggleLike(memoryId, member.getId());
+
+        GroupStatisticsResponse groupStatistics = memoryStatisticsService.getGroupStatistics(group.getId(), author.getId());
+        assertThat(groupStatistics.getMemoryCount()).isEqualTo(2);
+        assertThat(groupStatistics.getCommentCount()).isEqualTo(1);
+        assertThat(groupStatistics.getLikeCount()).isEqualTo(1);
+        assertThat(groupStatistics.getPlaceCount()).isEqualTo(2);
+
+        commentService.deleteComment(commentId, member.getId());
+        likeService.toggleLike(memoryId, member.getId());
+
+        UserStatisticsResponse memberStatistics = memoryStatisticsService.getUserStatistics(member.getId());
+        assertThat(memberStatistics.getCommentCount()).isZero();
+        assertThat(memberStatistics.getLikeCount()).isZero();
+    }
+
+    @Test
+    void deleteWithMissingCountRowDoesNotFail() {
+        // 집계 행이 이미 사라진 상태에서도 삭제는 성공하고, 집계는 rebuild에서 보정됨
+        User author = saveUser("stats-missing@ourtime.com", "missing");
+        Group group = groupRepository.save(Group.builder()
+                .name("stats-missing").type(GroupType.ETC).createdBy(author.getId()).build());
+        userGroupRepository.save(UserGroup.builder().user(author).group(group).role(UserGroupRole.ADMIN).build());
+
+        Long memoryId = createMemory(author, group, "부산");
+        jdbcTemplate.update("DELETE FROM statistic_counts WHERE scope = 'USER' AND scope_id = ?", author.getId());
+
+        memoryService.deleteMemory(memoryId, author.getId());
+
+        assertThat(memoryStatisticsService.getUserStatistics(author.getId()).getMemoryCount()).isZero();
+        assertThat(memoryStatisticsService.getGroupStatistics(group.getId(), author.getId()).getMemoryCount()).isZero();
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(User.builder().email(email).password("x").nickname(nickname).build());
+    }
+
+    private Long createMemory(User user, Group group, String locationName) {
+        CreateMemoryRequest request = new CreateMemoryRequest(
+                group.getId(), "추억", null, 37.5, 127.0, locationName, "2024-05-01", "[\"여행\"]", null);
+        return memoryCreationService.createMemory(user.getId(), request).getId();
+    }
+
+    private static CreateCommentRequest comment(String content) {
+        CreateCommentRequest request = new CreateCommentRequest();
+        ReflectionTestUtils.setField(request, "content", content);
+        return request;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.ourtime.service;
+
+import com.ourtime.domain.Group;
+import com.ourtime.domain.GroupType;
+import com.ourtime.domain.User;
+import com.ourtime.domain.UserGroup;
+import com.ourtime.domain.UserGroupRole;
+import com.ourtime.dto.memory.CreateMemoryRequest;
+import com.ourtime.dto.memory.TimelineBucketResponse;
+import com.ourtime.dto.memory.TimelineUnit;
+import com.ourtime.repository.GroupRepository;
+import com.ourtime.repository.UserGroupRepository;
+import com.ourtime.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemoryTimelineServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+
+    @Autowired
+    private MemoryCreationService memoryCreationService;
+
+    @Autowired
+    private MemoryService memoryService;
+
+    @Autowired
+    private MemoryTimelineService memoryTimelineService;
+
+    @Test
+    void createAndDeleteMemoryUpdatesTimeline() {
+        // 추억 생성/삭제가 같은 트랜잭션의 집계 UPSERT와 함께 커밋되는지 확인 (test 프로필 데이터소스)
+        User user = userRepository.save(User.builder()
+                .email("timeline-test@ourtime.com").password("x").nickname("timeline").build());
+        Group group = groupRepository.save(Group.builder()
+                .name("timeline").type(GroupType.ETC).createdBy(user.getId()).build());
+        userGroupRepository.save(UserGroup.builder().user(user).group(group).role(UserGroupRole.ADMIN).build());
+
+        Long first = createMemory(user, group, "2020-01-05");
+        createMemory(user, group, "2020-01-05");
+        createMemory(user, group, "2021-03-01");
+
+        assertThat(buckets(memoryTimelineService.getGroupTimeline(group.getId(), user.getId(), TimelineUnit.DAY, null, null)))
+                .containsExactly("2020-01-05=2", "2021-03-01=1");
+        assertThat(buckets(memoryTimelineService.getUserTimeline(user.getId(), TimelineUnit.YEAR, null, null)))
+                .containsExactly("2020=2", "2021=1");
+
+        memoryService.deleteMemory(first, user.getId());
+
+        assertThat(buckets(memoryTimelineService.getGroupTimeline(group.getId(), user.getId(), TimelineUnit.MONTH, null, null)))
+                .containsExactly("2020-01=1", "2021-03=1");
+    }
+
+    private Long createMemory(User user, Group group, String visitedAt) {
+        CreateMemoryRequest request = new CreateMemoryRequest(
+                group.getId(), "추억", null, 37.5, 127.0, null, visitedAt, "[\"여행\"]", null);
+        return memoryCreationService.createMemory(user.getId(), request).getId();
+    }
+
+    private static List<String> buckets(List<TimelineBucketResponse> timeline) {
+        return timeline.stream()
+                .map(bucket -> bucket.getBucket() + "=" + bucket.getCount())
+                .collect(Collectors.toList());
+    }
+
+}
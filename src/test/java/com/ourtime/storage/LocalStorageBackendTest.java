@@ -0,0 +1,172 @@
+package com.ourtime.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageBackendTest {
+
+    private static final String BASE_URL = "http://localhost:8080/files";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void keysAreShardedByFileNameAndListedWithoutShard() {
+        LocalStorageBackend backend = backend("secret");
+        backend.putObject("memories/1/abc.jpg", bytes("a"), 1, "image/jpeg", null);
+        backend.putObject("memories/1/def.png", bytes("bb"), 2, "image/png", null);
+        backend.putObject("memories/2/abc.jpg", bytes("ccc"), 3, "image/jpeg", null);
+
+        String shard = String.format("%02x", "abc.jpg".hashCode() & 0xff);
+        assertThat(backend.resolve("memories/1/abc.jpg"))
+                .isEqualTo(root.resolve("memories/1").resolve(shard).resolve("abc.jpg"))
+                .isRegularFile();
+
+        assertThat(listKeys(backend, "memories/1/")).containsExactlyInAnyOrder("memories/1/abc.jpg", "memories/1/def.png");
+        assertThat(listKeys(backend, "memories/")).hasSize(3);
+        assertThat(listKeys(backend, "memories/1/d")).containsExactly("memories/1/def.png");
+
+        StorageBackend.StoredObject head = backend.headObject("memories/1/def.png");
+        assertThat(head.getSize()).isEqualTo(2);
+        assertThat(head.getContentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    void keysOutsideTheStorageAreRejected() {
+        LocalStorageBackend backend = backend("secret");
+
+        for (String key : List.of("", "../etc/passwd", "memories/../x.jpg", ".tmp/x", "memories//x.jpg", "a\\b.jpg")) {
+            assertThatThrownBy(() -> backend.resolve(key)).as(key).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(backend.keyOf(BASE_URL + "/memories/1/a.jpg")).isEqualTo("memories/1/a.jpg");
+        assertThat(backend.keyOf("https://other.example.com/memories/1/a.jpg")).isNull();
+    }
+
+    @Test
+    void writesAreRenamedIntoPlaceOnlyWhenComplete() throws IOException {
+        LocalStorageBackend backend = backend("secret");
+        backend.putObject("groups/1/a.jpg", bytes("old"), 3, "image/jpeg", null);
+
+        // 선언한 크기보다 길거나 짧은 본문은 쓰지 않고 기존 파일도 그대로
+        assertThat(backend.putObject("groups/1/a.jpg", new ByteArrayInputStream(bytes("longer")), 3)).isFalse();
+        assertThat(backend.putObject("groups/1/a.jpg", new ByteArrayInputStream(bytes("ne")), 3)).isFalse();
+        assertThat(read(backend, "groups/1/a.jpg")).isEqualTo("old");
+
+        assertThat(backend.putObject("groups/1/a.jpg", new ByteArrayInputStream(bytes("new")), 3)).isTrue();
+        assertThat(read(backend, "groups/1/a.jpg")).isEqualTo("new");
+
+        backend.copyObject("groups/1/a.jpg", "groups/1/b.jpg");
+        assertThat(read(backend, "groups/1/b.jpg")).isEqualTo("new");
+
+        // 임시 파일이 남지 않음
+        try (Stream<Path> tmp = Files.list(root.resolve(".tmp"))) {
+            assertThat(tmp).isEmpty();
+        }
+
+        backend.deleteObject("groups/1/a.jpg");
+        assertThatThrownBy(() -> backend.headObject("groups/1/a.jpg")).isInstanceOf(ObjectNotFoundException.class);
+    }
+
+    @Test
+    void multipartUploadIsConcatenatedOnCompleteAndRemovedOnAbort() throws IOException {
+        LocalStorageBackend backend = backend("secret");
+
+        String uploadId = backend.createMultipartUpload("staging/a", "image/jpeg");
+        List<String> eTags = new ArrayList<>();
+        eTags.add(backend.uploadPart("staging/a", uploadId, 1, bytes("hello "), 6));
+        eTags.add(backend.uploadPart("staging/a", uploadId, 2, bytes("world!!"), 5));
+        assertThat(backend.listMultipartUploads("staging/"))
+                .extracting(StorageBackend.PendingUpload::getUploadId)
+                .containsExactly(uploadId);
+
+        backend.completeMultipartUpload("staging/a", uploadId, eTags);
+        assertThat(read(backend, "staging/a")).isEqualTo("hello world");
+        assertThat(backend.listMultipartUploads("")).isEmpty();
+
+        String aborted = backend.createMultipartUpload("staging/b", "image/jpeg");
+        backend.uploadPart("staging/b", aborted, 1, bytes("x"), 1);
+        backend.abortMultipartUpload("staging/b", aborted);
+        assertThat(backend.listMultipartUploads("")).isEmpty();
+        assertThatThrownBy(() -> backend.completeMultipartUpload("staging/b", aborted, List.of("e")))
+                .isInstanceOf(ObjectNotFoundException.class);
+        assertThatThrownBy(() -> backend.headObject("staging/b")).isInstanceOf(ObjectNotFoundException.class);
+    }
+
+    @Test
+    void presignedUrlIsBoundToKeyTypeLengthAndExpiry() {
+        LocalStorageBackend backend = backend("secret");
+
+        StorageBackend.PresignedUpload presigned = backend.presignPutObject(
+                "memories/1/a.jpg", "image/jpeg", 1024, Duration.ofMinutes(10));
+        Map<String, String> query = query(presigned.getUrl());
+        long expires = Long.parseLong(query.get("expires"));
+        String signature = query.get("signature");
+
+        assertThat(presigned.getUrl()).startsWith(BASE_URL + "/memories/1/a.jpg?");
+        assertThat(presigned.getHeaders()).containsEntry("content-type", "image/jpeg").containsEntry("content-length", "1024");
+        assertThat(backend.verifyPresigned("memories/1/a.jpg", "image/jpeg", 1024, expires, signature)).isTrue();
+
+        assertThat(backend.verifyPresigned("memories/2/a.jpg", "image/jpeg", 1024, expires, signature)).isFalse();
+        assertThat(backend.verifyPresigned("memories/1/a.jpg", "image/png", 1024, expires, signature)).isFalse();
+        assertThat(backend.verifyPresigned("memories/1/a.jpg", "image/jpeg", 1025, expires, signature)).isFalse();
+        assertThat(backend.verifyPresigned("memories/1/a.jpg", "image/jpeg", 1024, expires + 1, signature)).isFalse();
+        assertThat(backend.verifyPresigned("memories/1/a.jpg", "image/jpeg", 1024, expires, null)).isFalse();
+        // 다른 키로 서명한 저장소는 받지 않음
+        assertThat(backend("other").verifyPresigned("memories/1/a.jpg", "image/jpeg", 1024, expires, signature)).isFalse();
+
+        StorageBackend.PresignedUpload expired = backend.presignPutObject(
+                "memories/1/a.jpg", "image/jpeg", 1024, Duration.ofSeconds(-1));
+        Map<String, String> expiredQuery = query(expired.getUrl());
+        assertThat(expired.getExpiration()).isBefore(Instant.now());
+        assertThat(backend.verifyPresigned("memories/1/a.jpg", "image/jpeg", 1024,
+                Long.parseLong(expiredQuery.get("expires")), expiredQuery.get("signature"))).isFalse();
+    }
+
+    private LocalStorageBackend backend(String signingKey) {
+        return new LocalStorageBackend(root, BASE_URL + "/", false, signingKey);
+    }
+
+    private static List<String> listKeys(LocalStorageBackend backend, String prefix) {
+        List<String> keys = new ArrayList<>();
+        backend.listObjects(prefix, 2, page -> {
+            page.forEach(object -> keys.add(object.getKey()));
+            return true;
+        });
+        return keys;
+    }
+
+    private static String read(LocalStorageBackend backend, String key) throws IOException {
+        try (InputStream in = backend.getObject(key)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, String> query(String url) {
+        return Stream.of(URI.create(url).getRawQuery().split("&"))
+                .map(pair -> pair.split("=", 2))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> pair[1]));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.ourtime.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoCellTest {
+
+    private static final long MAX_CELL = (1L << (2 * GeoCell.MAX_LEVEL)) - 1;
+
+    @Test
+    void encodeInterleavesLongitudeAndLatitudeBits() {
+        assertThat(GeoCell.encode(-90.0, -180.0)).isZero();
+        assertThat(GeoCell.encode(90.0, 180.0)).isEqualTo(MAX_CELL);
+        // 최상위 두 비트: 경도가 동반구이면 x=1 (짝수 비트), 위도가 북반구이면 y=1 (홀수 비트)
+        int shift = 2 * GeoCell.MAX_LEVEL - 2;
+        assertThat(GeoCell.encode(-45.0, 90.0) >>> shift).isEqualTo(1L);
+        assertThat(GeoCell.encode(45.0, -90.0) >>> shift).isEqualTo(2L);
+        assertThat(GeoCell.encode(45.0, 90.0) >>> shift).isEqualTo(3L);
+    }
+
+    @Test
+    void wholeWorldIsOneRange() {
+        List<GeoCell.Range> ranges = GeoCell.cover(-90.0, 90.0, -180.0, 180.0);
+
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).getFrom()).isZero();
+        assertThat(ranges.get(0).getTo()).isEqualTo(MAX_CELL);
+    }
+
+    @Test
+    void coverContainsEveryPointInsideTheBox() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            double latSpan = Math.pow(10, -4 + random.nextDouble() * 6);  // 약 10m ~ 100°
+            double lngSpan = Math.pow(10, -4 + random.nextDouble() * 6);
+            double minLat = -90.0 + random.nextDouble() * Math.max(0, 180.0 - latSpan);
+            double minLng = -180.0 + random.nextDouble() * Math.max(0, 360.0 - lngSpan);
+            double maxLat = Math.min(90.0, minLat + latSpan);
+            double maxLng = Math.min(180.0, minLng + lngSpan);
+
+            List<GeoCell.Range> ranges = GeoCell.cover(minLat, maxLat, minLng, maxLng);
+            assertSortedAndDisjoint(ranges);
+
+            double[][] points = {
+                    {minLat, minLng}, {minLat, maxLng}, {maxLat, minLng}, {maxLat, maxLng},
+                    {minLat + random.nextDouble() * (maxLat - minLat), minLng + random.nextDouble() * (maxLng - minLng)}
+            };
+            for (double[] point : points) {
+                assertThat(contains(ranges, GeoCell.encode(point[0], point[1])))
+                        .as("box [%s, %s] x [%s, %s], point %s, %s", minLat, maxLat, minLng, maxLng, point[0], point[1])
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    void smallBoxExcludesDistantPoints() {
+        // 서울 시청 주변 약 1km
+        List<GeoCell.Range> ranges = GeoCell.cover(37.56, 37.57, 126.97, 126.98);
+
+        assertThat(contains(ranges, GeoCell.encode(37.5665, 126.9780))).isTrue();
+        assertThat(contains(ranges, GeoCell.encode(35.1796, 129.0756))).isFalse(); // 부산
+        assertThat(contains(ranges, GeoCell.encode(37.60, 126.975))).isFalse();    // 약 4km 북쪽
+        // 상자보다 크거나 같은 셀 최대 2x2개만 쓰므로 덮는 면적이 상자의 16배를 넘지 않음
+        long covered = ranges.stream().mapToLong(range -> range.getTo() - range.getFrom() + 1).sum();
+        double cellsPerSquareDegree = (double) (MAX_CELL + 1) / (180.0 * 360.0);
+        assertThat((double) covered).isLessThanOrEqualTo(16 * 0.01 * 0.01 * cellsPerSquareDegree);
+    }
+
+    @Test
+    void singlePointBoxCoversItsCell() {
+        long cell = GeoCell.encode(33.4996, 126.5312);
+
+        List<GeoCell.Range> ranges = GeoCell.cover(33.4996, 33.4996, 126.5312, 126.5312);
+
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).getFrom()).isEqualTo(cell);
+        assertThat(ranges.get(0).getTo()).isEqualTo(cell);
+    }
+
+    private static void assertSortedAndDisjoint(List<GeoCell.Range> ranges) {
+        assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(GeoCell.MAX_COVER_RANGES);
+        for (int i = 0; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).getFrom()).isLessThanOrEqualTo(ranges.get(i).getTo());
+            if (i > 0) {
+                // 인접 구간은 병합되어 있어야 함
+                assertThat(ranges.get(i).getFrom()).isGreaterThan(ranges.get(i - 1).getTo() + 1);
+            }
+        }
+    }
+
+    private static boolean contains(List<GeoCell.Range> ranges, long cell) {
+        return ranges.stream().anyMatch(range -> range.getFrom() <= cell && cell <= range.getTo());
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.ourtime.util;
+
+import com.ourtime.exception.BusinessException;
+import com.ourtime.exception.ErrorCode;
+import com.ourtime.index.TextSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void encodeAndDecodeKeepExactScoreAndRanking() {
+        double score = Math.log(1.0 + 7.0 / 3) * 3 + Math.log(1.0 + 7.0 / 5);
+        TextSearchIndex.Ranking ranking = new TextSearchIndex.Ranking(7, new int[]{3, 5});
+
+        SearchCursor decoded = SearchCursor.decode(SearchCursor.of(new TextSearchIndex.Hit(42L, score), ranking).encode());
+
+        // 다음 페이지에서 같은 점수와 정확히 비교되어야 함
+        assertThat(decoded.getScore()).isEqualTo(score);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getRanking().getTotal()).isEqualTo(7);
+        assertThat(decoded.getRanking().getFrequencies()).containsExactly(3, 5);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertInvalid("not-base64!");
+        assertInvalid(encode("1.0|42"));
+        assertInvalid(encode("1.0|42|7|"));
+        assertInvalid(encode("NaN|42|7|3"));
+        assertInvalid(encode("1.0|42|-1|3"));
+        assertInvalid(encode("1.0|42|7|3,x"));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> SearchCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}